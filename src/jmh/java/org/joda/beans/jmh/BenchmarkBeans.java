@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.jmh;
+
+import java.util.Currency;
+
+import org.joda.beans.Bean;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.LightImmutable;
+import org.joda.beans.sample.MinimalImmutable;
+import org.joda.beans.ser.SerTestHelper;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultiset;
+
+/**
+ * The sample beans used by the benchmarks.
+ * <p>
+ * Each constant creates a representative instance of one of the test sample beans.
+ */
+enum BenchmarkBeans {
+
+    /** A generated immutable bean. */
+    IMM_PERSON {
+        @Override
+        Bean create() {
+            return person();
+        }
+    },
+    /** A generated immutable bean containing Guava collections. */
+    IMM_GUAVA {
+        @Override
+        Bean create() {
+            return SerTestHelper.testCollections();
+        }
+    },
+    /** A generated immutable bean forming a tree. */
+    IMM_TREE_NODE {
+        @Override
+        Bean create() {
+            return SerTestHelper.testTree();
+        }
+    },
+    /** A light immutable bean. */
+    LIGHT_IMMUTABLE {
+        @Override
+        Bean create() {
+            return LightImmutable.meta().builder()
+                    .set("number", 12)
+                    .set("flag", true)
+                    .set("street", "Park Lane")
+                    .set("town", "Mayfair")
+                    .set("city", "London")
+                    .set("owner", person())
+                    .set("list", ImmutableList.of("A", "B", "C"))
+                    .set("currency", Currency.getInstance("GBP"))
+                    .set("hiddenText", "Secret")
+                    .build();
+        }
+    },
+    /** A minimal immutable bean. */
+    MINIMAL_IMMUTABLE {
+        @Override
+        Bean create() {
+            return MinimalImmutable.meta().builder()
+                    .set("number", 12)
+                    .set("flag", true)
+                    .set("street", "Park Lane")
+                    .set("town", "Mayfair")
+                    .set("city", "London")
+                    .set("owner", person())
+                    .set("list", ImmutableList.of("A", "B", "C"))
+                    .set("currency", Currency.getInstance("GBP"))
+                    .build();
+        }
+    },
+    /** A flexible bean. */
+    FLEXI_BEAN {
+        @Override
+        Bean create() {
+            FlexiBean bean = new FlexiBean();
+            bean.set("number", 12);
+            bean.set("flag", true);
+            bean.set("street", "Park Lane");
+            bean.set("city", "London");
+            bean.set("amount", 123.45d);
+            bean.set("count", 6789L);
+            return bean;
+        }
+    };
+
+    // creates the bean
+    abstract Bean create();
+
+    // creates a person
+    private static ImmPerson person() {
+        return ImmPerson.builder()
+                .forename("Etienne")
+                .middleNames("K", "T")
+                .surname("Colebourne")
+                .numberOfCars(2)
+                .codeCounts(ImmutableMultiset.of("A", "A", "B"))
+                .build();
+    }
+
+}
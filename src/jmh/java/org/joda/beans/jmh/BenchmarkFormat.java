@@ -0,0 +1,133 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.jmh;
+
+import java.util.Map;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * The serialization formats used by the benchmarks.
+ * <p>
+ * Each constant writes a bean to its serialized form and reads it back again.
+ */
+enum BenchmarkFormat {
+
+    /** The standard binary format. */
+    BIN {
+        @Override
+        Object write(Bean bean) {
+            return JodaBeanSer.COMPACT.binWriter().write(bean);
+        }
+
+        @Override
+        Bean read(Object data, Class<? extends Bean> type) {
+            return JodaBeanSer.COMPACT.binReader().read((byte[]) data, type);
+        }
+    },
+    /** The referencing binary format. */
+    BIN_REFERENCING {
+        @Override
+        boolean isSupported(Bean bean) {
+            return bean instanceof ImmutableBean;
+        }
+
+        @Override
+        Object write(Bean bean) {
+            return JodaBeanSer.COMPACT.binWriterReferencing().write(bean);
+        }
+
+        @Override
+        Bean read(Object data, Class<? extends Bean> type) {
+            return JodaBeanSer.COMPACT.binReader().read((byte[]) data, type);
+        }
+    },
+    /** The JSON format. */
+    JSON {
+        @Override
+        Object write(Bean bean) {
+            return JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        }
+
+        @Override
+        Bean read(Object data, Class<? extends Bean> type) {
+            return JodaBeanSer.COMPACT.jsonReader().read((String) data, type);
+        }
+    },
+    /** The simple JSON format. */
+    SIMPLE_JSON {
+        @Override
+        boolean isSupported(Bean bean) {
+            return (bean instanceof FlexiBean) == false;
+        }
+
+        @Override
+        Object write(Bean bean) {
+            return JodaBeanSer.COMPACT.simpleJsonWriter().write(bean);
+        }
+
+        @Override
+        Bean read(Object data, Class<? extends Bean> type) {
+            return JodaBeanSer.COMPACT.simpleJsonReader().read((String) data, type);
+        }
+    },
+    /** The XML format. */
+    XML {
+        @Override
+        Object write(Bean bean) {
+            return JodaBeanSer.COMPACT.xmlWriter().write(bean);
+        }
+
+        @Override
+        Bean read(Object data, Class<? extends Bean> type) {
+            return JodaBeanSer.COMPACT.xmlReader().read((String) data, type);
+        }
+    },
+    /** The simple map format. */
+    SIMPLE_MAP {
+        @Override
+        boolean isSupported(Bean bean) {
+            return (bean instanceof FlexiBean) == false;
+        }
+
+        @Override
+        Object write(Bean bean) {
+            return JodaBeanSer.COMPACT.simpleMapWriter().write(bean);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Bean read(Object data, Class<? extends Bean> type) {
+            return JodaBeanSer.COMPACT.simpleMapReader().read((Map<String, Object>) data, type);
+        }
+    };
+
+    // checks if the format can round-trip the bean
+    // the referencing format requires an immutable root, and the simple formats lose the types of a FlexiBean
+    boolean isSupported(Bean bean) {
+        return true;
+    }
+
+    // writes the bean
+    abstract Object write(Bean bean);
+
+    // reads the bean
+    abstract Bean read(Object data, Class<? extends Bean> type);
+
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.jmh;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.LightMutable;
+import org.joda.beans.sample.MinimalMutable;
+import org.joda.beans.sample.ReflectiveMutable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark property access via meta-properties.
+ * <p>
+ * Compares the direct, light, minimal and reflective meta-bean styles
+ * using equivalent mutable beans with an {@code int} number and a {@code String} street.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyAccessBenchmark {
+
+    /**
+     * The meta-bean style.
+     */
+    @Param({"direct", "light", "minimal", "reflective"})
+    private String style;
+
+    private Bean bean;
+    private MetaProperty<Object> number;
+    private MetaProperty<Object> street;
+    private Integer numberValue;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets up the bean and its meta-properties.
+     */
+    @Setup
+    public void setup() {
+        switch (style) {
+            case "direct":
+                bean = create(Address.meta());
+                break;
+            case "light":
+                bean = create(LightMutable.meta());
+                break;
+            case "minimal":
+                bean = create(MinimalMutable.meta());
+                break;
+            case "reflective":
+                bean = create(ReflectiveMutable.META_BEAN);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown style: " + style);
+        }
+        number = bean.metaBean().metaProperty("number");
+        street = bean.metaBean().metaProperty("street");
+        numberValue = 34;
+    }
+
+    // creates the bean, setting the properties common to all the mutable samples
+    private static Bean create(MetaBean metaBean) {
+        BeanBuilder<? extends Bean> builder = metaBean.builder()
+                .set("number", 12)
+                .set("street", "Park Lane")
+                .set("city", "London");
+        if (metaBean.metaPropertyExists("list")) {
+            builder.set("list", new ArrayList<String>());
+        }
+        return builder.build();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets an {@code int} property.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public Object getNumber() {
+        return number.get(bean);
+    }
+
+    /**
+     * Gets a {@code String} property.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public Object getStreet() {
+        return street.get(bean);
+    }
+
+    /**
+     * Sets an {@code int} property.
+     */
+    @Benchmark
+    public void setNumber() {
+        number.set(bean, numberValue);
+    }
+
+    /**
+     * Looks up a meta-property by name.
+     *
+     * @return the meta-property
+     */
+    @Benchmark
+    public MetaProperty<?> lookupMetaProperty() {
+        return bean.metaBean().metaProperty("street");
+    }
+
+}
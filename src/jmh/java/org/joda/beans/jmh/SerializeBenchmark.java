@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark the serialization formats.
+ * <p>
+ * Measures the throughput of writing and reading each format for each sample bean.
+ * Run with the GC profiler to see the allocation rate.
+ * Only the sample beans that every format can round-trip are used.
+ * The {@code FlexiBean} sample is measured by {@link SerializeFlexiBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+
+    /**
+     * The format.
+     */
+    @Param
+    private BenchmarkFormat format;
+    /**
+     * The sample bean.
+     */
+    @Param({"IMM_PERSON", "IMM_GUAVA", "IMM_TREE_NODE", "LIGHT_IMMUTABLE", "MINIMAL_IMMUTABLE"})
+    private BenchmarkBeans sample;
+
+    private Bean bean;
+    private Class<? extends Bean> beanType;
+    private Object serialized;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets up the bean and its serialized form.
+     */
+    @Setup
+    public void setup() {
+        bean = sample.create();
+        if (format.isSupported(bean) == false) {
+            throw new IllegalStateException("Format " + format + " does not support " + sample);
+        }
+        beanType = bean.getClass();
+        serialized = format.write(bean);
+        Bean result = format.read(serialized, beanType);
+        if (result.equals(bean) == false) {
+            throw new IllegalStateException("Format " + format + " did not round-trip " + sample);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the bean.
+     *
+     * @return the serialized form
+     */
+    @Benchmark
+    public Object write() {
+        return format.write(bean);
+    }
+
+    /**
+     * Reads the bean.
+     *
+     * @return the bean
+     */
+    @Benchmark
+    public Bean read() {
+        return format.read(serialized, beanType);
+    }
+
+}
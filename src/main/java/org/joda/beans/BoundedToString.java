@@ -0,0 +1,225 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Writes the string form of a bean to an {@code Appendable} within limits.
+ * <p>
+ * The bean graph is walked as it is written, without building intermediate strings
+ * for beans, collections, maps or arrays.
+ * The walk stops once the maximum number of characters has been output.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ */
+final class BoundedToString {
+
+    /**
+     * The output.
+     */
+    private final Appendable output;
+    /**
+     * The limits.
+     */
+    private final ToStringLimits limits;
+    /**
+     * The number of characters that may still be output.
+     */
+    private int remaining;
+    /**
+     * Whether the maximum number of characters has been reached.
+     */
+    private boolean ended;
+
+    /**
+     * Creates an instance.
+     *
+     * @param output  the output, not null
+     * @param limits  the limits, not null
+     */
+    BoundedToString(Appendable output, ToStringLimits limits) {
+        this.output = output;
+        this.limits = limits;
+        this.remaining = limits.getMaxChars();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the root bean.
+     *
+     * @param bean  the bean to write, not null
+     * @throws IOException if an error occurs
+     */
+    void write(Bean bean) throws IOException {
+        writeBean(bean, 1);
+    }
+
+    // writes a bean, as 'Name{a=1, b=2}'
+    private void writeBean(Bean bean, int depth) throws IOException {
+        append(bean.metaBean().beanType().getSimpleName());
+        append('{');
+        if (depth > limits.getMaxDepth()) {
+            append("...");
+        } else {
+            boolean first = true;
+            for (MetaProperty<?> metaProp : bean.metaBean().metaPropertyIterable()) {
+                if (ended) {
+                    return;
+                }
+                if (metaProp.style().isReadable()) {
+                    if (first == false) {
+                        append(", ");
+                    }
+                    append(metaProp.name());
+                    append('=');
+                    writeValue(metaProp.get(bean), depth + 1);
+                    first = false;
+                }
+            }
+        }
+        append('}');
+    }
+
+    // writes a property value or element
+    private void writeValue(Object value, int depth) throws IOException {
+        if (value == null) {
+            append("null");
+        } else if (value instanceof Bean) {
+            writeBean((Bean) value, depth);
+        } else if (value instanceof Collection) {
+            writeCollection((Collection<?>) value, depth);
+        } else if (value instanceof Map) {
+            writeMap((Map<?, ?>) value, depth);
+        } else if (value.getClass().isArray()) {
+            writeArray(value, depth);
+        } else {
+            append(value.toString());
+        }
+    }
+
+    // writes a collection, as '[a, b]'
+    private void writeCollection(Collection<?> collection, int depth) throws IOException {
+        append('[');
+        if (depth > limits.getMaxDepth()) {
+            append("...");
+        } else {
+            int count = 0;
+            for (Object item : collection) {
+                if (ended) {
+                    return;
+                }
+                if (count > 0) {
+                    append(", ");
+                }
+                if (count == limits.getMaxElements()) {
+                    append("...");
+                    break;
+                }
+                writeValue(item, depth + 1);
+                count++;
+            }
+        }
+        append(']');
+    }
+
+    // writes a map, as '{a=1, b=2}'
+    private void writeMap(Map<?, ?> map, int depth) throws IOException {
+        append('{');
+        if (depth > limits.getMaxDepth()) {
+            append("...");
+        } else {
+            int count = 0;
+            for (Entry<?, ?> entry : map.entrySet()) {
+                if (ended) {
+                    return;
+                }
+                if (count > 0) {
+                    append(", ");
+                }
+                if (count == limits.getMaxElements()) {
+                    append("...");
+                    break;
+                }
+                writeValue(entry.getKey(), depth + 1);
+                append('=');
+                writeValue(entry.getValue(), depth + 1);
+                count++;
+            }
+        }
+        append('}');
+    }
+
+    // writes an array, as '[a, b]'
+    private void writeArray(Object array, int depth) throws IOException {
+        append('[');
+        if (depth > limits.getMaxDepth()) {
+            append("...");
+        } else {
+            int length = Array.getLength(array);
+            for (int i = 0; i < length; i++) {
+                if (ended) {
+                    return;
+                }
+                if (i > 0) {
+                    append(", ");
+                }
+                if (i == limits.getMaxElements()) {
+                    append("...");
+                    break;
+                }
+                writeValue(Array.get(array, i), depth + 1);
+            }
+        }
+        append(']');
+    }
+
+    //-----------------------------------------------------------------------
+    // appends the string, truncating once the maximum number of characters is reached
+    private void append(String str) throws IOException {
+        if (ended) {
+            return;
+        }
+        if (str.length() <= remaining) {
+            output.append(str);
+            remaining -= str.length();
+        } else {
+            output.append(str, 0, remaining);
+            output.append("...");
+            remaining = 0;
+            ended = true;
+        }
+    }
+
+    // appends the character, truncating once the maximum number of characters is reached
+    private void append(char ch) throws IOException {
+        if (ended) {
+            return;
+        }
+        if (remaining > 0) {
+            output.append(ch);
+            remaining--;
+        } else {
+            output.append("...");
+            ended = true;
+        }
+    }
+
+}
@@ -15,6 +15,7 @@
  */
 package org.joda.beans;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
@@ -43,6 +44,7 @@ import java.util.function.Function;
 
 import org.joda.beans.impl.direct.DirectBean;
 import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.impl.map.MapBean;
 import org.joda.collect.grid.DenseGrid;
 import org.joda.collect.grid.Grid;
 import org.joda.collect.grid.ImmutableGrid;
@@ -385,6 +387,18 @@ public final class JodaBeanUtils {
      * @return true if equal
      */
     public static boolean propertiesEqual(Bean bean1, Bean bean2) {
+        if (bean1 instanceof FlexiBean && bean2 instanceof FlexiBean) {
+            return flexiPropertiesEqual((FlexiBean) bean1, (FlexiBean) bean2);
+        }
+        if (bean1 instanceof MapBean && bean2 instanceof MapBean) {
+            return mapPropertiesEqual((MapBean) bean1, (MapBean) bean2);
+        }
+        if (bean1.metaBean() == bean2.metaBean()) {
+            PropertyEquality equality = PropertyEquality.of(bean1);
+            if (equality != null) {
+                return equality.equal(bean1, bean2);
+            }
+        }
         Set<String> names = bean1.propertyNames();
         if (names.equals(bean2.propertyNames()) == false) {
             return false;
@@ -410,6 +424,16 @@ public final class JodaBeanUtils {
      * @return the hash code
      */
     public static int propertiesHashCode(Bean bean) {
+        if (bean instanceof FlexiBean) {
+            return flexiPropertiesHashCode((FlexiBean) bean);
+        }
+        if (bean instanceof MapBean) {
+            return mapPropertiesHashCode((MapBean) bean);
+        }
+        PropertyEquality equality = PropertyEquality.of(bean);
+        if (equality != null) {
+            return equality.hashCode(bean);
+        }
         int hash = 7;
         Set<String> names = bean.propertyNames();
         for (String name : names) {
@@ -419,6 +443,51 @@ public final class JodaBeanUtils {
         return hash;
     }
 
+    // compares flexi beans without creating properties
+    private static boolean flexiPropertiesEqual(FlexiBean bean1, FlexiBean bean2) {
+        if (bean1.size() != bean2.size()) {
+            return false;
+        }
+        for (String name : bean1.propertyNames()) {
+            if (bean2.contains(name) == false || equal(bean1.get(name), bean2.get(name)) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // compares map beans without creating properties
+    private static boolean mapPropertiesEqual(MapBean bean1, MapBean bean2) {
+        if (bean1.size() != bean2.size()) {
+            return false;
+        }
+        for (Entry<String, Object> entry : bean1.entrySet()) {
+            Object value2 = bean2.get(entry.getKey());
+            if ((value2 == null && bean2.containsKey(entry.getKey()) == false) || equal(entry.getValue(), value2) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // hashes a flexi bean without creating properties
+    private static int flexiPropertiesHashCode(FlexiBean bean) {
+        int hash = 7;
+        for (String name : bean.propertyNames()) {
+            hash += hashCode(bean.get(name));
+        }
+        return hash;
+    }
+
+    // hashes a map bean without creating properties
+    private static int mapPropertiesHashCode(MapBean bean) {
+        int hash = 7;
+        for (Object value : bean.values()) {
+            hash += hashCode(value);
+        }
+        return hash;
+    }
+
     /**
      * Returns a string describing the set of properties on a bean.
      * <p>
@@ -449,6 +518,49 @@ public final class JodaBeanUtils {
         return buf.toString();
     }
 
+    /**
+     * Returns a string describing a bean, limiting the size of the string.
+     * <p>
+     * See {@link #toString(Bean, Appendable, ToStringLimits)} for details.
+     * 
+     * @param bean  the bean to generate a string for, not null
+     * @param limits  the limits to apply, not null
+     * @return the string form of the bean, not null
+     */
+    public static String toString(Bean bean, ToStringLimits limits) {
+        notNull(limits, "limits");
+        StringBuilder buf = new StringBuilder(Math.min(limits.getMaxChars() + 3, 256));
+        try {
+            toString(bean, buf, limits);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Writes a string describing a bean to an {@code Appendable}, limiting the size of the output.
+     * <p>
+     * The output is in the same form as the generated {@code toString()}, such as 'Name{a=1, b=2}'.
+     * Nested beans, collections, maps and arrays are walked as the output is written.
+     * Beyond the maximum depth, the content of a bean, collection, map or array is output as '...'.
+     * Beyond the maximum number of elements, the remaining elements are output as '...'.
+     * Once the maximum number of characters is reached, '...' is output and the walk stops.
+     * <p>
+     * This method is intended to be used to implement {@code toString()}, and for logging.
+     * 
+     * @param bean  the bean to generate a string for, not null
+     * @param output  the output appendable, not null
+     * @param limits  the limits to apply, not null
+     * @throws IOException if an error occurs
+     */
+    public static void toString(Bean bean, Appendable output, ToStringLimits limits) throws IOException {
+        notNull(bean, "bean");
+        notNull(output, "output");
+        notNull(limits, "limits");
+        new BoundedToString(output, limits).write(bean);
+    }
+
     /**
      * Flattens a bean to a {@code Map}.
      * <p>
@@ -491,6 +603,8 @@ public final class JodaBeanUtils {
      * <p>
      * This copies each non-null property value from the source bean to the destination builder
      * provided that the destination builder supports the property name and the type is compatible.
+     * The matching of source and destination properties is cached, allowing each property
+     * to be copied directly to the builder.
      * 
      * @param <T>  the type of the bean to create
      * @param sourceBean  the bean to copy from, not null
@@ -500,6 +614,10 @@ public final class JodaBeanUtils {
      * @throws RuntimeException if unable to copy a property
      */
     public static <T extends Bean> BeanBuilder<T> copyInto(Bean sourceBean, MetaBean destMeta, BeanBuilder<T> destBuilder) {
+        PropertyCopier copier = PropertyCopier.of(sourceBean, destMeta);
+        if (copier != null) {
+            return copier.copyInto(sourceBean, destBuilder);
+        }
         MetaBean sourceMeta = sourceBean.metaBean();
         for (MetaProperty<?> sourceProp : sourceMeta.metaPropertyIterable()) {
             if (destMeta.metaPropertyExists(sourceProp.name())) {
@@ -521,6 +639,7 @@ public final class JodaBeanUtils {
      * <p>
      * This performs a deep clone. There is no protection against cycles in
      * the object graph beyond {@code StackOverflowError}.
+     * Immutable beans and known immutable collections are shared rather than cloned.
      * 
      * @param <T>  the type of the bean
      * @param original  the original bean to clone, null returns null
@@ -538,7 +657,8 @@ public final class JodaBeanUtils {
      * <p>
      * This performs a deep clone. There is no protection against cycles in
      * the object graph beyond {@code StackOverflowError}.
-     * This differs from {@link #clone()} in that immutable beans are also cloned.
+     * This differs from {@link #clone()} in that the original is cloned even if it is immutable.
+     * Immutable beans and known immutable collections within the original are shared rather than cloned.
      * 
      * @param <T>  the type of the bean
      * @param original  the original bean to clone, not null
@@ -550,7 +670,7 @@ public final class JodaBeanUtils {
         for (MetaProperty<?> mp : original.metaBean().metaPropertyIterable()) {
             if (mp.style().isBuildable()) {
                 Object value = mp.get(original);
-                builder.set(mp.name(), Cloner.INSTANCE.clone(value));
+                builder.set(mp, Cloner.INSTANCE.clone(value));
             }
         }
         return builder.build();
@@ -885,9 +1005,14 @@ public final class JodaBeanUtils {
         if (bean1.getClass() != bean2.getClass()) {
             return false;
         }
+        if (properties.length == 0) {
+            return bean1.equals(bean2);
+        }
+        PropertyEquality equality = PropertyEquality.of(bean1);
+        if (equality != null) {
+            return equality.equalIgnoring(bean1, bean2, properties);
+        }
         switch (properties.length) {
-            case 0:
-                return bean1.equals(bean2);
             case 1: {
                 MetaProperty<?> ignored = properties[0];
                 for (MetaProperty<?> mp : bean1.metaBean().metaPropertyIterable()) {
@@ -1057,14 +1182,22 @@ public final class JodaBeanUtils {
             }
         }
 
+        private static final Class<?> EMPTY_LIST_TYPE = Collections.emptyList().getClass();
+        private static final Class<?> EMPTY_SET_TYPE = Collections.emptySet().getClass();
+        private static final Class<?> EMPTY_MAP_TYPE = Collections.emptyMap().getClass();
+
         Cloner() {
         }
 
         Object clone(Object value) {
             if (value == null) {
                 return value;
+            } else if (value instanceof ImmutableBean) {
+                return value;
             } else if (value instanceof Bean) {
                 return cloneAlways((Bean) value);
+            } else if ((value instanceof Collection || value instanceof Map) && isImmutableJdkType(value.getClass())) {
+                return value;
             } else if (value instanceof SortedSet) {
                 SortedSet set = (SortedSet) value;
                 return cloneIterable(set, new TreeSet(set.comparator()));
@@ -1085,6 +1218,14 @@ public final class JodaBeanUtils {
             return value;
         }
 
+        // checks if the type is a JDK collection or map that is known to be immutable
+        private static boolean isImmutableJdkType(Class<?> type) {
+            return type == EMPTY_LIST_TYPE ||
+                    type == EMPTY_SET_TYPE ||
+                    type == EMPTY_MAP_TYPE ||
+                    type.getName().startsWith("java.util.ImmutableCollections$");
+        }
+
         Object cloneIterable(Iterable original, Collection cloned) {
             for (Object item : original) {
                 cloned.add(clone(item));
@@ -51,6 +51,10 @@ public interface MetaBean {
      * <p>
      * This should be done for all beans in a static factory where possible.
      * If the meta-bean is dynamic, this method should not be called.
+     * <p>
+     * A meta-bean may only be registered once.
+     * The only exception is a meta-bean found using the index generated by {@code BeanCodeGen},
+     * which the static initializer of the bean class may register once more, provided it is the same instance.
      * 
      * @param metaBean  the meta-bean, not null
      * @throws IllegalArgumentException if unable to register
@@ -15,28 +15,73 @@
  */
 package org.joda.beans;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.impl.map.MapBean;
 
 /**
  * Utilities for registered meta-beans.
+ * <p>
+ * The registry is held using {@code ClassValue}, which associates the meta-bean with the bean class itself.
+ * Lookups are thus constant-time and lock-free, and the registry does not prevent a class loader from being unloaded.
+ * <p>
+ * If a class has not registered, the meta-bean index is checked before the class is initialized.
+ * The index is a properties file at {@link #INDEX_RESOURCE}, generated by {@code BeanCodeGen},
+ * mapping the bean class name to the static field holding the meta-bean, such as
+ * {@code com.foo.Person=com.foo.Person$Meta#INSTANCE}.
+ * This allows the meta-bean to be created without initializing the bean class itself.
  */
 final class MetaBeans {
 
     /**
-     * The cache of meta-beans.
+     * The resource name of the meta-bean index.
      */
-    private static final ConcurrentHashMap<Class<?>, MetaBean> META_BEANS = new ConcurrentHashMap<>();
+    static final String INDEX_RESOURCE = "META-INF/joda-beans/meta-beans.properties";
 
     /**
-     * The cache of meta-bean providers; access is guarded by a lock on {@code MetaBeans.class}.
+     * The registry of meta-beans, holding an empty reference for classes that have not registered.
      */
-    private static final Map<Class<?>, MetaBeanProvider> META_BEAN_PROVIDERS = new HashMap<>();
+    private static final ClassValue<AtomicReference<Registration>> META_BEANS = new ClassValue<AtomicReference<Registration>>() {
+        @Override
+        protected AtomicReference<Registration> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /**
+     * The cache of meta-bean providers, keyed by the provider class.
+     * <p>
+     * If two threads create the same provider concurrently, only one instance is retained.
+     */
+    private static final ClassValue<MetaBeanProvider> META_BEAN_PROVIDERS = new ClassValue<MetaBeanProvider>() {
+        @Override
+        protected MetaBeanProvider computeValue(Class<?> providerClass) {
+            try {
+                return providerClass.asSubclass(MetaBeanProvider.class).getDeclaredConstructor().newInstance();
+            } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException ex) {
+                throw new IllegalStateException("Unable to create instance of " + providerClass.getName(), ex);
+            }
+        }
+    };
+
+    /**
+     * The meta-bean index, keyed by the class loader that loaded it.
+     * The values do not refer to classes, so the class loader can still be unloaded.
+     */
+    private static final Map<ClassLoader, Map<String, String>> INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<ClassLoader, Map<String, String>>());
 
     /**
      * Restricted constructor.
@@ -59,11 +104,11 @@ final class MetaBeans {
      * @throws IllegalArgumentException if unable to obtain the meta-bean
      */
     static MetaBean lookup(Class<?> cls) {
-        MetaBean meta = META_BEANS.get(cls);
-        if (meta == null) {
+        Registration registration = META_BEANS.get(cls).get();
+        if (registration == null) {
             return metaBeanLookup(cls);
         }
-        return meta;
+        return registration.metaBean;
     }
 
     // lookup the MetaBean outside the fast path, aiding hotspot inlining
@@ -82,46 +127,100 @@ final class MetaBeans {
         }
         // a Class can be loaded without being initialized
         // in this state, the static initializers have not run, and thus the metabean not registered
-        // here initialization is forced to handle that scenario
+        // the index is checked first, as it may be able to create the meta-bean without initializing the class
+        MetaBean indexed = indexLookup(cls);
+        if (indexed != null) {
+            return indexed;
+        }
+        // otherwise initialization is forced to handle that scenario
         try {
             cls = Class.forName(cls.getName(), true, cls.getClassLoader());
         } catch (ClassNotFoundException | Error ex) {
             // should be impossible
             throw new IllegalArgumentException("Unable to find meta-bean: " + cls.getName(), ex);
         }
-        MetaBean meta = META_BEANS.get(cls);
-        if (meta != null) {
-            return meta;
+        Registration registration = META_BEANS.get(cls).get();
+        if (registration != null) {
+            return registration.metaBean;
         }
         MetaProvider providerAnnotation = findProviderAnnotation(cls);
         if (providerAnnotation != null) {
-            // Synchronization is necessary to prevent a race condition where the same meta-bean is registered twice
-            synchronized (MetaBeans.class) {
-                // Re-check in case the meta-bean has been added by another thread since we checked above
-                meta = META_BEANS.get(cls);
-                if (meta != null) {
-                    return meta;
+            return providerLookup(cls, providerAnnotation.value());
+        }
+        throw new IllegalArgumentException("Unable to find meta-bean: " + cls.getName());
+    }
+
+    // lookup the MetaBean using a provider, without locking
+    // if two threads race, the first meta-bean to be registered is returned to both
+    private static MetaBean providerLookup(Class<?> cls, Class<? extends MetaBeanProvider> providerClass) {
+        MetaBean meta;
+        try {
+            meta = META_BEAN_PROVIDERS.get(providerClass).findMetaBean(cls);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unable to create instance of " + providerClass.getName() +
+                " to provide meta bean for " + cls.getName(), ex);
+        }
+        if (meta == null) {
+            throw new IllegalStateException("Unable to create instance of " + providerClass.getName() +
+                " to provide meta bean for " + cls.getName(),
+                new IllegalArgumentException("Unable to find meta-bean: " + cls.getName()));
+        }
+        return registerIfAbsent(meta, false);
+    }
+
+    // lookup the MetaBean using the index, returning null if not indexed or the index cannot be used
+    private static MetaBean indexLookup(Class<?> cls) {
+        ClassLoader loader = cls.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        String entry = index(loader).get(cls.getName());
+        int hashIndex = entry != null ? entry.indexOf('#') : -1;
+        if (hashIndex < 0) {
+            return null;
+        }
+        try {
+            Class<?> holder = Class.forName(entry.substring(0, hashIndex), true, loader);
+            Field field = holder.getDeclaredField(entry.substring(hashIndex + 1));
+            field.setAccessible(true);
+            Object value = field.get(null);
+            if (value instanceof MetaBean && ((MetaBean) value).beanType() == cls) {
+                return registerIfAbsent((MetaBean) value, true);
+            }
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+            // fall back to initializing the class
+        }
+        return null;
+    }
+
+    // obtains the index for the class loader, loading it if necessary
+    private static Map<String, String> index(ClassLoader loader) {
+        Map<String, String> index = INDEXES.get(loader);
+        if (index == null) {
+            index = loadIndex(loader);
+            INDEXES.put(loader, index);
+        }
+        return index;
+    }
+
+    // loads the index from all the resources visible to the class loader
+    private static Map<String, String> loadIndex(ClassLoader loader) {
+        Map<String, String> index = new HashMap<>();
+        try {
+            Enumeration<URL> urls = loader.getResources(INDEX_RESOURCE);
+            while (urls.hasMoreElements()) {
+                Properties properties = new Properties();
+                try (InputStream in = urls.nextElement().openStream()) {
+                    properties.load(in);
                 }
-                Class<? extends MetaBeanProvider> providerClass = providerAnnotation.value();
-                try {
-                    MetaBeanProvider provider = META_BEAN_PROVIDERS.get(providerClass);
-                    if (provider == null) {
-                        provider = providerClass.getDeclaredConstructor().newInstance();
-                        META_BEAN_PROVIDERS.put(providerClass, provider);
-                    }
-                    meta = provider.findMetaBean(cls);
-                    if (meta == null) {
-                        throw new IllegalArgumentException("Unable to find meta-bean: " + cls.getName());
-                    }
-                    register(meta);
-                    return meta;
-                } catch (Exception e) {
-                    throw new IllegalStateException("Unable to create instance of " + providerClass.getName() +
-                        " to provide meta bean for " + cls.getName(), e);
+                for (String name : properties.stringPropertyNames()) {
+                    index.put(name, properties.getProperty(name));
                 }
             }
+        } catch (IOException | RuntimeException ex) {
+            // the index is an optimization, so ignore errors
         }
-        throw new IllegalArgumentException("Unable to find meta-bean: " + cls.getName());
+        return index;
     }
 
     // returns the MetaProvider annotation from the class or null if none can be found.
@@ -150,14 +249,55 @@ final class MetaBeans {
      * <p>
      * This should be done for all beans in a static factory where possible.
      * If the meta-bean is dynamic, this method should not be called.
+     * <p>
+     * A meta-bean may only be registered once.
+     * The only exception is a meta-bean found using the index, which the static initializer
+     * of the bean class may register once more, provided it is the same instance.
      * 
      * @param metaBean  the meta-bean, not null
      * @throws IllegalArgumentException if unable to register
      */
     static void register(MetaBean metaBean) {
         Class<? extends Bean> type = metaBean.beanType();
-        if (META_BEANS.putIfAbsent(type, metaBean) != null) {
-            throw new IllegalArgumentException("Cannot register class twice: " + type.getName());
+        AtomicReference<Registration> registered = META_BEANS.get(type);
+        Registration registration = new Registration(metaBean, false);
+        while (true) {
+            Registration current = registered.get();
+            if (current != null && (current.indexed == false || current.metaBean != metaBean)) {
+                throw new IllegalArgumentException("Cannot register class twice: " + type.getName());
+            }
+            if (registered.compareAndSet(current, registration)) {
+                return;
+            }
+        }
+    }
+
+    // registers the meta-bean if no meta-bean is registered, returning the registered meta-bean
+    private static MetaBean registerIfAbsent(MetaBean metaBean, boolean indexed) {
+        AtomicReference<Registration> registered = META_BEANS.get(metaBean.beanType());
+        if (registered.compareAndSet(null, new Registration(metaBean, indexed))) {
+            return metaBean;
+        }
+        return registered.get().metaBean;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A registered meta-bean.
+     */
+    private static final class Registration {
+        /**
+         * The meta-bean.
+         */
+        private final MetaBean metaBean;
+        /**
+         * Whether the meta-bean was found using the index, and has not yet been registered by the bean class.
+         */
+        private final boolean indexed;
+
+        Registration(MetaBean metaBean, boolean indexed) {
+            this.metaBean = metaBean;
+            this.indexed = indexed;
         }
     }
 
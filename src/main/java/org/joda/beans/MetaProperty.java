@@ -188,6 +188,143 @@ public interface MetaProperty<P> {
         return old;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of an {@code int} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but allows implementations to avoid boxing.
+     * The default implementation unboxes the result of {@code get}.
+     *
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not an {@code int}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default int getInt(Bean bean) {
+        return (Integer) get(bean);
+    }
+
+    /**
+     * Gets the value of a {@code long} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but allows implementations to avoid boxing.
+     * The default implementation unboxes the result of {@code get}.
+     *
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not a {@code long}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default long getLong(Bean bean) {
+        return (Long) get(bean);
+    }
+
+    /**
+     * Gets the value of a {@code double} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but allows implementations to avoid boxing.
+     * The default implementation unboxes the result of {@code get}.
+     *
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not a {@code double}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default double getDouble(Bean bean) {
+        return (Double) get(bean);
+    }
+
+    /**
+     * Gets the value of a {@code boolean} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but allows implementations to avoid boxing.
+     * The default implementation unboxes the result of {@code get}.
+     *
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not a {@code boolean}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default boolean getBoolean(Bean bean) {
+        return (Boolean) get(bean);
+    }
+
+    /**
+     * Sets the value of an {@code int} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but allows implementations to avoid boxing.
+     * The default implementation boxes the value and calls {@code set}.
+     *
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not an {@code int}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setInt(Bean bean, int value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of a {@code long} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but allows implementations to avoid boxing.
+     * The default implementation boxes the value and calls {@code set}.
+     *
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not a {@code long}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setLong(Bean bean, long value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of a {@code double} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but allows implementations to avoid boxing.
+     * The default implementation boxes the value and calls {@code set}.
+     *
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not a {@code double}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setDouble(Bean bean, double value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of a {@code boolean} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but allows implementations to avoid boxing.
+     * The default implementation boxes the value and calls {@code set}.
+     *
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not a {@code boolean}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setBoolean(Bean bean, boolean value) {
+        set(bean, value);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the value of the property for the specified bean converted to a string.
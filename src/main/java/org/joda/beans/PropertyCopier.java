@@ -0,0 +1,142 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Copies the properties of one type of bean to a builder of another type.
+ * <p>
+ * This matches the meta-properties of the source to those of the destination once,
+ * by name and compatible type, allowing each copy to proceed without looking up
+ * the destination meta-property by name.
+ * <p>
+ * Instances are cached by the type of the source bean using {@code ClassValue},
+ * which does not prevent a class loader from being unloaded, and then by the type of the destination.
+ * Only a small number of destination types are cached for each source type, and only if the
+ * destination type has the same class loader as the source type, as the cache holds the
+ * destination type strongly.
+ * Dynamic beans are not supported.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+final class PropertyCopier {
+
+    /**
+     * The cache, keyed by the type of the source bean and then the type of the destination.
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, PropertyCopier>> CACHE =
+            new ClassValue<ConcurrentMap<Class<?>, PropertyCopier>>() {
+                @Override
+                protected ConcurrentMap<Class<?>, PropertyCopier> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    /**
+     * The maximum number of destination types to cache for each source type.
+     */
+    private static final int MAX_DESTINATIONS = 8;
+
+    /**
+     * The source meta-bean.
+     */
+    private final MetaBean sourceMeta;
+    /**
+     * The destination meta-bean.
+     */
+    private final MetaBean destMeta;
+    /**
+     * The source meta-properties.
+     */
+    private final MetaProperty<?>[] sourceProperties;
+    /**
+     * The matching destination meta-properties.
+     */
+    private final MetaProperty<?>[] destProperties;
+
+    /**
+     * Obtains the instance for a source bean and destination meta-bean.
+     *
+     * @param sourceBean  the bean to copy from, not null
+     * @param destMeta  the meta-bean of the destination, not null
+     * @return the instance, null if either meta-bean is dynamic
+     */
+    static PropertyCopier of(Bean sourceBean, MetaBean destMeta) {
+        MetaBean sourceMeta = sourceBean.metaBean();
+        if (sourceMeta instanceof DynamicMetaBean || destMeta instanceof DynamicMetaBean) {
+            return null;
+        }
+        ConcurrentMap<Class<?>, PropertyCopier> byDest = CACHE.get(sourceBean.getClass());
+        PropertyCopier copier = byDest.get(destMeta.beanType());
+        if (copier == null) {
+            copier = new PropertyCopier(sourceMeta, destMeta);
+            if (byDest.size() < MAX_DESTINATIONS &&
+                    destMeta.beanType().getClassLoader() == sourceBean.getClass().getClassLoader()) {
+                byDest.putIfAbsent(destMeta.beanType(), copier);
+            }
+        } else if (copier.sourceMeta != sourceMeta || copier.destMeta != destMeta) {
+            copier = new PropertyCopier(sourceMeta, destMeta);
+        }
+        return copier;
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param sourceMeta  the meta-bean of the source, not null
+     * @param destMeta  the meta-bean of the destination, not null
+     */
+    private PropertyCopier(MetaBean sourceMeta, MetaBean destMeta) {
+        List<MetaProperty<?>> sourceList = new ArrayList<>();
+        List<MetaProperty<?>> destList = new ArrayList<>();
+        for (MetaProperty<?> sourceProp : sourceMeta.metaPropertyIterable()) {
+            if (destMeta.metaPropertyExists(sourceProp.name())) {
+                MetaProperty<?> destProp = destMeta.metaProperty(sourceProp.name());
+                if (destProp.propertyType().isAssignableFrom(sourceProp.propertyType())) {
+                    sourceList.add(sourceProp);
+                    destList.add(destProp);
+                }
+            }
+        }
+        this.sourceMeta = sourceMeta;
+        this.destMeta = destMeta;
+        this.sourceProperties = sourceList.toArray(new MetaProperty<?>[sourceList.size()]);
+        this.destProperties = destList.toArray(new MetaProperty<?>[destList.size()]);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Copies each non-null matching property value from the source bean to the destination builder.
+     *
+     * @param <T>  the type of the bean to create
+     * @param sourceBean  the bean to copy from, not null
+     * @param destBuilder  the builder to populate, not null
+     * @return the updated builder
+     */
+    <T extends Bean> BeanBuilder<T> copyInto(Bean sourceBean, BeanBuilder<T> destBuilder) {
+        for (int i = 0; i < sourceProperties.length; i++) {
+            Object sourceValue = sourceProperties[i].get(sourceBean);
+            if (sourceValue != null) {
+                destBuilder.set(destProperties[i], sourceValue);
+            }
+        }
+        return destBuilder;
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Equality and hash code of the properties of a type of bean.
+ * <p>
+ * This holds the meta-properties of a meta-bean in an array, together with how each is compared,
+ * allowing beans to be compared without creating iterators or properties.
+ * Primitive properties are compared and hashed using the primitive accessors of {@link MetaProperty}.
+ * The results are the same as comparing the boxed values using {@link JodaBeanUtils#equal(Object, Object)}
+ * and {@link JodaBeanUtils#hashCode(Object)}.
+ * <p>
+ * Instances are cached by the type of the bean using {@code ClassValue},
+ * which does not prevent a class loader from being unloaded.
+ * Dynamic beans are not supported.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+final class PropertyEquality {
+
+    /**
+     * The cache, keyed by the type of the bean, holding an empty reference until first used.
+     */
+    private static final ClassValue<AtomicReference<PropertyEquality>> CACHE =
+            new ClassValue<AtomicReference<PropertyEquality>>() {
+                @Override
+                protected AtomicReference<PropertyEquality> computeValue(Class<?> type) {
+                    return new AtomicReference<>();
+                }
+            };
+    /**
+     * Kind of property compared as an object.
+     */
+    private static final byte OBJECT = 0;
+    /**
+     * Kind of property compared as an {@code int}.
+     */
+    private static final byte INT = 1;
+    /**
+     * Kind of property compared as a {@code long}.
+     */
+    private static final byte LONG = 2;
+    /**
+     * Kind of property compared as a {@code double}.
+     */
+    private static final byte DOUBLE = 3;
+    /**
+     * Kind of property compared as a {@code boolean}.
+     */
+    private static final byte BOOLEAN = 4;
+
+    /**
+     * The meta-bean.
+     */
+    private final MetaBean metaBean;
+    /**
+     * The meta-properties.
+     */
+    private final MetaProperty<?>[] metaProperties;
+    /**
+     * The kind of each meta-property.
+     */
+    private final byte[] kinds;
+
+    /**
+     * Obtains the instance for a bean.
+     *
+     * @param bean  the bean, not null
+     * @return the instance, null if the bean is dynamic
+     */
+    static PropertyEquality of(Bean bean) {
+        MetaBean metaBean = bean.metaBean();
+        if (metaBean instanceof DynamicMetaBean) {
+            return null;
+        }
+        AtomicReference<PropertyEquality> cached = CACHE.get(bean.getClass());
+        PropertyEquality equality = cached.get();
+        if (equality == null) {
+            equality = new PropertyEquality(metaBean);
+            cached.compareAndSet(null, equality);
+        } else if (equality.metaBean != metaBean) {
+            equality = new PropertyEquality(metaBean);
+        }
+        return equality;
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param metaBean  the meta-bean, not null
+     */
+    private PropertyEquality(MetaBean metaBean) {
+        List<MetaProperty<?>> list = new ArrayList<>();
+        for (MetaProperty<?> metaProp : metaBean.metaPropertyIterable()) {
+            list.add(metaProp);
+        }
+        this.metaBean = metaBean;
+        this.metaProperties = list.toArray(new MetaProperty<?>[list.size()]);
+        this.kinds = new byte[metaProperties.length];
+        for (int i = 0; i < metaProperties.length; i++) {
+            kinds[i] = kind(metaProperties[i].propertyType());
+        }
+    }
+
+    // determines how the property is compared
+    private static byte kind(Class<?> type) {
+        if (type == int.class) {
+            return INT;
+        } else if (type == long.class) {
+            return LONG;
+        } else if (type == double.class) {
+            return DOUBLE;
+        } else if (type == boolean.class) {
+            return BOOLEAN;
+        }
+        return OBJECT;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the properties of two beans of this type are equal.
+     *
+     * @param bean1  the first bean, not null
+     * @param bean2  the second bean, not null
+     * @return true if equal
+     */
+    boolean equal(Bean bean1, Bean bean2) {
+        for (int i = 0; i < metaProperties.length; i++) {
+            if (equal(i, bean1, bean2) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the properties of two beans of this type are equal, ignoring some properties.
+     *
+     * @param bean1  the first bean, not null
+     * @param bean2  the second bean, not null
+     * @param ignored  the properties to ignore, not null
+     * @return true if equal
+     */
+    boolean equalIgnoring(Bean bean1, Bean bean2, MetaProperty<?>[] ignored) {
+        for (int i = 0; i < metaProperties.length; i++) {
+            if (isIgnored(metaProperties[i], ignored) == false && equal(i, bean1, bean2) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // checks if the property is in the array of ignored properties
+    private static boolean isIgnored(MetaProperty<?> metaProp, MetaProperty<?>[] ignored) {
+        for (MetaProperty<?> ignoredProp : ignored) {
+            if (ignoredProp.equals(metaProp)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // checks if the property at the index is equal
+    private boolean equal(int index, Bean bean1, Bean bean2) {
+        MetaProperty<?> metaProp = metaProperties[index];
+        switch (kinds[index]) {
+            case INT:
+                return metaProp.getInt(bean1) == metaProp.getInt(bean2);
+            case LONG:
+                return metaProp.getLong(bean1) == metaProp.getLong(bean2);
+            case DOUBLE:
+                return JodaBeanUtils.equal(metaProp.getDouble(bean1), metaProp.getDouble(bean2));
+            case BOOLEAN:
+                return metaProp.getBoolean(bean1) == metaProp.getBoolean(bean2);
+            default:
+                return JodaBeanUtils.equal(metaProp.get(bean1), metaProp.get(bean2));
+        }
+    }
+
+    /**
+     * Returns a hash code based on the properties of a bean of this type.
+     *
+     * @param bean  the bean, not null
+     * @return the hash code
+     */
+    int hashCode(Bean bean) {
+        int hash = 7;
+        for (int i = 0; i < metaProperties.length; i++) {
+            MetaProperty<?> metaProp = metaProperties[i];
+            switch (kinds[i]) {
+                case INT:
+                    hash += JodaBeanUtils.hashCode(metaProp.getInt(bean));
+                    break;
+                case LONG:
+                    hash += JodaBeanUtils.hashCode(metaProp.getLong(bean));
+                    break;
+                case DOUBLE:
+                    hash += JodaBeanUtils.hashCode(metaProp.getDouble(bean));
+                    break;
+                case BOOLEAN:
+                    hash += JodaBeanUtils.hashCode(metaProp.getBoolean(bean));
+                    break;
+                default:
+                    hash += JodaBeanUtils.hashCode(metaProp.get(bean));
+                    break;
+            }
+        }
+        return hash;
+    }
+
+}
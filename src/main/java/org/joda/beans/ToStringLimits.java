@@ -0,0 +1,141 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+/**
+ * The limits applied when converting a bean to a string.
+ * <p>
+ * This is used by {@link JodaBeanUtils#toString(Bean, Appendable, ToStringLimits)}
+ * to bound the size of the output, stopping the walk of the bean graph once a limit is reached.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class ToStringLimits {
+
+    /**
+     * The default limits, a depth of 8, 50 elements per collection and 8192 characters.
+     */
+    public static final ToStringLimits DEFAULT = new ToStringLimits(8, 50, 8192);
+
+    /**
+     * The maximum depth of nested beans, collections, maps and arrays.
+     */
+    private final int maxDepth;
+    /**
+     * The maximum number of elements output for each collection, map or array.
+     */
+    private final int maxElements;
+    /**
+     * The maximum number of characters output.
+     */
+    private final int maxChars;
+
+    /**
+     * Obtains an instance.
+     *
+     * @param maxDepth  the maximum depth of nested beans, collections, maps and arrays, one or greater
+     * @param maxElements  the maximum number of elements output for each collection, map or array, zero or greater
+     * @param maxChars  the maximum number of characters output, zero or greater
+     * @return the limits, not null
+     * @throws IllegalArgumentException if a limit is invalid
+     */
+    public static ToStringLimits of(int maxDepth, int maxElements, int maxChars) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Maximum depth must be one or greater");
+        }
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Maximum elements must not be negative");
+        }
+        if (maxChars < 0) {
+            throw new IllegalArgumentException("Maximum characters must not be negative");
+        }
+        return new ToStringLimits(maxDepth, maxElements, maxChars);
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param maxDepth  the maximum depth
+     * @param maxElements  the maximum number of elements
+     * @param maxChars  the maximum number of characters
+     */
+    private ToStringLimits(int maxDepth, int maxElements, int maxChars) {
+        this.maxDepth = maxDepth;
+        this.maxElements = maxElements;
+        this.maxChars = maxChars;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the maximum depth of nested beans, collections, maps and arrays.
+     * <p>
+     * The root bean is at depth one.
+     * A bean, collection, map or array below the maximum depth is output as '...' within brackets.
+     *
+     * @return the maximum depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Gets the maximum number of elements output for each collection, map or array.
+     * <p>
+     * Further elements are output as '...'.
+     *
+     * @return the maximum number of elements
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+
+    /**
+     * Gets the maximum number of characters output.
+     * <p>
+     * Once reached, the output is ended with '...' and nothing more is output.
+     *
+     * @return the maximum number of characters
+     */
+    public int getMaxChars() {
+        return maxChars;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof ToStringLimits) {
+            ToStringLimits other = (ToStringLimits) obj;
+            return maxDepth == other.maxDepth &&
+                    maxElements == other.maxElements &&
+                    maxChars == other.maxChars;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return (maxDepth * 31 + maxElements) * 31 + maxChars;
+    }
+
+    @Override
+    public String toString() {
+        return "ToStringLimits[maxDepth=" + maxDepth + ", maxElements=" + maxElements + ", maxChars=" + maxChars + "]";
+    }
+
+}
@@ -20,11 +20,15 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 
 import org.joda.beans.JodaBeanUtils;
@@ -63,6 +67,7 @@ public class BeanCodeGen {
             System.out.println("    -style=[s]        default bean style: 'light'/'minimal'/'full', default smart");
             System.out.println("    -verbose=[v]      output logging with verbosity from 0 to 3, default 1");
             System.out.println("    -nowrite          output messages rather than writing, default is to write");
+            System.out.println("    -index=[f]        write an index of the meta-beans to file f, no default");
             System.exit(0);
             throw new InternalError("Unreachable");
         }
@@ -99,6 +104,7 @@ public class BeanCodeGen {
         int verbosity = 1;
         boolean write = true;
         File file = null;
+        File indexFile = null;
         BeanGenConfig config = null;
         if (args.length == 0) {
             throw new IllegalArgumentException("No arguments specified");
@@ -155,6 +161,11 @@ public class BeanCodeGen {
                 verbosity = Integer.parseInt(arg.substring(3));
             } else if (arg.equals("-nowrite")) {
                 write = false;
+            } else if (arg.startsWith("-index=")) {
+                if (indexFile != null) {
+                    throw new IllegalArgumentException("Argument 'index' must not be specified twice: " + Arrays.toString(args));
+                }
+                indexFile = new File(arg.substring(7));
             } else {
                 throw new IllegalArgumentException("Unknown argument: " + arg);
             }
@@ -172,7 +183,7 @@ public class BeanCodeGen {
             config.setDefaultStyle(defaultStyle);
         }
         config.setGeneratedAnno(generatedAnno);
-        return new BeanCodeGen(files, config, verbosity, write);
+        return new BeanCodeGen(files, config, verbosity, write, indexFile);
     }
 
     /**
@@ -216,6 +227,8 @@ public class BeanCodeGen {
     private final int verbosity;
     /** Whether to write or not. */
     private final boolean write;
+    /** The file to write the meta-bean index to, null if none. */
+    private final File indexFile;
 
     /**
      * Creates the generator for a single bean.
@@ -228,6 +241,25 @@ public class BeanCodeGen {
      * @param write  whether to write or not
      */
     public BeanCodeGen(List<File> files, BeanGenConfig config, int verbosity, boolean write) {
+        this(files, config, verbosity, write, null);
+    }
+
+    /**
+     * Creates the generator for a single bean, optionally writing a meta-bean index.
+     * <p>
+     * The index is a properties file mapping each bean class name to the static field holding its meta-bean.
+     * When placed on the classpath at {@code META-INF/joda-beans/meta-beans.properties}, it allows
+     * {@code MetaBean.of(Class)} to create the meta-bean without initializing the bean class.
+     * <p>
+     * To generate, use {@link #process()}.
+     * 
+     * @param files  the files to process, not null
+     * @param config  the configuration to use, not null
+     * @param verbosity  the verbosity, from 0 to 3
+     * @param write  whether to write or not
+     * @param indexFile  the file to write the meta-bean index to, null if none
+     */
+    public BeanCodeGen(List<File> files, BeanGenConfig config, int verbosity, boolean write, File indexFile) {
         JodaBeanUtils.notNull(files, "files");
         JodaBeanUtils.notNull(config, "config");
         if (verbosity < 0 || verbosity > 3) {
@@ -237,6 +269,7 @@ public class BeanCodeGen {
         this.config = config;
         this.verbosity = verbosity;
         this.write = write;
+        this.indexFile = indexFile;
     }
 
     //-----------------------------------------------------------------------
@@ -249,11 +282,7 @@ public class BeanCodeGen {
      * @throws Exception if an error occurs
      */
     public int process() throws Exception {
-        int changed = 0;
-        for (File child : files) {
-            changed += (processFile(child) != null ? 1 : 0);
-        }
-        return changed;
+        return processFiles().size();
     }
 
     /**
@@ -266,12 +295,16 @@ public class BeanCodeGen {
      */
     public List<File> processFiles() throws Exception {
         List<File> changed = new ArrayList<>();
+        Map<String, String> index = new TreeMap<>();
         for (File child : files) {
-            File file = processFile(child);
+            File file = processFile(child, index);
             if (file != null) {
                 changed.add(file);
             }
         }
+        if (indexFile != null) {
+            writeIndex(index);
+        }
         return changed;
     }
 
@@ -279,10 +312,11 @@ public class BeanCodeGen {
      * Processes the bean, generating the code.
      * 
      * @param file  the file to process, not null
+     * @param index  the meta-bean index to add to, not null
      * @return not-null if changed
      * @throws Exception if an error occurs
      */
-    private File processFile(File file) throws Exception {
+    private File processFile(File file, Map<String, String> index) throws Exception {
         List<String> original = readFile(file);
         List<String> content = new ArrayList<>(original);
         BeanGen gen;
@@ -299,6 +333,7 @@ public class BeanCodeGen {
                 System.out.print(file + "  [processing]");
             }
             gen.process();
+            addIndexEntry(index, gen, content);
             if (contentDiffers(content, original)) {
                 if (write) {
                     if (verbosity >= 2) {
@@ -373,6 +408,48 @@ public class BeanCodeGen {
         return false;
     }
 
+    // adds the index entry for the bean, mapping the bean class name to the static field holding the meta-bean
+    private void addIndexEntry(Map<String, String> index, BeanGen gen, List<String> content) {
+        String packagePrefix = "";
+        for (String line : content) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("package ") && trimmed.endsWith(";")) {
+                packagePrefix = trimmed.substring(8, trimmed.length() - 1).trim() + ".";
+                break;
+            }
+        }
+        BeanData data = gen.getData();
+        String beanClassName = packagePrefix + data.getTypeRaw();
+        if (data.isBeanStyleLightOrMinimal()) {
+            index.put(beanClassName, beanClassName + "#META_BEAN");
+        } else {
+            index.put(beanClassName, beanClassName + "$Meta#INSTANCE");
+        }
+    }
+
+    // writes the meta-bean index
+    private void writeIndex(Map<String, String> index) throws Exception {
+        if (write == false) {
+            if (verbosity >= 1) {
+                System.out.println(indexFile + "  [index not written]");
+            }
+            return;
+        }
+        File parent = indexFile.getAbsoluteFile().getParentFile();
+        if (parent != null && parent.exists() == false && parent.mkdirs() == false) {
+            throw new IOException("Unable to create directory: " + parent);
+        }
+        List<String> content = new ArrayList<>(index.size() + 1);
+        content.add("# Joda-Beans meta-bean index, generated by BeanCodeGen");
+        for (Entry<String, String> entry : index.entrySet()) {
+            content.add(entry.getKey() + "=" + entry.getValue());
+        }
+        writeFile(indexFile, content);
+        if (verbosity >= 2) {
+            System.out.println(indexFile + "  [index written with " + index.size() + " meta-beans]");
+        }
+    }
+
     //-----------------------------------------------------------------------
     private List<String> readFile(File file) throws Exception {
         List<String> content = new ArrayList<>(100);
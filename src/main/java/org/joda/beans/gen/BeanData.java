@@ -95,6 +95,8 @@ class BeanData {
     private boolean manualToStringCode;
     /** The style for Object#clone */
     private String cloneStyle;
+    /** The style for Object#toString */
+    private String toStringStyle;
 
     /**
      * Constructor.
@@ -742,6 +744,39 @@ class BeanData {
         return ("smart".equals(cloneStyle) && isImmutable()) || "omit".equals(cloneStyle);
     }
 
+    /**
+     * Gets the toString style.
+     * @return the toString style
+     */
+    public String getToStringStyle() {
+        return toStringStyle;
+    }
+
+    /**
+     * Sets the toString style.
+     * @param toStringStyle  the toString style
+     */
+    public void setToStringStyle(String toStringStyle) {
+        this.toStringStyle = toStringStyle;
+    }
+
+    /**
+     * Is the toString style valid.
+     * @return true if valid
+     */
+    public boolean isToStringStyleValid() {
+        return "smart".equals(toStringStyle) ||
+                "limited".equals(toStringStyle);
+    }
+
+    /**
+     * Is the toString method to delegate to the limited toString.
+     * @return true to delegate
+     */
+    public boolean isToStringLimited() {
+        return "limited".equals(toStringStyle);
+    }
+
     /**
      * Sets the bean type.
      * @param parts  the type to set
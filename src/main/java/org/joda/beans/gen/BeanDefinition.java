@@ -140,11 +140,30 @@ public @interface BeanDefinition {
      */
     String cloneStyle() default "smart";
 
+    /**
+     * The configuration for generating the toString method.
+     * <p>
+     * This flag controls generation of the {@code toString} method.
+     * The default is 'smart'.
+     * <p>
+     * The valid values are:
+     * <ul>
+     * <li>'smart' - generate a toString method that outputs every property in full
+     * <li>'limited' - generate a toString method that delegates to
+     *  {@link org.joda.beans.JodaBeanUtils#toString(org.joda.beans.Bean, org.joda.beans.ToStringLimits)}
+     *  using the default limits, bounding the size of the string
+     * </ul>
+     * The 'limited' style cannot be used if any property omits itself from toString.
+     * 
+     * @return the toString style, defaulted to 'smart'
+     */
+    String toStringStyle() default "smart";
+
     /**
      * Whether to generate code to cache the hash code.
      * <p>
      * Setting this to true will cause the hash code to be cached using the racy single check idiom.
-     * The setting only applies to immutable beans.
+     * The setting only applies to immutable beans, but may be used with any style, including 'light' and 'minimal'.
      * 
      * @return true if the hash code is to be cached
      */
@@ -38,6 +38,7 @@ import org.joda.beans.BeanBuilder;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
+import org.joda.beans.ToStringLimits;
 import org.joda.beans.TypedMetaBean;
 import org.joda.beans.impl.BasicBeanBuilder;
 import org.joda.beans.impl.direct.DirectBean;
@@ -900,6 +901,20 @@ class BeanGen {
             return;
         }
         List<PropertyGen> props = toStringProperties();
+        if (data.isToStringLimited()) {
+            data.ensureImport(JodaBeanUtils.class);
+            data.ensureImport(ToStringLimits.class);
+            addLine(1, "@Override");
+            generateGenerated(1);
+            addLine(1, "public String toString() {");
+            addLine(2, "return JodaBeanUtils.toString(this, ToStringLimits.DEFAULT);");
+            addLine(1, "}");
+            addBlankLine();
+            if ((data.isRootClass() && data.isTypeFinal()) == false) {
+                generateToStringProperties(props);
+            }
+            return;
+        }
         if (data.isRootClass() && data.isTypeFinal()) {
             addLine(1, "@Override");
             generateGenerated(1);
@@ -938,7 +953,11 @@ class BeanGen {
         addLine(2, "return buf.toString();");
         addLine(1, "}");
         addBlankLine();
-        
+        generateToStringProperties(props);
+    }
+
+    // generates the method used by subclasses to add properties to toString
+    private void generateToStringProperties(List<PropertyGen> props) {
         if (data.isSubClass()) {
             addLine(1, "@Override");
         }
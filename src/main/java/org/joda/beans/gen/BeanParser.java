@@ -92,6 +92,8 @@ class BeanParser {
     private static final Pattern CACHE_HASH_CODE_PATTERN = Pattern.compile(".*[ ,(]cacheHashCode[ ]*[=][ ]*(true|false).*");
     /** The cloneStyle pattern. */
     private static final Pattern CLONE_STYLE_PATTERN = Pattern.compile(".*[ ,(]cloneStyle[ ]*[=][ ]*[\"]([a-zA-Z]*)[\"].*");
+    /** The toStringStyle pattern. */
+    private static final Pattern TO_STRING_STYLE_PATTERN = Pattern.compile(".*[ ,(]toStringStyle[ ]*[=][ ]*[\"]([a-zA-Z]*)[\"].*");
 
     /** The validator pattern. */
     private static final Pattern VALIDATOR_PATTERN = Pattern.compile(
@@ -175,6 +177,10 @@ class BeanParser {
         if (data.isCloneStyleValid() == false) {
             throw new BeanCodeGenException("Invalid clone style: " + data.getCloneStyle(), file, beanDefIndex);
         }
+        data.setToStringStyle(parseToStringStyle(beanDefIndex));
+        if (data.isToStringStyleValid() == false) {
+            throw new BeanCodeGenException("Invalid toString style: " + data.getToStringStyle(), file, beanDefIndex);
+        }
         data.setImmutableConstructor(parseImmutableConstructor(beanDefIndex));
         data.setConstructable(parseConstructable(beanDefIndex));
         data.setTypeParts(parseBeanType(beanDefIndex));
@@ -260,6 +266,15 @@ class BeanParser {
                                 data.getTypeRaw(), file, beanDefIndex);
             }
         }
+        if (data.isToStringLimited()) {
+            for (PropertyGen prop : properties) {
+                if ("omit".equals(prop.getData().getToStringStyle())) {
+                    throw new BeanCodeGenException("Limited toString style must not be used with omitted properties: " +
+                            data.getTypeRaw() + "." + prop.getData().getFieldName(),
+                            file, prop.getData().getLineIndex());
+                }
+            }
+        }
         if (data.isCacheHashCode()) {
             data.setCacheHashCode(data.isImmutable() && data.isManualEqualsHashCode() == false);
         }
@@ -413,6 +428,15 @@ class BeanParser {
         return "smart";
     }
 
+    private String parseToStringStyle(int defLine) {
+        String line = content.get(defLine).trim();
+        Matcher matcher = TO_STRING_STYLE_PATTERN.matcher(line);
+        if (matcher.matches()) {
+            return matcher.group(1);
+        }
+        return "smart";
+    }
+
     private boolean parseConstructable(int defLine) {
         for (int index = defLine; index < content.size(); index++) {
             if (content.get(index).contains(" abstract class ")) {
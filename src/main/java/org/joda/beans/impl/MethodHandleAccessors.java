@@ -0,0 +1,171 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Creates the accessors used by bean implementations from method handles.
+ * <p>
+ * Where possible, the accessor is created using {@link LambdaMetafactory},
+ * which allows the method to be invoked as quickly as a direct call.
+ * Where the lookup does not allow a lambda to be created, or the method handle is not
+ * a direct method handle, such as a field getter, the accessor invokes the method handle.
+ * <p>
+ * This class is intended for use by the bean implementations in Joda-Beans.
+ */
+public final class MethodHandleAccessors {
+
+    /**
+     * Restricted constructor.
+     */
+    private MethodHandleAccessors() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a getter from a method handle taking the bean and returning the value.
+     *
+     * @param lookup  the lookup used to create a lambda, null to always invoke the method handle
+     * @param getter  the getter method handle, not null
+     * @return the getter, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object> getter(MethodHandles.Lookup lookup, MethodHandle getter) {
+        Object lambda = metafactory(
+                lookup,
+                "apply",
+                Function.class,
+                MethodType.methodType(Object.class, Object.class),
+                getter,
+                getter.type().wrap());
+        if (lambda != null) {
+            return (Function<Object, Object>) lambda;
+        }
+        MethodHandle handle = getter.asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> {
+            try {
+                return handle.invokeExact(bean);
+            } catch (Throwable ex) {
+                throw rethrow(ex);
+            }
+        };
+    }
+
+    /**
+     * Creates a setter from a method handle taking the bean and the value.
+     *
+     * @param lookup  the lookup used to create a lambda, null to always invoke the method handle
+     * @param setter  the setter method handle, not null
+     * @return the setter, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object, Object> setter(MethodHandles.Lookup lookup, MethodHandle setter) {
+        Object lambda = metafactory(
+                lookup,
+                "accept",
+                BiConsumer.class,
+                MethodType.methodType(void.class, Object.class, Object.class),
+                setter,
+                setter.type().wrap().changeReturnType(void.class));
+        if (lambda != null) {
+            return (BiConsumer<Object, Object>) lambda;
+        }
+        MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (bean, value) -> {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (Throwable ex) {
+                throw rethrow(ex);
+            }
+        };
+    }
+
+    /**
+     * Creates a factory from a method handle of a no-arguments constructor.
+     *
+     * @param lookup  the lookup used to create a lambda, null to always invoke the method handle
+     * @param constructor  the constructor method handle, not null
+     * @return the factory, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static Supplier<Object> constructor(MethodHandles.Lookup lookup, MethodHandle constructor) {
+        Object lambda = metafactory(
+                lookup,
+                "get",
+                Supplier.class,
+                MethodType.methodType(Object.class),
+                constructor,
+                constructor.type());
+        if (lambda != null) {
+            return (Supplier<Object>) lambda;
+        }
+        MethodHandle handle = constructor.asType(MethodType.methodType(Object.class));
+        return () -> {
+            try {
+                return handle.invokeExact();
+            } catch (Throwable ex) {
+                throw rethrow(ex);
+            }
+        };
+    }
+
+    /**
+     * Converts an exception thrown by a method handle to one that can be thrown.
+     * <p>
+     * Runtime exceptions are returned unaltered and errors are thrown.
+     * Checked exceptions are wrapped in a {@code RuntimeException}.
+     *
+     * @param ex  the exception thrown by the method handle, not null
+     * @return the exception to throw, not null
+     */
+    public static RuntimeException rethrow(Throwable ex) {
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        }
+        return ex instanceof RuntimeException ? (RuntimeException) ex : new RuntimeException(ex);
+    }
+
+    // creates a lambda implementing the interface that invokes the method handle, null if not possible
+    private static Object metafactory(
+            MethodHandles.Lookup lookup,
+            String methodName,
+            Class<?> interfaceType,
+            MethodType methodType,
+            MethodHandle handle,
+            MethodType instantiatedType) {
+
+        if (lookup == null) {
+            return null;
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup, methodName, MethodType.methodType(interfaceType), methodType, handle, instantiatedType);
+            return site.getTarget().invoke();
+        } catch (Throwable ex) {
+            // the lookup may not have private access, or the handle may not be a direct method handle
+            return null;
+        }
+    }
+
+}
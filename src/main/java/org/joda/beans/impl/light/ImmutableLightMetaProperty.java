@@ -17,7 +17,6 @@ package org.joda.beans.impl.light;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -58,16 +57,7 @@ final class ImmutableLightMetaProperty<P> extends AbstractLightMetaProperty<P> {
             final String propertyName,
             int constructorIndex) {
         
-        PropertyGetter getter = new PropertyGetter() {
-            @Override
-            public Object get(Bean bean) {
-                try {
-                    return field.get(bean);
-                } catch (IllegalArgumentException | IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                }
-            }
-        };
+        PropertyGetter getter = PropertyGetter.of(field, propertyName);
         return new ImmutableLightMetaProperty<>(
                 metaBean, 
                 propertyName, 
@@ -96,21 +86,7 @@ final class ImmutableLightMetaProperty<P> extends AbstractLightMetaProperty<P> {
             final String propertyName,
             int constructorIndex) {
         
-        PropertyGetter getter = new PropertyGetter() {
-            @Override
-            public Object get(Bean bean) {
-                try {
-                    return method.invoke(bean);
-                } catch (IllegalArgumentException | IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                } catch (InvocationTargetException ex) {
-                    if (ex.getCause() instanceof RuntimeException) {
-                        throw (RuntimeException) ex.getCause();
-                    }
-                    throw new RuntimeException(ex);
-                }
-            }
-        };
+        PropertyGetter getter = PropertyGetter.of(method, propertyName);
         return new ImmutableLightMetaProperty<>(
                 metaBean,
                 propertyName,
@@ -138,21 +114,7 @@ final class ImmutableLightMetaProperty<P> extends AbstractLightMetaProperty<P> {
             final String propertyName,
             int constructorIndex) {
 
-        PropertyGetter getter = new PropertyGetter() {
-            @Override
-            public Object get(Bean bean) {
-                try {
-                    return method.invoke(bean);
-                } catch (IllegalArgumentException | IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                } catch (InvocationTargetException ex) {
-                    if (ex.getCause() instanceof RuntimeException) {
-                        throw (RuntimeException) ex.getCause();
-                    }
-                    throw new RuntimeException(ex);
-                }
-            }
-        };
+        PropertyGetter getter = PropertyGetter.of(method, propertyName);
         return new ImmutableLightMetaProperty<P>(
                 metaBean, 
                 propertyName, 
@@ -61,6 +61,10 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
      * The empty object array.
      */
     private static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
+    /**
+     * The maximum number of constructor arguments that are passed directly, without a spreader.
+     */
+    private static final int MAX_DIRECT_ARITY = 8;
 
     /** The bean type. */
     private final Class<T> beanType;
@@ -397,7 +401,11 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
         this.aliasMap = new HashMap<>();
         this.constructionData = defaultValues;
         MethodHandle handle = findConstructorHandle(beanType, lookup, constructor);
-        this.constructorFn = args -> build(handle, args);
+        if (constructor.getParameterTypes().length <= MAX_DIRECT_ARITY) {
+            this.constructorFn = args -> buildDirect(handle, args);
+        } else {
+            this.constructorFn = args -> build(handle, args);
+        }
     }
 
     /**
@@ -461,10 +469,16 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
             Constructor<?> constructor) {
 
         try {
-            // spreader allows an Object[] to invoke the positional arguments
             MethodType constructorType = MethodType.methodType(Void.TYPE, constructor.getParameterTypes());
+            int arity = constructor.getParameterTypes().length;
+            if (arity <= MAX_DIRECT_ARITY) {
+                // each argument is passed as an object, unboxed by the handle where necessary
+                return lookup.findConstructor(beanType, constructorType)
+                        .asType(MethodType.genericMethodType(arity).changeReturnType(Bean.class));
+            }
+            // spreader allows an Object[] to invoke the positional arguments
             MethodHandle baseHandle = lookup.findConstructor(beanType, constructorType)
-                    .asSpreader(Object[].class, constructor.getParameterTypes().length);
+                    .asSpreader(Object[].class, arity);
             // change the return type so caller can use invokeExact()
             return baseHandle.asType(baseHandle.type().changeReturnType(Bean.class));
         } catch (NoSuchMethodException ex) {
@@ -554,6 +568,40 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
         }
     }
 
+    // invokes a constructor with few arguments, passing each argument directly rather than spreading the array
+    private T buildDirect(MethodHandle handle, Object[] args) {
+        try {
+            switch (args.length) {
+                case 0:
+                    return (T) handle.invokeExact();
+                case 1:
+                    return (T) handle.invokeExact(args[0]);
+                case 2:
+                    return (T) handle.invokeExact(args[0], args[1]);
+                case 3:
+                    return (T) handle.invokeExact(args[0], args[1], args[2]);
+                case 4:
+                    return (T) handle.invokeExact(args[0], args[1], args[2], args[3]);
+                case 5:
+                    return (T) handle.invokeExact(args[0], args[1], args[2], args[3], args[4]);
+                case 6:
+                    return (T) handle.invokeExact(args[0], args[1], args[2], args[3], args[4], args[5]);
+                case 7:
+                    return (T) handle.invokeExact(args[0], args[1], args[2], args[3], args[4], args[5], args[6]);
+                case 8:
+                    return (T) handle.invokeExact(args[0], args[1], args[2], args[3], args[4], args[5], args[6], args[7]);
+                default:
+                    throw new IllegalStateException("Invalid arity: " + args.length);
+            }
+            
+        } catch (Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalArgumentException(
+                    "Bean cannot be created: " + beanName() + " from " + Arrays.toString(args), ex);
+        }
+    }
+
     //-----------------------------------------------------------------------
     T build(Object[] args) {
         return constructorFn.apply(args);
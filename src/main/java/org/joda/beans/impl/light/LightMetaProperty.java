@@ -16,6 +16,7 @@
 package org.joda.beans.impl.light;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
@@ -25,15 +26,24 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.MetaBean;
 import org.joda.beans.PropertyStyle;
 import org.joda.beans.impl.BasicMetaProperty;
+import org.joda.beans.impl.MethodHandleAccessors;
 
 /**
  * An immutable meta-property based on a getter interface.
+ * <p>
+ * Where the property is accessed by a method, the accessors are created using
+ * {@link LambdaMetafactory}, which allows the method to be invoked as quickly as a direct call.
+ * Where the property is accessed by a field, or the lookup does not allow a lambda
+ * to be created, the accessors invoke a method handle.
+ * See {@link MethodHandleAccessors}.
  * 
  * @param <P>  the type of the property content
  */
@@ -47,10 +57,14 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
     private final Type propertyGenericType;
     /** The annotations. */
     private final List<Annotation> annotations;
-    /** The read method. */
-    private final MethodHandle getter;
-    /** The optional write method. */
-    private final MethodHandle setter;
+    /** The read accessor. */
+    private final Function<Object, Object> getter;
+    /** The optional write accessor. */
+    private final BiConsumer<Object, Object> setter;
+    /** The read accessor for a primitive property, which avoids boxing, null if not primitive. */
+    private final MethodHandle primitiveGetter;
+    /** The write accessor for a primitive property, which avoids boxing, null if not primitive or read-only. */
+    private final MethodHandle primitiveSetter;
     /** The index of the property in the constructor. */
     private final int constructorIndex;
     /** The property style. */
@@ -94,6 +108,8 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) field.getType(), 
                 field.getGenericType(), 
                 Arrays.asList(field.getAnnotations()), 
+                MethodHandleAccessors.getter(null, getter),
+                setter != null ? MethodHandleAccessors.setter(null, setter) : null,
                 getter,
                 setter,
                 constructorIndex,
@@ -142,6 +158,8 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) field.getType(), 
                 field.getGenericType(), 
                 Arrays.asList(field.getAnnotations()), 
+                MethodHandleAccessors.getter(lookup, getter),
+                setter != null ? MethodHandleAccessors.setter(lookup, setter) : null,
                 getter,
                 setter,
                 constructorIndex,
@@ -184,12 +202,30 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) getMethod.getReturnType(), 
                 getMethod.getGenericReturnType(), 
                 Arrays.asList(getMethod.getAnnotations()), 
+                MethodHandleAccessors.getter(lookup, getter),
+                null,
                 getter,
                 null,
                 constructorIndex,
                 PropertyStyle.DERIVED);
     }
 
+    //-----------------------------------------------------------------------
+    // adapts the getter handle to return the primitive value directly, null if not primitive
+    private static MethodHandle primitiveGetter(MethodHandle getter) {
+        Class<?> type = getter.type().returnType();
+        return type.isPrimitive() ? getter.asType(MethodType.methodType(type, Object.class)) : null;
+    }
+
+    // adapts the setter handle to accept the primitive value directly, null if not primitive
+    private static MethodHandle primitiveSetter(MethodHandle setter) {
+        if (setter == null) {
+            return null;
+        }
+        Class<?> type = setter.type().parameterType(1);
+        return type.isPrimitive() ? setter.asType(MethodType.methodType(void.class, Object.class, type)) : null;
+    }
+
     /**
      * Creates an instance.
      * 
@@ -200,6 +236,8 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
      * @param annotations  the annotations
      * @param getter  the property getter
      * @param setter  the property setter
+     * @param getterHandle  the method handle of the getter, not null
+     * @param setterHandle  the method handle of the setter, null if read-only
      * @param constructorIndex  the index of the property in the constructor
      */
     LightMetaProperty(
@@ -208,8 +246,10 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
             Class<P> propertyType,
             Type propertyGenericType,
             List<Annotation> annotations,
-            MethodHandle getter,
-            MethodHandle setter,
+            Function<Object, Object> getter,
+            BiConsumer<Object, Object> setter,
+            MethodHandle getterHandle,
+            MethodHandle setterHandle,
             int constructorIndex,
             PropertyStyle style) {
         
@@ -218,8 +258,10 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
         this.propertyType = propertyType;
         this.propertyGenericType = propertyGenericType;
         this.annotations = annotations;
-        this.getter = getter.asType(MethodType.methodType(Object.class, Bean.class));
-        this.setter = setter != null ? setter.asType(MethodType.methodType(void.class, Bean.class, Object.class)) : null;
+        this.getter = getter;
+        this.setter = setter;
+        this.primitiveGetter = primitiveGetter(getterHandle);
+        this.primitiveSetter = primitiveSetter(setterHandle);
         this.constructorIndex = constructorIndex;
         this.style = style;
     }
@@ -257,14 +299,9 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
 
     //-----------------------------------------------------------------------
     @Override
+    @SuppressWarnings("unchecked")
     public P get(Bean bean) {
-        try {
-            return (P) getter.invokeExact(bean);
-        } catch (RuntimeException | Error ex) {
-            throw ex;
-        } catch (Throwable ex) {
-            throw new RuntimeException(ex);
-        }
+        return (P) getter.apply(bean);
     }
 
     @Override
@@ -272,15 +309,121 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
         if (setter == null) {
             throw new UnsupportedOperationException("Property cannot be written: " + name());
         }
-        try {
-            setter.invokeExact(bean, value);
-        } catch (RuntimeException | Error ex) {
-            throw ex;
-        } catch (Throwable ex) {
-            throw new RuntimeException(ex);
+        setter.accept(bean, value);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int getInt(Bean bean) {
+        if (isPrimitiveGetter(int.class)) {
+            try {
+                return (int) primitiveGetter.invokeExact((Object) bean);
+            } catch (Throwable ex) {
+                throw MethodHandleAccessors.rethrow(ex);
+            }
+        }
+        return (Integer) get(bean);
+    }
+
+    @Override
+    public long getLong(Bean bean) {
+        if (isPrimitiveGetter(long.class)) {
+            try {
+                return (long) primitiveGetter.invokeExact((Object) bean);
+            } catch (Throwable ex) {
+                throw MethodHandleAccessors.rethrow(ex);
+            }
+        }
+        return (Long) get(bean);
+    }
+
+    @Override
+    public double getDouble(Bean bean) {
+        if (isPrimitiveGetter(double.class)) {
+            try {
+                return (double) primitiveGetter.invokeExact((Object) bean);
+            } catch (Throwable ex) {
+                throw MethodHandleAccessors.rethrow(ex);
+            }
         }
+        return (Double) get(bean);
     }
 
+    @Override
+    public boolean getBoolean(Bean bean) {
+        if (isPrimitiveGetter(boolean.class)) {
+            try {
+                return (boolean) primitiveGetter.invokeExact((Object) bean);
+            } catch (Throwable ex) {
+                throw MethodHandleAccessors.rethrow(ex);
+            }
+        }
+        return (Boolean) get(bean);
+    }
+
+    @Override
+    public void setInt(Bean bean, int value) {
+        if (isPrimitiveSetter(int.class)) {
+            try {
+                primitiveSetter.invokeExact((Object) bean, value);
+            } catch (Throwable ex) {
+                throw MethodHandleAccessors.rethrow(ex);
+            }
+        } else {
+            set(bean, value);
+        }
+    }
+
+    @Override
+    public void setLong(Bean bean, long value) {
+        if (isPrimitiveSetter(long.class)) {
+            try {
+                primitiveSetter.invokeExact((Object) bean, value);
+            } catch (Throwable ex) {
+                throw MethodHandleAccessors.rethrow(ex);
+            }
+        } else {
+            set(bean, value);
+        }
+    }
+
+    @Override
+    public void setDouble(Bean bean, double value) {
+        if (isPrimitiveSetter(double.class)) {
+            try {
+                primitiveSetter.invokeExact((Object) bean, value);
+            } catch (Throwable ex) {
+                throw MethodHandleAccessors.rethrow(ex);
+            }
+        } else {
+            set(bean, value);
+        }
+    }
+
+    @Override
+    public void setBoolean(Bean bean, boolean value) {
+        if (isPrimitiveSetter(boolean.class)) {
+            try {
+                primitiveSetter.invokeExact((Object) bean, value);
+            } catch (Throwable ex) {
+                throw MethodHandleAccessors.rethrow(ex);
+            }
+        } else {
+            set(bean, value);
+        }
+    }
+
+    // checks if the primitive getter returns the specified type
+    private boolean isPrimitiveGetter(Class<?> type) {
+        return primitiveGetter != null && primitiveGetter.type().returnType() == type;
+    }
+
+    // checks if the primitive setter accepts the specified type
+    private boolean isPrimitiveSetter(Class<?> type) {
+        return primitiveSetter != null && primitiveSetter.type().parameterType(1) == type;
+    }
+
+    //-----------------------------------------------------------------------
     int getConstructorIndex() {
         return constructorIndex;
     }
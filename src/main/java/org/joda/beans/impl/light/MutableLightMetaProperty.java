@@ -17,7 +17,6 @@ package org.joda.beans.impl.light;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -58,26 +57,8 @@ final class MutableLightMetaProperty<P> extends AbstractLightMetaProperty<P> {
             final String propertyName,
             int constructorIndex) {
         
-        PropertyGetter getter = new PropertyGetter() {
-            @Override
-            public Object get(Bean bean) {
-                try {
-                    return field.get(bean);
-                } catch (IllegalArgumentException | IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                }
-            }
-        };
-        PropertySetter setter = new PropertySetter() {
-            @Override
-            public void set(Bean bean, Object value) {
-                try {
-                    field.set(bean, value);
-                } catch (IllegalArgumentException | IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                }
-            }
-        };
+        PropertyGetter getter = PropertyGetter.of(field, propertyName);
+        PropertySetter setter = PropertySetter.of(field, propertyName);
         return new MutableLightMetaProperty<>(
                 metaBean, 
                 propertyName, 
@@ -107,36 +88,8 @@ final class MutableLightMetaProperty<P> extends AbstractLightMetaProperty<P> {
             final String propertyName,
             int constructorIndex) {
         
-        PropertyGetter getter = new PropertyGetter() {
-            @Override
-            public Object get(Bean bean) {
-                try {
-                    return getMethod.invoke(bean);
-                } catch (IllegalArgumentException | IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                } catch (InvocationTargetException ex) {
-                    if (ex.getCause() instanceof RuntimeException) {
-                        throw (RuntimeException) ex.getCause();
-                    }
-                    throw new RuntimeException(ex);
-                }
-            }
-        };
-        PropertySetter setter = new PropertySetter() {
-            @Override
-            public void set(Bean bean, Object value) {
-                try {
-                    setMethod.invoke(bean, value);
-                } catch (IllegalArgumentException | IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be written: " + propertyName, ex);
-                } catch (InvocationTargetException ex) {
-                    if (ex.getCause() instanceof RuntimeException) {
-                        throw (RuntimeException) ex.getCause();
-                    }
-                    throw new RuntimeException(ex);
-                }
-            }
-        };
+        PropertyGetter getter = PropertyGetter.of(getMethod, propertyName);
+        PropertySetter setter = PropertySetter.of(setMethod, propertyName);
         // special case for optional
         return new MutableLightMetaProperty<>(
                 metaBean, 
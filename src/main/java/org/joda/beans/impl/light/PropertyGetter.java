@@ -15,13 +15,64 @@
  */
 package org.joda.beans.impl.light;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
 import org.joda.beans.Bean;
+import org.joda.beans.impl.MethodHandleAccessors;
 
 /**
  * Functional interface providing the ability to get a property from a bean.
  */
 interface PropertyGetter {
 
+    /**
+     * Creates a getter that reads a field using a method handle.
+     * <p>
+     * The field must have been made accessible.
+     * 
+     * @param field  the field, not null
+     * @param propertyName  the property name, not null
+     * @return the getter, not null
+     */
+    static PropertyGetter of(Field field, String propertyName) {
+        try {
+            return of(MethodHandles.lookup().unreflectGetter(field));
+        } catch (IllegalAccessException ex) {
+            return bean -> {
+                throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
+            };
+        }
+    }
+
+    /**
+     * Creates a getter that invokes a method using a method handle.
+     * <p>
+     * The method must be public or have been made accessible.
+     * 
+     * @param method  the method, not null
+     * @param propertyName  the property name, not null
+     * @return the getter, not null
+     */
+    static PropertyGetter of(Method method, String propertyName) {
+        try {
+            return of(MethodHandles.lookup().unreflect(method));
+        } catch (IllegalAccessException ex) {
+            return bean -> {
+                throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
+            };
+        }
+    }
+
+    // creates a getter that invokes the method handle
+    static PropertyGetter of(MethodHandle getter) {
+        Function<Object, Object> fn = MethodHandleAccessors.getter(null, getter);
+        return fn::apply;
+    }
+
     /**
      * Queries the property.
      * 
@@ -15,13 +15,64 @@
  */
 package org.joda.beans.impl.light;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+
 import org.joda.beans.Bean;
+import org.joda.beans.impl.MethodHandleAccessors;
 
 /**
  * Functional interface providing the ability to set a property in a bean.
  */
 interface PropertySetter {
 
+    /**
+     * Creates a setter that writes a field using a method handle.
+     * <p>
+     * The field must have been made accessible.
+     * 
+     * @param field  the field, not null
+     * @param propertyName  the property name, not null
+     * @return the setter, not null
+     */
+    static PropertySetter of(Field field, String propertyName) {
+        try {
+            return of(MethodHandles.lookup().unreflectSetter(field));
+        } catch (IllegalAccessException ex) {
+            return (bean, value) -> {
+                throw new UnsupportedOperationException("Property cannot be written: " + propertyName, ex);
+            };
+        }
+    }
+
+    /**
+     * Creates a setter that invokes a method using a method handle.
+     * <p>
+     * The method must be public or have been made accessible.
+     * 
+     * @param method  the method, not null
+     * @param propertyName  the property name, not null
+     * @return the setter, not null
+     */
+    static PropertySetter of(Method method, String propertyName) {
+        try {
+            return of(MethodHandles.lookup().unreflect(method));
+        } catch (IllegalAccessException ex) {
+            return (bean, value) -> {
+                throw new UnsupportedOperationException("Property cannot be written: " + propertyName, ex);
+            };
+        }
+    }
+
+    // creates a setter that invokes the method handle
+    static PropertySetter of(MethodHandle setter) {
+        BiConsumer<Object, Object> fn = MethodHandleAccessors.setter(null, setter);
+        return fn::accept;
+    }
+
     /**
      * Sets the property.
      * 
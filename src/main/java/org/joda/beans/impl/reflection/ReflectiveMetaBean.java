@@ -15,16 +15,22 @@
  */
 package org.joda.beans.impl.reflection;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.TypedMetaBean;
 import org.joda.beans.impl.BasicBeanBuilder;
+import org.joda.beans.impl.MethodHandleAccessors;
 
 /**
  * A meta-bean implementation that uses reflection.
@@ -35,6 +41,11 @@ import org.joda.beans.impl.BasicBeanBuilder;
  * <p>
  * Typically, the meta-bean will be created as a public static final constant.
  * Only one method from {@link Bean} needs to be implemented, which simply returns the meta-bean.
+ * <p>
+ * By default, the getters and setters are invoked using reflection.
+ * If a lookup is passed to {@link #of(Class, MethodHandles.Lookup, String...)}, the meta-bean is accelerated,
+ * creating accessors using {@link LambdaMetafactory} that can be invoked as quickly as a direct call.
+ * Any accessor that cannot be created in this way falls back to a method handle, or to reflection.
  * 
  * @param <T>  the type of the bean
  */
@@ -44,6 +55,8 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
     private final Class<T> beanType;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
+    /** The factory for new beans, null if reflection is used. */
+    private final Supplier<T> factory;
 
     /**
      * Create a meta-bean and meta properties.
@@ -56,16 +69,42 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
      * @return the meta-bean, not null
      */
     public static <B extends Bean> ReflectiveMetaBean<B> of(Class<B> beanClass, String... propertyNames) {
-        return new ReflectiveMetaBean<>(beanClass, propertyNames);
+        return new ReflectiveMetaBean<>(beanClass, null, propertyNames);
+    }
+
+    /**
+     * Create an accelerated meta-bean and meta properties.
+     * <p>
+     * The meta-properties will be created from the property names by searching for a getter and setter.
+     * The lookup is used to create accessors that invoke the getters, setters and no-arguments constructor directly.
+     * It is typically obtained by calling {@code MethodHandles.lookup()} in the bean class.
+     * Where an accessor cannot be created, reflection is used as normal.
+     * 
+     * @param <B>  the type of the bean
+     * @param beanClass  the bean class, not null
+     * @param lookup  the method handle lookup, not null
+     * @param propertyNames  the property names, not null
+     * @return the meta-bean, not null
+     */
+    public static <B extends Bean> ReflectiveMetaBean<B> of(
+            Class<B> beanClass,
+            MethodHandles.Lookup lookup,
+            String... propertyNames) {
+
+        if (lookup == null) {
+            throw new NullPointerException("Lookup must not be null");
+        }
+        return new ReflectiveMetaBean<>(beanClass, lookup, propertyNames);
     }
 
     /**
      * Constructor.
      * 
      * @param beanType  the bean type, not null
+     * @param lookup  the method handle lookup, null if reflection is used
      * @param propertyNames  the property names, not null
      */
-    private ReflectiveMetaBean(Class<T> beanType, String[] propertyNames) {
+    private ReflectiveMetaBean(Class<T> beanType, MethodHandles.Lookup lookup, String[] propertyNames) {
         if (beanType == null) {
             throw new NullPointerException("Bean class must not be null");
         }
@@ -75,16 +114,32 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
         this.beanType = beanType;
         Map<String, MetaProperty<?>> map = new LinkedHashMap<>();
         for (String name : propertyNames) {
-            map.put(name, new ReflectiveMetaProperty<>(this, beanType, name));
+            map.put(name, new ReflectiveMetaProperty<>(this, beanType, name, lookup));
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.factory = (lookup != null ? factory(beanType, lookup) : null);
+    }
+
+    // creates a factory that invokes the no-arguments constructor directly, null if not possible
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> factory(Class<T> beanType, MethodHandles.Lookup lookup) {
+        try {
+            MethodHandle constructor = lookup.findConstructor(beanType, MethodType.methodType(void.class));
+            return (Supplier<T>) MethodHandleAccessors.constructor(lookup, constructor);
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return null;
+        }
     }
 
     //-----------------------------------------------------------------------
     @Override
     public boolean isBuildable() {
         try {
-            beanType.getDeclaredConstructor().newInstance();
+            if (factory != null) {
+                factory.get();
+            } else {
+                beanType.getDeclaredConstructor().newInstance();
+            }
             return true;
         } catch (Exception ex) {
             return false;
@@ -93,6 +148,9 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
 
     @Override
     public BeanBuilder<T> builder() {
+        if (factory != null) {
+            return new BasicBeanBuilder<>(factory.get());
+        }
         try {
             T bean = beanType.getDeclaredConstructor().newInstance();
             return new BasicBeanBuilder<>(bean);
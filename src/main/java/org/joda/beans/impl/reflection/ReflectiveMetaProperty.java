@@ -16,6 +16,8 @@
 package org.joda.beans.impl.reflection;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
@@ -23,12 +25,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.MetaBean;
 import org.joda.beans.PropertyStyle;
 import org.joda.beans.impl.BasicMetaProperty;
+import org.joda.beans.impl.MethodHandleAccessors;
 
 /**
  * A meta-property implemented using a {@code PropertyDescriptor}.
@@ -36,6 +41,9 @@ import org.joda.beans.impl.BasicMetaProperty;
  * The property descriptor class is part of the JDK JavaBean standard.
  * It provides access to get and set a property on a bean.
  * <p>
+ * If a lookup is provided, the getter and setter are invoked using accessors created by
+ * {@link LambdaMetafactory}, falling back to a method handle, and then to reflection.
+ * <p>
  * Instances of this class should be declared as a static constant on the bean,
  * one for each property, followed by a {@code ReflectiveMetaBean} declaration.
  * 
@@ -53,6 +61,10 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
     private final Method getMethod;
     /** The setter. */
     private final Method setMethod;
+    /** The read accessor, null if reflection is used. */
+    private final Function<Object, Object> getter;
+    /** The write accessor, null if reflection is used. */
+    private final BiConsumer<Object, Object> setter;
 
     /**
      * Constructor using {@code PropertyDescriptor} to find the get and set methods.
@@ -60,9 +72,15 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
      * @param metaBean  the meta-bean
      * @param beanType  the bean type, not null
      * @param propertyName  the property name, not empty
+     * @param lookup  the method handle lookup, null if reflection is used
      */
     @SuppressWarnings({"unchecked", "null"})
-    ReflectiveMetaProperty(MetaBean metaBean, Class<? extends Bean> beanType, String propertyName) {
+    ReflectiveMetaProperty(
+            MetaBean metaBean,
+            Class<? extends Bean> beanType,
+            String propertyName,
+            MethodHandles.Lookup lookup) {
+
         super(propertyName);
         String getterName = "get" + propertyName.substring(0, 1).toUpperCase(Locale.ENGLISH) + propertyName.substring(1);
         String isserName = "is" + propertyName.substring(0, 1).toUpperCase(Locale.ENGLISH) + propertyName.substring(1);
@@ -87,6 +105,8 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         this.propertyType = (Class<P>) getMethod.getReturnType();
         this.getMethod = getMethod;
         this.setMethod = setMethod;
+        this.getter = (lookup != null ? lambdaGetter(lookup, getMethod) : null);
+        this.setter = (lookup != null && setMethod != null ? lambdaSetter(lookup, setMethod) : null);
     }
 
     // finds a method on class or public method on super-type
@@ -126,6 +146,24 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         }
     }
 
+    // creates a getter that invokes the method directly, null if the lookup cannot access the method
+    private static Function<Object, Object> lambdaGetter(MethodHandles.Lookup lookup, Method getMethod) {
+        try {
+            return MethodHandleAccessors.getter(lookup, lookup.unreflect(getMethod));
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    // creates a setter that invokes the method directly, null if the lookup cannot access the method
+    private static BiConsumer<Object, Object> lambdaSetter(MethodHandles.Lookup lookup, Method setMethod) {
+        try {
+            return MethodHandleAccessors.setter(lookup, lookup.unreflect(setMethod));
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+    }
+
     /**
      * Sets the meta-bean, necessary due to ordering restrictions during loading.
      * @param metaBean  the meta-bean, not null
@@ -179,6 +217,9 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         if (style().isReadable() == false) {
             throw new UnsupportedOperationException("Property cannot be read: " + name());
         }
+        if (getter != null) {
+            return (P) getter.apply(bean);
+        }
         try {
             return (P) getMethod.invoke(bean, (Object[]) null);
         } catch (IllegalArgumentException | IllegalAccessException ex) {
@@ -197,6 +238,13 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         if (style().isWritable() == false) {
             throw new UnsupportedOperationException("Property cannot be written: " + name());
         }
+        if (setter != null) {
+            if (value == null && setMethod.getParameterTypes()[0].isPrimitive()) {
+                throw new NullPointerException("Property cannot be written: " + name() + ": Cannot store null in primitive");
+            }
+            setter.accept(bean, value);
+            return;
+        }
         try {
             setMethod.invoke(bean, value);
         } catch (IllegalArgumentException ex) {
@@ -15,6 +15,8 @@
  */
 package org.joda.beans.ser;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.bin.JodaBeanBinReader;
@@ -76,6 +78,30 @@ public final class JodaBeanSer {
      * Whether to include derived properties.
      */
     private final boolean includeDerived;
+    /**
+     * The cache of write plans, keyed by bean type.
+     * This uses {@code ClassValue}, which does not prevent a class loader from being unloaded.
+     */
+    private final ClassValue<AtomicReference<SerWritePlan>> writePlans = new ClassValue<AtomicReference<SerWritePlan>>() {
+        @Override
+        protected AtomicReference<SerWritePlan> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+    /**
+     * The cache of read plans, keyed by bean type.
+     * This uses {@code ClassValue}, which does not prevent a class loader from being unloaded.
+     */
+    private final ClassValue<AtomicReference<SerReadPlan>> readPlans = new ClassValue<AtomicReference<SerReadPlan>>() {
+        @Override
+        protected AtomicReference<SerReadPlan> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+    /**
+     * The cache of string converters.
+     */
+    private final SerConverterCache converterCache;
 
     /**
      * Creates an instance.
@@ -92,6 +118,7 @@ public final class JodaBeanSer {
         this.indent = indent;
         this.newLine = newLine;
         this.converter = converter;
+        this.converterCache = new SerConverterCache(converter);
         this.iteratorFactory = iteratorFactory;
         this.shortTypes = shortTypes;
         this.deserializers = deserializers;
@@ -143,6 +170,8 @@ public final class JodaBeanSer {
      * Gets the string converter.
      * <p>
      * The default converter can be modified.
+     * Any converters must be registered before this serializer is first used,
+     * as the converter found for each type is cached, see {@link SerConverterCache}.
      * 
      * @return the converter, not null
      */
@@ -154,6 +183,8 @@ public final class JodaBeanSer {
      * Returns a copy of this serializer with the specified string converter.
      * <p>
      * The default converter can be modified.
+     * Any converters must be registered before the returned serializer is first used,
+     * as the converter found for each type is cached, see {@link SerConverterCache}.
      * 
      * @param converter  the converter, not null
      * @return a copy of this object with the converter changed, not null
@@ -264,6 +295,21 @@ public final class JodaBeanSer {
         return prop.style().isSerializable() || (prop.style().isDerived() && includeDerived);
     }
 
+    // gets the cached write plan for the bean type, which holds null if not yet planned
+    AtomicReference<SerWritePlan> getWritePlan(Class<?> beanType) {
+        return writePlans.get(beanType);
+    }
+
+    // gets the cached read plan for the bean type, which holds null if not yet planned
+    AtomicReference<SerReadPlan> getReadPlan(Class<?> beanType) {
+        return readPlans.get(beanType);
+    }
+
+    // gets the cache of string converters
+    SerConverterCache getConverterCache() {
+        return converterCache;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a reader that determines the file format and parses it.
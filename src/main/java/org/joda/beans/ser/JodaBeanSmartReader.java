@@ -99,7 +99,7 @@ public class JodaBeanSmartReader {
             return JodaBeanSerFormat.JSON;
         } else if (input[0] == (byte) 0x94 && input[1] == (byte) 0x02) {
             return JodaBeanSerFormat.BIN;
-        } else if (input[0] == (byte) 0x92 && input[1] == (byte) 0x01) {
+        } else if (input[0] == (byte) 0x92 && (input[1] == (byte) 0x01 || input[1] == (byte) 0x04 || input[1] == (byte) 0x05)) {
             return JodaBeanSerFormat.BIN;
         } else {
             return JodaBeanSerFormat.UNKNOWN;
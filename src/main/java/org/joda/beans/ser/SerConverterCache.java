@@ -0,0 +1,176 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.joda.convert.StringConvert;
+import org.joda.convert.StringConverter;
+import org.joda.convert.TypedStringConverter;
+
+/**
+ * Cache of the string converters of the settings, used by serialization implementations.
+ * <p>
+ * This provides the same operations as {@link StringConvert}, but the converter for each type
+ * is resolved once and held against the type, allowing each value to be converted with a direct call.
+ * Types without a converter are not cached, and are always checked using the {@code StringConvert},
+ * as a converter may be registered later.
+ * Each {@link JodaBeanSer} has a single cache.
+ * <p>
+ * The cached converters are never invalidated.
+ * If a converter is registered with the {@code StringConvert} for a type after the converter
+ * for that type has been found, the cache continues to use the converter that was found first.
+ * As such, converters must be registered before the settings are first used.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class SerConverterCache {
+
+    /**
+     * The converter.
+     */
+    private final StringConvert converter;
+    /**
+     * The resolved converters, keyed by type.
+     */
+    private final ConcurrentMap<Class<?>, TypedStringConverter<Object>> converters = new ConcurrentHashMap<>();
+
+    /**
+     * Obtains the cache for the settings.
+     *
+     * @param settings  the settings, not null
+     * @return the cache, not null
+     */
+    public static SerConverterCache of(JodaBeanSer settings) {
+        return settings.getConverterCache();
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param converter  the converter, not null
+     */
+    SerConverterCache(StringConvert converter) {
+        this.converter = converter;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if a suitable converter exists for the type.
+     *
+     * @param type  the type to check, null returns false
+     * @return true if convertible
+     * @see StringConvert#isConvertible(Class)
+     */
+    public boolean isConvertible(Class<?> type) {
+        return cached(type) != null || converter.isConvertible(type);
+    }
+
+    /**
+     * Finds a suitable converter for the type.
+     *
+     * @param type  the type to find a converter for, not null
+     * @return the converter, not null
+     * @throws RuntimeException if no converter found
+     * @see StringConvert#findTypedConverterNoGenerics(Class)
+     */
+    public TypedStringConverter<Object> findTypedConverter(Class<?> type) {
+        TypedStringConverter<Object> cached = cached(type);
+        return cached != null ? cached : converter.findTypedConverterNoGenerics(type);
+    }
+
+    /**
+     * Finds a suitable converter for the type.
+     *
+     * @param type  the type to find a converter for, not null
+     * @return the converter, not null
+     * @throws RuntimeException if no converter found
+     * @see StringConvert#findConverterNoGenerics(Class)
+     */
+    public StringConverter<Object> findConverterNoGenerics(Class<?> type) {
+        TypedStringConverter<Object> cached = cached(type);
+        return cached != null ? cached : converter.findConverterNoGenerics(type);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts the object to a string, using the converter of the type of the object.
+     *
+     * @param object  the object to convert, null returns null
+     * @return the converted string, may be null
+     * @throws RuntimeException if unable to convert
+     * @see StringConvert#convertToString(Object)
+     */
+    public String convertToString(Object object) {
+        if (object == null) {
+            return null;
+        }
+        return findConverterNoGenerics(object.getClass()).convertToString(object);
+    }
+
+    /**
+     * Converts the object to a string, using the converter of the specified type.
+     *
+     * @param type  the type to use for the converter, not null
+     * @param object  the object to convert, null returns null
+     * @return the converted string, may be null
+     * @throws RuntimeException if unable to convert
+     * @see StringConvert#convertToString(Class, Object)
+     */
+    public String convertToString(Class<?> type, Object object) {
+        if (object == null) {
+            return null;
+        }
+        return findConverterNoGenerics(type).convertToString(object);
+    }
+
+    /**
+     * Converts the string to an object of the specified type.
+     *
+     * @param <T>  the type to convert to
+     * @param type  the type to convert to, not null
+     * @param str  the string to convert, null returns null
+     * @return the converted object, may be null
+     * @throws RuntimeException if unable to convert
+     * @see StringConvert#convertFromString(Class, String)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convertFromString(Class<T> type, String str) {
+        if (str == null) {
+            return null;
+        }
+        TypedStringConverter<Object> cached = cached(type);
+        if (cached != null) {
+            return (T) cached.convertFromString(type, str);
+        }
+        return converter.convertFromString(type, str);
+    }
+
+    // gets the cached converter, resolving it if necessary, null if not convertible
+    private TypedStringConverter<Object> cached(Class<?> type) {
+        if (type == null) {
+            return null;
+        }
+        TypedStringConverter<Object> cached = converters.get(type);
+        if (cached == null && converter.isConvertible(type)) {
+            cached = converter.findTypedConverterNoGenerics(type);
+            converters.putIfAbsent(type, cached);
+        }
+        return cached;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+
+/**
+ * Cache of encoded property names for Joda-Bean serialization, used by serialization implementations.
+ * <p>
+ * Writers use this to write a property name as bytes that were encoded once,
+ * rather than encoding the name each time it is written.
+ * Each writer format has its own instance, holding the names encoded by its encoder.
+ * <p>
+ * The names are cached by the type declaring the property using {@code ClassValue},
+ * which does not prevent a class loader from being unloaded.
+ * The number of names cached for each type is limited, which protects against
+ * dynamic beans with an unbounded set of property names.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class SerEncodedNameCache {
+
+    /**
+     * The maximum number of encoded property names to cache for each type.
+     */
+    private static final int MAX_NAMES = 256;
+
+    /**
+     * The encoder.
+     */
+    private final Function<String, byte[]> encoder;
+    /**
+     * The encoded property names, keyed by the type declaring the property.
+     */
+    private final ClassValue<ConcurrentMap<String, byte[]>> names = new ClassValue<ConcurrentMap<String, byte[]>>() {
+        @Override
+        protected ConcurrentMap<String, byte[]> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Obtains an instance.
+     *
+     * @param encoder  the encoder of a property name, not null
+     * @return the cache, not null
+     */
+    public static SerEncodedNameCache of(Function<String, byte[]> encoder) {
+        JodaBeanUtils.notNull(encoder, "encoder");
+        return new SerEncodedNameCache(encoder);
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param encoder  the encoder, not null
+     */
+    private SerEncodedNameCache(Function<String, byte[]> encoder) {
+        this.encoder = encoder;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the encoded name of a property, encoding and caching it if necessary.
+     * <p>
+     * The returned array must not be altered.
+     *
+     * @param metaProperty  the meta-property, not null
+     * @return the encoded name, null if the declaring type has too many names to cache
+     */
+    public byte[] encodedName(MetaProperty<?> metaProperty) {
+        String name = metaProperty.name();
+        ConcurrentMap<String, byte[]> typeNames = names.get(metaProperty.declaringType());
+        byte[] encoded = typeNames.get(name);
+        if (encoded == null) {
+            if (typeNames.size() >= MAX_NAMES) {
+                return null;
+            }
+            encoded = encoder.apply(name);
+            typeNames.putIfAbsent(name, encoded);
+        }
+        return encoded;
+    }
+
+}
@@ -169,6 +169,31 @@ public class SerIteratorFactory {
         return null;
     }
 
+    /**
+     * Creates an iterator wrapper describing the elements of a collection meta-property that are streamed.
+     * <p>
+     * This is used when writing a collection property whose elements are streamed.
+     * The streamed elements are iterated directly by the writer, as the number of elements
+     * is not known in advance. The returned iterator has no elements. It provides the value type
+     * and generic types of the elements, and is used as the parent iterator when writing each element.
+     * 
+     * @param prop  the meta-property defining the value, not null
+     * @param beanClass  the class of the bean, not the meta-property, for better generics, not null
+     * @return the iterator, null if the property is not a collection
+     */
+    public SerIterator createStreamed(MetaProperty<?> prop, Class<?> beanClass) {
+        Class<?> declaredType = prop.propertyType();
+        SerIterable iterable = createIterable(prop, beanClass);
+        if (Collection.class.isAssignableFrom(declaredType) == false ||
+                iterable == null ||
+                iterable.category() != SerCategory.COLLECTION) {
+            return null;
+        }
+        Class<?> valueType = defaultToObjectClass(JodaBeanUtils.collectionType(prop, beanClass));
+        List<Class<?>> valueTypeTypes = JodaBeanUtils.collectionTypeTypes(prop, beanClass);
+        return collection(Collections.emptyList(), declaredType, valueType, valueTypeTypes);
+    }
+
     /**
      * Defaults input class to Object class.
      * 
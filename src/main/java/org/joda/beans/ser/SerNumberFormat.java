@@ -0,0 +1,218 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+/**
+ * Formatting of numbers as ASCII digits, used by serialization implementations.
+ * <p>
+ * Numbers are written directly into a byte array, without creating a {@code String}.
+ * The text is identical to that of {@link Long#toString(long)}, {@link Double#toString(double)}
+ * and {@link Float#toString(float)}.
+ * <p>
+ * A {@code double} is only formatted here if its string form is in plain, non-exponent, notation
+ * and has no more than 15 significant digits. This covers the common case of values that were
+ * originally entered or calculated as short decimals. Such a value has a unique shortest decimal
+ * representation, which is the text produced by {@code Double.toString} on all versions of Java.
+ * Other values must be formatted using {@code Double.toString}.
+ * A {@code float} is only formatted here if it is a whole number in plain notation.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class SerNumberFormat {
+
+    /**
+     * The maximum number of bytes written by any method.
+     */
+    public static final int MAX_LENGTH = 24;
+    /**
+     * The minimum value, which cannot be negated.
+     */
+    private static final byte[] MIN_LONG = {
+        '-', '9', '2', '2', '3', '3', '7', '2', '0', '3', '6', '8', '5', '4', '7', '7', '5', '8', '0', '8'};
+    /**
+     * The smallest magnitude formatted in plain notation by {@code Double.toString}.
+     */
+    private static final double MIN_PLAIN = 1e-3;
+    /**
+     * The limit of the magnitude formatted in plain notation by {@code Double.toString}.
+     */
+    private static final double MAX_PLAIN = 1e7;
+    /**
+     * The limit of the significant digits of a formatted {@code double}, as a power of ten.
+     */
+    private static final double MAX_DIGITS = 1e15;
+    /**
+     * The powers of ten that are exactly representable as a {@code double}.
+     */
+    private static final double[] POWERS_OF_TEN = new double[23];
+    static {
+        double power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    /**
+     * Restricted constructor.
+     */
+    private SerNumberFormat() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes a {@code long} as ASCII digits, matching {@link Long#toString(long)}.
+     * <p>
+     * There must be space for {@link #MAX_LENGTH} bytes in the array.
+     *
+     * @param value  the value to write
+     * @param buf  the array to write to, not null
+     * @param pos  the position in the array to write at
+     * @return the position after the last byte written
+     */
+    public static int formatLong(long value, byte[] buf, int pos) {
+        if (value == Long.MIN_VALUE) {
+            System.arraycopy(MIN_LONG, 0, buf, pos, MIN_LONG.length);
+            return pos + MIN_LONG.length;
+        }
+        if (value < 0) {
+            buf[pos++] = '-';
+            value = -value;
+        }
+        int end = pos + digitCount(value);
+        int index = end;
+        do {
+            buf[--index] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        return end;
+    }
+
+    /**
+     * Writes a {@code double} as ASCII text, matching {@link Double#toString(double)}.
+     * <p>
+     * There must be space for {@link #MAX_LENGTH} bytes in the array.
+     * Nothing is written if the value is not one of the values supported by this class,
+     * in which case it must be formatted using {@code Double.toString}.
+     *
+     * @param value  the value to write
+     * @param buf  the array to write to, not null
+     * @param pos  the position in the array to write at
+     * @return the position after the last byte written, -1 if the value was not written
+     */
+    public static int formatDouble(double value, byte[] buf, int pos) {
+        double abs = Math.abs(value);
+        if (abs == 0) {
+            if (Double.doubleToRawLongBits(value) != 0) {
+                buf[pos++] = '-';
+            }
+            return writeDecimal(0, 0, buf, pos);
+        }
+        if (abs < MIN_PLAIN || abs >= MAX_PLAIN) {
+            return -1;  // exponent notation, also excludes NaN and infinity
+        }
+        // find the fewest decimal places where the decimal converts back to the value
+        // the scaled value is accurate enough to round to the correct digits as there are at most 15
+        for (int places = 0; places < POWERS_OF_TEN.length; places++) {
+            double power = POWERS_OF_TEN[places];
+            double scaled = abs * power;
+            if (scaled >= MAX_DIGITS) {
+                return -1;
+            }
+            double digits = Math.rint(scaled);
+            if (digits / power == abs) {
+                if (value < 0) {
+                    buf[pos++] = '-';
+                }
+                return writeDecimal((long) digits, places, buf, pos);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Writes a {@code float} as ASCII text, matching {@link Float#toString(float)}.
+     * <p>
+     * There must be space for {@link #MAX_LENGTH} bytes in the array.
+     * Nothing is written if the value is not one of the values supported by this class,
+     * in which case it must be formatted using {@code Float.toString}.
+     *
+     * @param value  the value to write
+     * @param buf  the array to write to, not null
+     * @param pos  the position in the array to write at
+     * @return the position after the last byte written, -1 if the value was not written
+     */
+    public static int formatFloat(float value, byte[] buf, int pos) {
+        float abs = Math.abs(value);
+        if (abs == 0) {
+            if (Float.floatToRawIntBits(value) != 0) {
+                buf[pos++] = '-';
+            }
+            return writeDecimal(0, 0, buf, pos);
+        }
+        if (abs < MAX_PLAIN && abs == (long) abs) {
+            if (value < 0) {
+                buf[pos++] = '-';
+            }
+            return writeDecimal((long) abs, 0, buf, pos);
+        }
+        return -1;
+    }
+
+    //-----------------------------------------------------------------------
+    // writes the non-negative digits with the specified number of decimal places
+    // a whole number is written with '.0', and a number less than one with a leading zero
+    private static int writeDecimal(long digits, int places, byte[] buf, int pos) {
+        if (places == 0) {
+            pos = formatLong(digits, buf, pos);
+            buf[pos++] = '.';
+            buf[pos++] = '0';
+            return pos;
+        }
+        int count = digitCount(digits);
+        if (count <= places) {
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            for (int i = count; i < places; i++) {
+                buf[pos++] = '0';
+            }
+            return formatLong(digits, buf, pos);
+        }
+        int end = pos + count + 1;
+        int index = end;
+        for (int i = 0; i < places; i++) {
+            buf[--index] = (byte) ('0' + (digits % 10));
+            digits /= 10;
+        }
+        buf[--index] = '.';
+        do {
+            buf[--index] = (byte) ('0' + (digits % 10));
+            digits /= 10;
+        } while (digits != 0);
+        return end;
+    }
+
+    // the number of digits in a non-negative number
+    private static int digitCount(long value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+}
@@ -92,6 +92,11 @@ public class SerOptional {
         }
     }
 
+    // checks if the property is an optional
+    static boolean isOptional(MetaProperty<?> metaProp) {
+        return OPTIONALS.containsKey(metaProp.propertyType());
+    }
+
     /**
      * Extracts the value of the property from a bean, unwrapping any optional.
      * 
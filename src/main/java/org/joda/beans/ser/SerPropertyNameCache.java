@@ -0,0 +1,192 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import org.joda.beans.MetaBean;
+
+/**
+ * Cache of property names for Joda-Bean deserialization, used by serialization implementations.
+ * <p>
+ * Readers use this to find the property for a name that is not known to the {@link SerReadPlan}
+ * directly from the raw input, without creating a {@code String} for a name that has been seen before.
+ * Each entry is keyed by the characters of the name, the bean type and the meta-bean.
+ * The cache is bounded, with new entries replacing old ones when the table is full.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * A new instance should be created for each read.
+ */
+public final class SerPropertyNameCache {
+
+    /**
+     * The size of the table, a power of two.
+     */
+    private static final int SIZE = 128;
+    /**
+     * The maximum number of slots to probe.
+     */
+    private static final int MAX_PROBE = 4;
+    /**
+     * The maximum length of name to cache.
+     */
+    private static final int MAX_LENGTH = 64;
+
+    /**
+     * The table of entries, created on first use.
+     */
+    private Entry[] table;
+
+    /**
+     * Creates an instance.
+     */
+    public SerPropertyNameCache() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the cached property matching the UTF-8 bytes of a property name.
+     * <p>
+     * Only ASCII names can be matched.
+     *
+     * @param bytes  the array holding the encoded name, not null
+     * @param offset  the offset of the name in the array
+     * @param length  the length of the encoded name
+     * @param beanType  the type of the bean being parsed, not null
+     * @param metaBean  the meta-bean of the bean being parsed, not null
+     * @return the property, null if not cached
+     */
+    public SerReadPlan.Property find(byte[] bytes, int offset, int length, Class<?> beanType, MetaBean metaBean) {
+        if (table == null || length > MAX_LENGTH) {
+            return null;
+        }
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[offset + i];
+            if (b < 0) {
+                return null;
+            }
+            hash = 31 * hash + b;
+        }
+        int index = index(hash, beanType);
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            Entry entry = table[(index + probe) & (SIZE - 1)];
+            if (entry == null) {
+                return null;
+            }
+            if (entry.hash == hash && entry.matches(beanType, metaBean) && entry.property.matches(bytes, offset, length)) {
+                return entry.property;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the cached property matching the characters of a property name.
+     *
+     * @param chars  the characters of the name, not null
+     * @param beanType  the type of the bean being parsed, not null
+     * @param metaBean  the meta-bean of the bean being parsed, not null
+     * @return the property, null if not cached
+     */
+    public SerReadPlan.Property find(CharSequence chars, Class<?> beanType, MetaBean metaBean) {
+        int length = chars.length();
+        if (table == null || length > MAX_LENGTH) {
+            return null;
+        }
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        int index = index(hash, beanType);
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            Entry entry = table[(index + probe) & (SIZE - 1)];
+            if (entry == null) {
+                return null;
+            }
+            if (entry.hash == hash && entry.matches(beanType, metaBean) && entry.property.matches(chars, length)) {
+                return entry.property;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a property to the cache.
+     *
+     * @param property  the property, as resolved by the read plan, not null
+     * @param beanType  the type of the bean being parsed, not null
+     * @param metaBean  the meta-bean of the bean being parsed, not null
+     */
+    public void add(SerReadPlan.Property property, Class<?> beanType, MetaBean metaBean) {
+        if (property.getName().length() > MAX_LENGTH) {
+            return;
+        }
+        if (table == null) {
+            table = new Entry[SIZE];
+        }
+        Entry entry = new Entry(property, beanType, metaBean);
+        int index = index(entry.hash, beanType);
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            int slot = (index + probe) & (SIZE - 1);
+            if (table[slot] == null) {
+                table[slot] = entry;
+                return;
+            }
+        }
+        table[index & (SIZE - 1)] = entry;
+    }
+
+    // combines the hash of the name with that of the bean type
+    private static int index(int hash, Class<?> beanType) {
+        int combined = hash ^ (beanType.hashCode() * 31);
+        return combined ^ (combined >>> 16);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An entry in the cache.
+     */
+    private static final class Entry {
+        /**
+         * The hash of the name, which matches {@code String.hashCode()}.
+         */
+        private final int hash;
+        /**
+         * The property.
+         */
+        private final SerReadPlan.Property property;
+        /**
+         * The bean type.
+         */
+        private final Class<?> beanType;
+        /**
+         * The meta-bean.
+         */
+        private final MetaBean metaBean;
+
+        Entry(SerReadPlan.Property property, Class<?> beanType, MetaBean metaBean) {
+            this.hash = property.getName().hashCode();
+            this.property = property;
+            this.beanType = beanType;
+            this.metaBean = metaBean;
+        }
+
+        // checks if the bean matches
+        boolean matches(Class<?> beanType, MetaBean metaBean) {
+            return this.beanType == beanType && this.metaBean == metaBean;
+        }
+    }
+
+}
@@ -0,0 +1,417 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.joda.beans.DynamicMetaBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+
+/**
+ * Plan for reading a type of bean, used by serialization implementations.
+ * <p>
+ * The plan holds the deserializer and meta-bean for the type, together with a hash table
+ * from each known property name to a property that already knows the effective type
+ * and whether the value is wrapped in an optional.
+ * The table is built to be collision-free where possible, so that finding a property
+ * from the raw input normally takes a single comparison and creates no {@code String}.
+ * Names that are not in the table, such as aliases or unknown properties,
+ * are resolved using {@link #resolve(String)}.
+ * <p>
+ * Plans are cached by the {@link JodaBeanSer} settings, keyed by the type of the bean,
+ * and are rebuilt if a different deserializer is registered for the type.
+ * Dynamic beans, such as {@code FlexiBean}, are planned afresh each time with an empty table,
+ * thus readers should hold the properties they resolve in a {@link SerPropertyNameCache}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class SerReadPlan {
+
+    /**
+     * The number of seeds to try for each table size.
+     */
+    private static final int SEEDS = 32;
+    /**
+     * The empty table.
+     */
+    private static final Property[] EMPTY = new Property[0];
+
+    /**
+     * The bean type.
+     */
+    private final Class<?> beanType;
+    /**
+     * The deserializer.
+     */
+    private final SerDeserializer deserializer;
+    /**
+     * The meta-bean.
+     */
+    private final MetaBean metaBean;
+    /**
+     * The hash table of known properties.
+     */
+    private final Property[] table;
+    /**
+     * The multiplier used to hash names.
+     */
+    private final int seed;
+    /**
+     * The shift used to convert a hash to an index.
+     */
+    private final int shift;
+    /**
+     * The maximum number of extra slots to probe, zero if the table is collision-free.
+     */
+    private final int maxProbe;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the plan for reading a type of bean.
+     *
+     * @param beanType  the type of the bean, not null
+     * @param settings  the settings, not null
+     * @return the plan, not null
+     */
+    public static SerReadPlan of(Class<?> beanType, JodaBeanSer settings) {
+        SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
+        AtomicReference<SerReadPlan> cached = settings.getReadPlan(beanType);
+        SerReadPlan plan = cached.get();
+        if (plan != null && plan.deserializer == deser) {
+            return plan;
+        }
+        MetaBean metaBean = deser.findMetaBean(beanType);
+        if (metaBean instanceof DynamicMetaBean) {
+            return new SerReadPlan(beanType, deser, metaBean, EMPTY, 0, 0, 0);
+        }
+        plan = create(beanType, deser, metaBean);
+        cached.set(plan);
+        return plan;
+    }
+
+    // creates the plan, searching for a collision-free table
+    private static SerReadPlan create(Class<?> beanType, SerDeserializer deser, MetaBean metaBean) {
+        List<Property> list = new ArrayList<>();
+        for (MetaProperty<?> metaProp : metaBean.metaPropertyIterable()) {
+            String name = metaProp.name();
+            if (isAscii(name)) {
+                try {
+                    list.add(new Property(name, deser.findMetaProperty(beanType, metaBean, name), beanType));
+                } catch (RuntimeException ex) {
+                    // leave the error to be reported when the name is read
+                }
+            }
+        }
+        if (list.isEmpty()) {
+            return new SerReadPlan(beanType, deser, metaBean, EMPTY, 0, 0, 0);
+        }
+        int minBits = Math.max(3, 33 - Integer.numberOfLeadingZeros(list.size() - 1));
+        for (int bits = minBits; bits <= minBits + 3; bits++) {
+            for (int i = 0; i < SEEDS; i++) {
+                int seed = 0x9E3779B9 * (2 * i + 1);
+                Property[] table = buildPerfect(list, bits, seed);
+                if (table != null) {
+                    return new SerReadPlan(beanType, deser, metaBean, table, seed, 32 - bits, 0);
+                }
+            }
+        }
+        // fallback to linear probing
+        int bits = minBits + 3;
+        int shift = 32 - bits;
+        Property[] table = new Property[1 << bits];
+        int maxProbe = 0;
+        for (Property prop : list) {
+            int index = (prop.hash * 0x9E3779B9) >>> shift;
+            int probe = 0;
+            while (table[(index + probe) & (table.length - 1)] != null) {
+                probe++;
+            }
+            table[(index + probe) & (table.length - 1)] = prop;
+            maxProbe = Math.max(maxProbe, probe);
+        }
+        return new SerReadPlan(beanType, deser, metaBean, table, 0x9E3779B9, shift, maxProbe);
+    }
+
+    // builds a table with no collisions, null if not possible with the seed
+    private static Property[] buildPerfect(List<Property> list, int bits, int seed) {
+        Property[] table = new Property[1 << bits];
+        int shift = 32 - bits;
+        for (Property prop : list) {
+            int index = (prop.hash * seed) >>> shift;
+            if (table[index] != null) {
+                return null;
+            }
+            table[index] = prop;
+        }
+        return table;
+    }
+
+    // checks if the name is ASCII
+    private static boolean isAscii(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param beanType  the type of the bean, not null
+     * @param deserializer  the deserializer, not null
+     * @param metaBean  the meta-bean, not null
+     * @param table  the table, not null
+     * @param seed  the hash multiplier
+     * @param shift  the hash shift
+     * @param maxProbe  the maximum probe
+     */
+    private SerReadPlan(
+            Class<?> beanType,
+            SerDeserializer deserializer,
+            MetaBean metaBean,
+            Property[] table,
+            int seed,
+            int shift,
+            int maxProbe) {
+
+        this.beanType = beanType;
+        this.deserializer = deserializer;
+        this.metaBean = metaBean;
+        this.table = table;
+        this.seed = seed;
+        this.shift = shift;
+        this.maxProbe = maxProbe;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the deserializer.
+     *
+     * @return the deserializer, not null
+     */
+    public SerDeserializer getDeserializer() {
+        return deserializer;
+    }
+
+    /**
+     * Gets the meta-bean.
+     *
+     * @return the meta-bean, not null
+     */
+    public MetaBean getMetaBean() {
+        return metaBean;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds a known property from the UTF-8 bytes of the name.
+     *
+     * @param bytes  the array holding the encoded name, not null
+     * @param offset  the offset of the name in the array
+     * @param length  the length of the encoded name
+     * @return the property, null if not in the table
+     */
+    public Property find(byte[] bytes, int offset, int length) {
+        if (table.length == 0) {
+            return null;
+        }
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[offset + i];
+            if (b < 0) {
+                return null;
+            }
+            hash = 31 * hash + b;
+        }
+        int index = (hash * seed) >>> shift;
+        for (int probe = 0; probe <= maxProbe; probe++) {
+            Property prop = table[(index + probe) & (table.length - 1)];
+            if (prop == null) {
+                return null;
+            }
+            if (prop.hash == hash && prop.matches(bytes, offset, length)) {
+                return prop;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds a known property from the characters of the name.
+     *
+     * @param chars  the characters of the name, not null
+     * @return the property, null if not in the table
+     */
+    public Property find(CharSequence chars) {
+        if (table.length == 0) {
+            return null;
+        }
+        int length = chars.length();
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        int index = (hash * seed) >>> shift;
+        for (int probe = 0; probe <= maxProbe; probe++) {
+            Property prop = table[(index + probe) & (table.length - 1)];
+            if (prop == null) {
+                return null;
+            }
+            if (prop.hash == hash && prop.matches(chars, length)) {
+                return prop;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves a property name that is not in the table using the deserializer.
+     * <p>
+     * The result is not added to the plan.
+     *
+     * @param name  the property name, not null
+     * @return the property, not null
+     */
+    public Property resolve(String name) {
+        return new Property(name, deserializer.findMetaProperty(beanType, metaBean, name), beanType);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A property within the plan.
+     */
+    public static final class Property {
+        /**
+         * The hash of the name, which matches {@code String.hashCode()}.
+         */
+        private final int hash;
+        /**
+         * The property name, as found in the input.
+         */
+        private final String name;
+        /**
+         * The meta-property, null if the property is not known.
+         */
+        private final MetaProperty<?> metaProperty;
+        /**
+         * The type of the property, with any optional wrapper removed, null if skipped.
+         */
+        private final Class<?> type;
+        /**
+         * Whether the property is an optional.
+         */
+        private final boolean optional;
+        /**
+         * The bean type.
+         */
+        private final Class<?> beanType;
+
+        Property(String name, MetaProperty<?> metaProperty, Class<?> beanType) {
+            this.hash = name.hashCode();
+            this.name = name;
+            this.beanType = beanType;
+            if (metaProperty == null || metaProperty.style().isDerived()) {
+                this.metaProperty = null;
+                this.type = null;
+                this.optional = false;
+            } else {
+                this.metaProperty = metaProperty;
+                this.type = SerOptional.extractType(metaProperty, beanType);
+                this.optional = SerOptional.isOptional(metaProperty);
+            }
+        }
+
+        /**
+         * Gets the property name, as found in the input.
+         *
+         * @return the name, not null
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Checks if the property should be skipped.
+         * <p>
+         * Unknown and derived properties are skipped.
+         *
+         * @return true if the value should be skipped
+         */
+        public boolean isSkipped() {
+            return metaProperty == null;
+        }
+
+        /**
+         * Gets the meta-property.
+         *
+         * @return the meta-property, null if skipped
+         */
+        public MetaProperty<?> getMetaProperty() {
+            return metaProperty;
+        }
+
+        /**
+         * Gets the type of the property, with any optional wrapper removed.
+         *
+         * @return the type, null if skipped
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Wraps the value of the property if it is an optional.
+         *
+         * @param value  the value to wrap, may be null
+         * @return the value of the property, with any optional wrapper added
+         */
+        public Object wrapValue(Object value) {
+            return optional ? SerOptional.wrapValue(metaProperty, beanType, value) : value;
+        }
+
+        // checks if the ASCII bytes match
+        boolean matches(byte[] bytes, int offset, int length) {
+            if (name.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (name.charAt(i) != bytes[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // checks if the characters match
+        boolean matches(CharSequence chars, int length) {
+            if (name.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (name.charAt(i) != chars.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+}
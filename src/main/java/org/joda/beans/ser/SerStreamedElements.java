@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.util.Iterator;
+
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+
+/**
+ * A collection property of the root bean whose elements are streamed when writing,
+ * used by serialization implementations.
+ * <p>
+ * The elements of the property are taken from an iterator, rather than the bean,
+ * and are written as they are produced, without building the collection.
+ * As the number of elements is not known in advance, the elements are never wrapped
+ * in a collection or {@link SerIterator}. Instead, a writer iterates them directly.
+ * <p>
+ * A writer calls {@link #startBean(SerWritePlan)} when each bean is started, which only returns
+ * the index of the property for the root bean. Each element is then written in the same way as
+ * an element of any other collection, using the iterator returned by
+ * {@link #elementTypes(JodaBeanSer, MetaProperty, Class)} as the parent iterator.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * A new instance must be created for each message.
+ */
+public final class SerStreamedElements {
+
+    /**
+     * The name of the property.
+     */
+    private final String propertyName;
+    /**
+     * The elements.
+     */
+    private final Iterator<?> elements;
+    /**
+     * Whether the root bean has been started.
+     */
+    private boolean started;
+
+    /**
+     * Obtains an instance.
+     *
+     * @param propertyName  the name of the collection property of the root bean to stream, not null
+     * @param elements  the elements of the property, not null
+     * @return the streamed elements, not null
+     */
+    public static SerStreamedElements of(String propertyName, Iterator<?> elements) {
+        JodaBeanUtils.notNull(propertyName, "propertyName");
+        JodaBeanUtils.notNull(elements, "elements");
+        return new SerStreamedElements(propertyName, elements);
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param propertyName  the name of the property, not null
+     * @param elements  the elements, not null
+     */
+    private SerStreamedElements(String propertyName, Iterator<?> elements) {
+        this.propertyName = propertyName;
+        this.elements = elements;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Called when a bean is started, returning the index of the property to stream.
+     * <p>
+     * The first bean started is the root bean.
+     *
+     * @param plan  the plan for writing the bean, not null
+     * @return the index of the property in the plan, -1 if not the root bean
+     * @throws IllegalArgumentException if the root bean does not have the property
+     */
+    public int startBean(SerWritePlan plan) {
+        if (started) {
+            return -1;
+        }
+        started = true;
+        int index = plan.indexOf(propertyName);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown property to stream: " + propertyName);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the elements to write.
+     * <p>
+     * The iterator is advanced as the elements are written.
+     *
+     * @return the elements, not null
+     */
+    public Iterator<?> getElements() {
+        return elements;
+    }
+
+    /**
+     * Creates the iterator describing the type of the elements.
+     * <p>
+     * This is used as the parent iterator when writing each element.
+     * See {@link SerIteratorFactory#createStreamed(MetaProperty, Class)}.
+     *
+     * @param settings  the settings, not null
+     * @param prop  the meta-property of the streamed property, not null
+     * @param beanType  the type of the bean, not null
+     * @return the iterator, which has no elements, not null
+     * @throws IllegalArgumentException if the property is not a collection
+     */
+    public SerIterator elementTypes(JodaBeanSer settings, MetaProperty<?> prop, Class<?> beanType) {
+        SerIterator elementTypes = settings.getIteratorFactory().createStreamed(prop, beanType);
+        if (elementTypes == null) {
+            throw new IllegalArgumentException("Property cannot be streamed as it is not a collection: " + propertyName);
+        }
+        return elementTypes;
+    }
+
+}
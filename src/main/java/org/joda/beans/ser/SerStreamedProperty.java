@@ -0,0 +1,206 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+
+/**
+ * A collection property of the root bean whose elements are streamed when reading,
+ * used by serialization implementations.
+ * <p>
+ * The elements of the property are parsed one at a time and passed to a consumer
+ * in the order they occur, without building the collection.
+ * This allows a root bean holding a very large collection to be read without holding
+ * all the elements in memory at the same time.
+ * The root bean is built from the other properties, with the streamed property not set.
+ * <p>
+ * A reader calls {@link #startBean(MetaBean)} when each bean is started, which only returns
+ * the name of the property for the root bean. The value of the property is then parsed in the
+ * same way as any other value, handling any type information in the input, except that the
+ * collection is built using the iterable returned by {@link #iterable(SerIterable)}.
+ * Finally, {@link #endProperty(Object)} checks that the value was a collection.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * A new instance must be created for each message.
+ */
+public final class SerStreamedProperty {
+
+    /**
+     * The name of the property.
+     */
+    private final String propertyName;
+    /**
+     * The consumer of the elements.
+     */
+    private final Consumer<Object> consumer;
+    /**
+     * Whether the root bean has been started.
+     */
+    private boolean started;
+    /**
+     * Whether the next value to be parsed is the value of the property.
+     */
+    private boolean pending;
+
+    /**
+     * Obtains an instance.
+     *
+     * @param propertyName  the name of the collection property of the root bean to stream, not null
+     * @param consumer  the consumer of the elements, not null
+     * @return the streamed property, not null
+     */
+    public static SerStreamedProperty of(String propertyName, Consumer<Object> consumer) {
+        JodaBeanUtils.notNull(propertyName, "propertyName");
+        JodaBeanUtils.notNull(consumer, "consumer");
+        return new SerStreamedProperty(propertyName, consumer);
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param propertyName  the name of the property, not null
+     * @param consumer  the consumer of the elements, not null
+     */
+    private SerStreamedProperty(String propertyName, Consumer<Object> consumer) {
+        this.propertyName = propertyName;
+        this.consumer = consumer;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Called when a bean is started, returning the name of the property to stream.
+     * <p>
+     * The first bean started is the root bean.
+     *
+     * @param metaBean  the meta-bean of the bean, not null
+     * @return the name of the property to stream, null if not the root bean
+     * @throws IllegalArgumentException if the root bean does not have the property
+     */
+    public String startBean(MetaBean metaBean) {
+        if (started) {
+            return null;
+        }
+        started = true;
+        if (metaBean.metaPropertyExists(propertyName) == false) {
+            throw new IllegalArgumentException("Unknown property to stream: " + propertyName);
+        }
+        return propertyName;
+    }
+
+    /**
+     * Called before the value of the property is parsed.
+     * <p>
+     * This is used by readers that parse the value using a general method.
+     * The method calls {@link #startValue()} before it parses anything.
+     */
+    public void startProperty() {
+        pending = true;
+    }
+
+    /**
+     * Called when the parsing of any value starts, returning whether it is the value of the property.
+     * <p>
+     * Only the first value parsed after {@link #startProperty()} is the value of the property,
+     * any values nested within it are not.
+     *
+     * @return true if the value is the value of the property
+     */
+    public boolean startValue() {
+        boolean result = pending;
+        pending = false;
+        return result;
+    }
+
+    /**
+     * Wraps the iterable used to build the value of the property.
+     * <p>
+     * The returned iterable passes each element to the consumer, and builds null.
+     *
+     * @param iterable  the iterable for the value of the property, null if not collection-like
+     * @return the iterable to use, not null
+     * @throws IllegalArgumentException if the property is not a collection
+     */
+    public SerIterable iterable(SerIterable iterable) {
+        if (iterable == null || iterable.category() != SerCategory.COLLECTION) {
+            throw notCollection();
+        }
+        return new StreamedIterable(iterable, consumer);
+    }
+
+    /**
+     * Called after the value of the property is parsed.
+     *
+     * @param value  the parsed value, which is null if built by {@link #iterable(SerIterable)}
+     * @throws IllegalArgumentException if the property is not a collection
+     */
+    public void endProperty(Object value) {
+        pending = false;
+        if (value != null) {
+            throw notCollection();
+        }
+    }
+
+    // creates the exception when the property is not a collection
+    private IllegalArgumentException notCollection() {
+        return new IllegalArgumentException("Property cannot be streamed as it is not a collection: " + propertyName);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Iterable that passes each element to the consumer.
+     */
+    private static final class StreamedIterable extends SerIterable {
+        private final SerIterable underlying;
+        private final Consumer<Object> consumer;
+
+        StreamedIterable(SerIterable underlying, Consumer<Object> consumer) {
+            this.underlying = underlying;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public SerIterator iterator() {
+            return underlying.iterator();
+        }
+
+        @Override
+        public void add(Object key, Object column, Object value, int count) {
+            for (int i = 0; i < count; i++) {
+                consumer.accept(value);
+            }
+        }
+
+        @Override
+        public Object build() {
+            return null;
+        }
+
+        @Override
+        public Class<?> valueType() {
+            return underlying.valueType();
+        }
+
+        @Override
+        public List<Class<?>> valueTypeTypes() {
+            return underlying.valueTypeTypes();
+        }
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.joda.beans.Bean;
+import org.joda.beans.DynamicMetaBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+
+/**
+ * Plan for writing a type of bean, used by serialization implementations.
+ * <p>
+ * The plan holds the properties of the bean that are to be serialized, in order,
+ * together with the information needed to write each one that does not depend on the value.
+ * Plans are cached by the {@link JodaBeanSer} settings, keyed by the type of the bean.
+ * Dynamic beans, such as {@code FlexiBean}, are planned afresh each time.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class SerWritePlan {
+
+    /**
+     * The meta-bean.
+     */
+    private final MetaBean metaBean;
+    /**
+     * The properties to write.
+     */
+    private final Property[] properties;
+
+    /**
+     * Obtains the plan for writing a bean.
+     *
+     * @param bean  the bean to write, not null
+     * @param settings  the settings, not null
+     * @return the plan, not null
+     */
+    public static SerWritePlan of(Bean bean, JodaBeanSer settings) {
+        MetaBean metaBean = bean.metaBean();
+        if (metaBean instanceof DynamicMetaBean) {
+            return new SerWritePlan(metaBean, bean.getClass(), settings);
+        }
+        AtomicReference<SerWritePlan> cached = settings.getWritePlan(bean.getClass());
+        SerWritePlan plan = cached.get();
+        if (plan == null) {
+            plan = new SerWritePlan(metaBean, bean.getClass(), settings);
+            cached.compareAndSet(null, plan);
+        } else if (plan.metaBean != metaBean) {
+            plan = new SerWritePlan(metaBean, bean.getClass(), settings);
+        }
+        return plan;
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param metaBean  the meta-bean, not null
+     * @param beanType  the type of the bean, not null
+     * @param settings  the settings, not null
+     */
+    private SerWritePlan(MetaBean metaBean, Class<?> beanType, JodaBeanSer settings) {
+        // a factory other than the default might create an iterator for any type, so no properties are simple
+        SerConverterCache converters = settings.getIteratorFactory() == SerIteratorFactory.INSTANCE ?
+                SerConverterCache.of(settings) : null;
+        List<Property> list = new ArrayList<>();
+        for (MetaProperty<?> metaProp : metaBean.metaPropertyIterable()) {
+            if (settings.isSerialized(metaProp)) {
+                list.add(new Property(metaProp, beanType, converters));
+            }
+        }
+        this.metaBean = metaBean;
+        this.properties = list.toArray(new Property[list.size()]);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the meta-bean.
+     *
+     * @return the meta-bean, not null
+     */
+    public MetaBean getMetaBean() {
+        return metaBean;
+    }
+
+    /**
+     * Gets the number of properties to write.
+     *
+     * @return the number of properties
+     */
+    public int propertyCount() {
+        return properties.length;
+    }
+
+    /**
+     * Gets a property to write by index.
+     *
+     * @param index  the index, from zero to the property count
+     * @return the property, not null
+     */
+    public Property property(int index) {
+        return properties[index];
+    }
+
+    /**
+     * Finds the index of a property to write by name.
+     *
+     * @param name  the property name, not null
+     * @return the index, -1 if the property is not written
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i].name.equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A property within the plan.
+     */
+    public static final class Property {
+        /**
+         * The meta-property.
+         */
+        private final MetaProperty<?> metaProperty;
+        /**
+         * The property name.
+         */
+        private final String name;
+        /**
+         * The type of the property, with any optional wrapper removed.
+         */
+        private final Class<?> type;
+        /**
+         * Whether the property is an optional.
+         */
+        private final boolean optional;
+        /**
+         * Whether the value is always written as a simple type.
+         */
+        private final boolean simple;
+        /**
+         * Whether the value is a primitive that is written as a simple type.
+         */
+        private final boolean primitive;
+
+        Property(MetaProperty<?> metaProperty, Class<?> beanType, SerConverterCache converters) {
+            this.metaProperty = metaProperty;
+            this.name = metaProperty.name();
+            this.type = SerOptional.extractType(metaProperty, beanType);
+            this.optional = SerOptional.isOptional(metaProperty);
+            this.simple = converters != null && isSimpleType(type, converters);
+            this.primitive = simple && type.isPrimitive();
+        }
+
+        // checks if the type is a JDK value type that has a converter and is never a bean or collection
+        private static boolean isSimpleType(Class<?> type, SerConverterCache converters) {
+            if (type.isPrimitive()) {
+                return true;
+            }
+            return type.isArray() == false &&
+                    Modifier.isFinal(type.getModifiers()) &&
+                    type.getName().startsWith("java.") &&
+                    Iterable.class.isAssignableFrom(type) == false &&
+                    Map.class.isAssignableFrom(type) == false &&
+                    converters.isConvertible(type);
+        }
+
+        /**
+         * Gets the meta-property.
+         *
+         * @return the meta-property, not null
+         */
+        public MetaProperty<?> getMetaProperty() {
+            return metaProperty;
+        }
+
+        /**
+         * Gets the property name.
+         *
+         * @return the name, not null
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the type of the property, with any optional wrapper removed.
+         *
+         * @return the type, not null
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Checks if the value is always written as a simple type.
+         * <p>
+         * This is true when the type is a JDK value type, such as {@code String} or {@code int},
+         * that has a string converter and is never a bean or a collection.
+         * It is always false if the settings use an iterator factory other than the default.
+         * Such values can be written directly using the string converter.
+         *
+         * @return true if the value is simple
+         */
+        public boolean isSimple() {
+            return simple;
+        }
+
+        /**
+         * Checks if the value is a primitive that is always written as a simple type.
+         * <p>
+         * Such values can be obtained without boxing using the primitive accessors of
+         * {@link MetaProperty}, such as {@link MetaProperty#getDouble(Bean)}.
+         * A primitive value is never null.
+         *
+         * @return true if the value is a simple primitive
+         */
+        public boolean isPrimitive() {
+            return primitive;
+        }
+
+        /**
+         * Extracts the value of the property from a bean, unwrapping any optional.
+         *
+         * @param bean  the bean to query, not null
+         * @return the value, with any optional wrapper removed, null if no value
+         */
+        public Object extractValue(Bean bean) {
+            return optional ? SerOptional.extractValue(metaProperty, bean) : metaProperty.get(bean);
+        }
+    }
+
+}
@@ -15,10 +15,17 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataInputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -26,9 +33,12 @@ import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerConverterCache;
 import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerIterable;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerPropertyNameCache;
+import org.joda.beans.ser.SerReadPlan;
+import org.joda.beans.ser.SerStreamedProperty;
 import org.joda.beans.ser.SerTypeMapper;
 
 /**
@@ -46,7 +56,7 @@ abstract class AbstractBinReader extends MsgPack {
     /**
      * The reader.
      */
-    final DataInputStream input;  // CSIGNORE
+    final MsgPackDataInput input;  // CSIGNORE
     /**
      * The base package including the trailing dot.
      */
@@ -54,13 +64,47 @@ abstract class AbstractBinReader extends MsgPack {
     /**
      * The known types.
      */
-    private Map<String, Class<?>> knownTypes = new HashMap<>();
+    private final Map<String, Class<?>> knownTypes;
+    /**
+     * The cache of property names.
+     */
+    private final SerPropertyNameCache propertyNames;
+    /**
+     * The property of the root bean to stream, null if not streaming.
+     */
+    private SerStreamedProperty streamed;
+    /**
+     * Whether the data may contain compact values.
+     */
+    private final boolean compactValues;
+    /**
+     * The enum name table of the compact value format, null until the first name is read.
+     */
+    private List<String> enumNames;
 
     //-----------------------------------------------------------------------
     // creates an instance
-    AbstractBinReader(JodaBeanSer settings, DataInputStream input) {
+    AbstractBinReader(JodaBeanSer settings, MsgPackDataInput input) {
+        this(settings, input, false);
+    }
+
+    // creates an instance, optionally reading compact values
+    AbstractBinReader(JodaBeanSer settings, MsgPackDataInput input, boolean compactValues) {
         this.settings = settings;
         this.input = input;
+        this.knownTypes = new HashMap<>();
+        this.propertyNames = new SerPropertyNameCache();
+        this.compactValues = compactValues;
+    }
+
+    // creates an instance that continues from an earlier reader, sharing the known types and property names
+    AbstractBinReader(AbstractBinReader previous, MsgPackDataInput input) {
+        this.settings = previous.settings;
+        this.input = input;
+        this.basePackage = previous.basePackage;
+        this.knownTypes = previous.knownTypes;
+        this.propertyNames = previous.propertyNames;
+        this.compactValues = previous.compactValues;
     }
 
     //-----------------------------------------------------------------------
@@ -79,6 +123,12 @@ abstract class AbstractBinReader extends MsgPack {
         }
     }
 
+    // reads the input stream, passing the elements of a collection property of the root bean to the consumer
+    <T> T read(Class<T> rootType, String propertyName, Consumer<Object> consumer) {
+        this.streamed = SerStreamedProperty.of(propertyName, consumer);
+        return read(rootType);
+    }
+
     <T> T parseRemaining(Class<T> declaredType) throws Exception {
         // the array and version has already been read
         Object parsed = parseObject(declaredType, null, null, null, true);
@@ -88,18 +138,34 @@ abstract class AbstractBinReader extends MsgPack {
     Object parseBean(int propertyCount, Class<?> beanType) {
         String propName = "";
         try {
-            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
-            MetaBean metaBean = deser.findMetaBean(beanType);
+            SerReadPlan plan = SerReadPlan.of(beanType, settings);
+            SerDeserializer deser = plan.getDeserializer();
+            MetaBean metaBean = plan.getMetaBean();
             BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            String streamName = startBean(metaBean);
             for (int i = 0; i < propertyCount; i++) {
                 // property name
-                propName = acceptPropertyName();
-                MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
-                if (metaProp == null || metaProp.style().isDerived()) {
-                    MsgPackInput.skipObject(input);
+                int size = acceptStringSize(input.readByte());
+                byte[] bytes = input.readView(size);
+                int offset = input.viewOffset();
+                SerReadPlan.Property prop = plan.find(bytes, offset, size);
+                if (prop == null) {
+                    prop = propertyNames.find(bytes, offset, size, beanType, metaBean);
+                    if (prop == null) {
+                        propName = new String(bytes, offset, size, UTF_8);
+                        prop = plan.resolve(propName);
+                        propertyNames.add(prop, beanType, metaBean);
+                    }
+                }
+                propName = prop.getName();
+                if (prop.isSkipped()) {
+                    skipObject();
+                } else if (streamName != null && prop.getMetaProperty().name().equals(streamName)) {
+                    parseStreamed(prop.getType(), prop.getMetaProperty(), beanType);
                 } else {
-                    Object value = parseObject(SerOptional.extractType(metaProp, beanType), metaProp, beanType, null, false);
-                    deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
+                    MetaProperty<?> metaProp = prop.getMetaProperty();
+                    Object value = parseObject(prop.getType(), metaProp, beanType, null, false);
+                    deser.setValue(builder, metaProp, prop.wrapValue(value));
                 }
                 propName = "";
             }
@@ -109,19 +175,36 @@ abstract class AbstractBinReader extends MsgPack {
         }
     }
 
-    String acceptPropertyName() throws IOException {
-        byte typeByte = input.readByte();
-        return acceptString(typeByte);
+    // called when a bean is started, returning the name of the property to stream, null if not the root bean
+    String startBean(MetaBean metaBean) {
+        return streamed != null ? streamed.startBean(metaBean) : null;
+    }
+
+    // called when the parsing of a value starts, returning whether it is the value of the streamed property
+    boolean startValue() {
+        return streamed != null && streamed.startValue();
+    }
+
+    // wraps the iterable of the value of the streamed property
+    SerIterable streamedIterable(SerIterable iterable) {
+        return streamed.iterable(iterable);
+    }
+
+    // parses the value of the streamed property, passing each element to the consumer
+    void parseStreamed(Class<?> declaredType, MetaProperty<?> metaProp, Class<?> beanType) throws Exception {
+        streamed.startProperty();
+        streamed.endProperty(parseObject(declaredType, metaProp, beanType, null, false));
     }
 
     Object parseObject(Class<?> declaredType, MetaProperty<?> metaProp, Class<?> beanType, SerIterable parentIterable, boolean rootType) throws Exception {
+        boolean streamedValue = startValue();
         // establish type
         Class<?> effectiveType = declaredType;
         String metaType = null;
         int typeByte = input.readByte();
 
         if (isMap(typeByte)) {
-            input.mark(8);
+            input.mark();
             int mapSize = acceptMap(typeByte);
             if (mapSize > 0) {
                 int typeByteTemp = input.readByte();
@@ -170,7 +253,8 @@ abstract class AbstractBinReader extends MsgPack {
                 return parseSimple(typeByte, effectiveType);
             }
         } else {
-            if (isMap(typeByte) || isArray(typeByte)) {
+            boolean chunked = acceptChunked(typeByte);
+            if (isMap(typeByte) || isArray(typeByte) || chunked) {
                 SerIterable childIterable = null;
                 if (metaType != null) {
                     childIterable = settings.getIteratorFactory().createIterable(metaType, settings, knownTypes);
@@ -182,6 +266,12 @@ abstract class AbstractBinReader extends MsgPack {
                 if (childIterable == null) {
                     throw new IllegalArgumentException("Invalid binary data: Invalid metaType: " + metaType);
                 }
+                if (streamedValue) {
+                    childIterable = streamedIterable(childIterable);
+                }
+                if (chunked) {
+                    return parseIterableChunked(childIterable);
+                }
                 return parseIterable(typeByte, childIterable);
             } else {
                 return parseSimple(typeByte, effectiveType);
@@ -289,13 +379,23 @@ abstract class AbstractBinReader extends MsgPack {
         return iterable.build();
     }
 
+    Object parseIterableChunked(SerIterable iterable) throws Exception {
+        if (iterable.category() != SerCategory.COLLECTION) {
+            throw new IllegalArgumentException("Invalid binary data: Chunked array found for " + iterable.category());
+        }
+        int size = acceptArray(input.readByte());
+        while (size > 0) {
+            for (int i = 0; i < size; i++) {
+                iterable.add(null, null, parseObject(iterable.valueType(), null, null, iterable, false), 1);
+            }
+            size = acceptArray(input.readByte());
+        }
+        return iterable.build();
+    }
+
     Object parseSimple(int typeByte, Class<?> type) throws Exception {
         if (isString(typeByte)) {
-            String text = acceptString(typeByte);
-            if (type == String.class || type == Object.class) {
-                return text;
-            }
-            return settings.getConverter().convertFromString(type, text);
+            return parseText(acceptString(typeByte), type);
         }
         if (isIntegral(typeByte)) {
             long value = acceptLong(typeByte);
@@ -343,9 +443,144 @@ abstract class AbstractBinReader extends MsgPack {
             case BIN_32:
                 return acceptBinary(typeByte);
         }
+        if (compactValues && isExtension(typeByte)) {
+            Object value = parseCompactValue(typeByte, type);
+            if (type.isInstance(value)) {
+                return value;
+            }
+            throw new IllegalArgumentException(
+                    "Invalid binary data: Expected " + type.getName() + ", but was: " + value.getClass().getName());
+        }
         throw new IllegalArgumentException("Invalid binary data: Expected " + type.getName() + ", but was: 0x" + toHex(typeByte));
     }
 
+    // parses a simple value from text
+    private Object parseText(String text, Class<?> type) {
+        if (type == String.class || type == Object.class) {
+            return text;
+        }
+        return SerConverterCache.of(settings).convertFromString(type, text);
+    }
+
+    // parses a value written using an extension type by the compact value format
+    private Object parseCompactValue(int typeByte, Class<?> type) throws IOException {
+        int size = acceptExtensionSize(typeByte);
+        int extensionType = input.readByte();
+        switch (extensionType) {
+            case JODA_TYPE_DATE:
+                return LocalDate.ofEpochDay(acceptExtensionLong(size));
+            case TIMESTAMP:
+                return parseTimestamp(size);
+            case JODA_TYPE_UUID:
+                if (size != 16) {
+                    throw new IllegalArgumentException("Invalid binary data: Expected UUID of size 16, but was: " + size);
+                }
+                return new UUID(input.readLong(), input.readLong());
+            case JODA_TYPE_DECIMAL:
+                return parseDecimal(size);
+            case JODA_TYPE_ENUM: {
+                String name = input.readString(size);
+                addEnumName(name);
+                return parseEnum(name, type);
+            }
+            case JODA_TYPE_ENUM_REF:
+                return parseEnum(getEnumName((int) acceptExtensionLong(size)), type);
+            default:
+                throw new IllegalArgumentException(
+                        "Invalid binary data: Expected " + type.getName() + ", but was extension type: " + extensionType);
+        }
+    }
+
+    // adds a name to the enum name table
+    private void addEnumName(String name) {
+        if (enumNames == null) {
+            enumNames = new ArrayList<>();
+        }
+        enumNames.add(name);
+    }
+
+    // gets a name from the enum name table
+    private String getEnumName(int index) {
+        if (enumNames == null || index < 0 || index >= enumNames.size()) {
+            throw new IllegalArgumentException("Invalid binary data: Unknown enum reference: " + index);
+        }
+        return enumNames.get(index);
+    }
+
+    // parses a MessagePack timestamp
+    private Instant parseTimestamp(int size) throws IOException {
+        switch (size) {
+            case 4:
+                return Instant.ofEpochSecond(input.readInt() & 0xFFFFFFFFL);
+            case 8: {
+                long data = input.readLong();
+                return Instant.ofEpochSecond(data & 0x3FFFFFFFFL, data >>> 34);
+            }
+            case 12: {
+                int nanos = input.readInt();
+                return Instant.ofEpochSecond(input.readLong(), nanos);
+            }
+            default:
+                throw new IllegalArgumentException("Invalid binary data: Expected timestamp of size 4, 8 or 12, but was: " + size);
+        }
+    }
+
+    // parses a decimal, as the scale followed by the unscaled value
+    private BigDecimal parseDecimal(int size) throws IOException {
+        int scale = input.readByte();
+        int remaining = size - 1;
+        if (scale == Byte.MIN_VALUE) {
+            scale = input.readInt();
+            remaining -= 4;
+        }
+        if (remaining <= 0) {
+            throw new IllegalArgumentException("Invalid binary data: Expected decimal, but was size: " + size);
+        }
+        if (remaining <= 8) {
+            long unscaled = input.readByte();
+            for (int i = 1; i < remaining; i++) {
+                unscaled = (unscaled << 8) | input.readUnsignedByte();
+            }
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+        byte[] unscaled = new byte[remaining];
+        input.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    // parses an enum from its name
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Object parseEnum(String name, Class<?> type) {
+        if (type.isEnum()) {
+            return Enum.valueOf((Class) type, name);
+        }
+        return parseText(name, type);
+    }
+
+    //-----------------------------------------------------------------------
+    // skips over the next object, reading the extensions that affect the data that follows
+    void skipObject() throws IOException {
+        input.skipObject(this::skipExtension);
+    }
+
+    // skips the data of an extension, adding skipped enum names to the table and skipping the chunks of a chunked array
+    private void skipExtension(int extensionType, int size) throws IOException {
+        if (compactValues && extensionType == JODA_TYPE_ENUM) {
+            addEnumName(input.readString(size));
+            return;
+        }
+        input.skipBytes(size);
+        if (extensionType == JODA_TYPE_CHUNKED) {
+            int chunkSize = acceptArray(input.readByte());
+            while (chunkSize > 0) {
+                for (int i = 0; i < chunkSize; i++) {
+                    skipObject();
+                }
+                chunkSize = acceptArray(input.readByte());
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     int acceptMap(int typeByte) throws IOException {
         int size;
@@ -364,6 +599,61 @@ abstract class AbstractBinReader extends MsgPack {
         return size;
     }
 
+    // checks for the start of a chunked array, consuming it if found
+    boolean acceptChunked(int typeByte) throws IOException {
+        if (typeByte != EXT_8) {
+            return false;
+        }
+        input.mark();
+        if (input.readUnsignedByte() == 0 && input.readByte() == JODA_TYPE_CHUNKED) {
+            return true;
+        }
+        input.reset();
+        return false;
+    }
+
+    int acceptExtensionSize(int typeByte) throws IOException {
+        switch (typeByte) {
+            case FIX_EXT_1:
+                return 1;
+            case FIX_EXT_2:
+                return 2;
+            case FIX_EXT_4:
+                return 4;
+            case FIX_EXT_8:
+                return 8;
+            case FIX_EXT_16:
+                return 16;
+            case EXT_8:
+                return input.readUnsignedByte();
+            case EXT_16:
+                return input.readUnsignedShort();
+            case EXT_32: {
+                int size = input.readInt();
+                if (size < 0) {
+                    throw new IllegalArgumentException("Invalid binary data: Extension too large");
+                }
+                return size;
+            }
+        }
+        throw new IllegalArgumentException("Invalid binary data: Expected extension, but was: 0x" + toHex(typeByte));
+    }
+
+    // reads the signed data of a FIX_EXT extension
+    long acceptExtensionLong(int size) throws IOException {
+        switch (size) {
+            case 1:
+                return input.readByte();
+            case 2:
+                return input.readShort();
+            case 4:
+                return input.readInt();
+            case 8:
+                return input.readLong();
+        }
+        throw new IllegalArgumentException("Invalid binary data: Expected extension of size 1, 2, 4 or 8, but was: " + size);
+    }
+
     int acceptArray(int typeByte) throws IOException {
         int size;
         if (typeByte >= MIN_FIX_ARRAY && typeByte <= MAX_FIX_ARRAY) {
@@ -382,6 +672,10 @@ abstract class AbstractBinReader extends MsgPack {
     }
 
     String acceptString(int typeByte) throws IOException {
+        return acceptStringBytes(acceptStringSize(typeByte));
+    }
+
+    int acceptStringSize(int typeByte) throws IOException {
         int size;
         if (typeByte >= MIN_FIX_STR && typeByte <= MAX_FIX_STR) {
             size = (typeByte - MIN_FIX_STR);
@@ -397,23 +691,11 @@ abstract class AbstractBinReader extends MsgPack {
         } else {
             throw new IllegalArgumentException("Invalid binary data: Expected string, but was: 0x" + toHex(typeByte));
         }
-        return acceptStringBytes(size);
+        return size;
     }
 
     String acceptStringBytes(int size) throws IOException {
-        byte[] bytes = new byte[size];
-        input.readFully(bytes);
-        // inline common ASCII case for much better performance
-        char[] chars = new char[size];
-        for (int i = 0; i < size; i++) {
-            byte b = bytes[i];
-            if (b >= 0) {
-                chars[i] = (char) b;
-            } else {
-                return new String(bytes, UTF_8);
-            }
-        }
-        return new String(chars);
+        return input.readString(size);
     }
 
     byte[] acceptBinary(int typeByte) throws IOException {
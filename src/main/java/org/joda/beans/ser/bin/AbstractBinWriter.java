@@ -16,17 +16,25 @@
 package org.joda.beans.ser.bin;
 
 import java.io.IOException;
-import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.UUID;
 
 import org.joda.beans.Bean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerConverterCache;
+import org.joda.beans.ser.SerEncodedNameCache;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerStreamedElements;
 import org.joda.beans.ser.SerTypeMapper;
+import org.joda.beans.ser.SerWritePlan;
 
 /**
  * Provides the ability for a Joda-Bean to be written to both the standard and referencing binary formats.
@@ -36,6 +44,20 @@ import org.joda.beans.ser.SerTypeMapper;
  */
 abstract class AbstractBinWriter {
 
+    /**
+     * The maximum number of elements in each chunk of a streamed collection.
+     */
+    private static final int CHUNK_SIZE = 256;
+    /**
+     * The maximum length of an enum name added to the enum name table.
+     * Longer names might not fit in an EXT_8 when encoded as UTF-8, and are written as strings.
+     */
+    private static final int MAX_ENUM_NAME_LENGTH = 85;
+    /**
+     * The encoded property names.
+     */
+    private static final SerEncodedNameCache ENCODED_NAMES = SerEncodedNameCache.of(MsgPackOutput::encodeString);
+
     /**
      * The settings to use.
      */
@@ -44,6 +66,10 @@ abstract class AbstractBinWriter {
      * The output stream.
      */
     final MsgPackOutput output;  // CSIGNORE
+    /**
+     * Whether to write common value types using extension types, rather than as strings.
+     */
+    private final boolean compactValues;
     /**
      * The base package including the trailing dot.
      */
@@ -52,11 +78,36 @@ abstract class AbstractBinWriter {
      * The known types.
      */
     private Map<Class<?>, String> knownTypes = new HashMap<>();
+    /**
+     * The elements of the property of the root bean to stream, null if not streaming.
+     */
+    private SerStreamedElements streamed;
+    /**
+     * The enum name table, mapping each name to its index, null until the first name is written.
+     */
+    private Map<String, Integer> enumNames;
 
     // creates an instance
-    AbstractBinWriter(JodaBeanSer settings, OutputStream output) {
+    AbstractBinWriter(JodaBeanSer settings, MsgPackOutput output) {
+        this(settings, output, false);
+    }
+
+    // creates an instance, optionally writing compact values
+    AbstractBinWriter(JodaBeanSer settings, MsgPackOutput output, boolean compactValues) {
         this.settings = settings;
-        this.output = new MsgPackOutput(output);
+        this.output = output;
+        this.compactValues = compactValues;
+    }
+
+    //-----------------------------------------------------------------------
+    // writes the property name, using the cached encoded form
+    void writePropertyName(MetaProperty<?> prop) throws IOException {
+        byte[] encoded = ENCODED_NAMES.encodedName(prop);
+        if (encoded == null) {
+            output.writeString(prop.name());
+            return;
+        }
+        output.writeEncodedString(encoded);
     }
 
     //-----------------------------------------------------------------------
@@ -64,18 +115,29 @@ abstract class AbstractBinWriter {
         writeBean(bean, bean.getClass(), rootTypeFlag ? RootType.ROOT_WITH_TYPE : RootType.ROOT_WITHOUT_TYPE);
     }
 
+    // writes the root bean, streaming the elements of a collection property
+    void writeRootBean(Bean bean, boolean rootTypeFlag, SerStreamedElements streamed) throws IOException {
+        this.streamed = streamed;
+        writeRootBean(bean, rootTypeFlag);
+    }
+
     void writeBean(Bean bean, Class<?> declaredType, RootType rootTypeFlag) throws IOException {
-        int count = bean.metaBean().metaPropertyCount();
-        MetaProperty<?>[] props = new MetaProperty<?>[count];
+        SerWritePlan plan = SerWritePlan.of(bean, settings);
+        int count = plan.propertyCount();
+        int streamIndex = (streamed != null ? streamed.startBean(plan) : -1);
         Object[] values = new Object[count];
         int size = 0;
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (settings.isSerialized(prop)) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    props[size] = prop;
-                    values[size++] = value;
-                }
+        for (int i = 0; i < count; i++) {
+            SerWritePlan.Property planProp = plan.property(i);
+            if (planProp.isPrimitive() && i != streamIndex) {
+                // primitives are never null, and are extracted when written to avoid boxing
+                size++;
+                continue;
+            }
+            Object value = (i == streamIndex ? streamed.getElements() : planProp.extractValue(bean));
+            if (value != null) {
+                values[i] = value;
+                size++;
             }
         }
         if (rootTypeFlag == RootType.ROOT_WITH_TYPE || (rootTypeFlag == RootType.NOT_ROOT && bean.getClass() != declaredType)) {
@@ -89,13 +151,26 @@ abstract class AbstractBinWriter {
         } else {
             output.writeMapHeader(size);
         }
-        for (int i = 0; i < size; i++) {
-            MetaProperty<?> prop = props[i];
+        for (int i = 0; i < count; i++) {
+            SerWritePlan.Property planProp = plan.property(i);
+            if (planProp.isPrimitive() && i != streamIndex) {
+                writePropertyName(planProp.getMetaProperty());
+                writePrimitive(planProp, bean);
+                continue;
+            }
             Object value = values[i];
-            output.writeString(prop.name());
-            Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-            if (value instanceof Bean) {
-                if (settings.getConverter().isConvertible(value.getClass())) {
+            if (value == null) {
+                continue;
+            }
+            MetaProperty<?> prop = planProp.getMetaProperty();
+            writePropertyName(prop);
+            Class<?> propType = planProp.getType();
+            if (i == streamIndex) {
+                writeStreamed(prop, bean.getClass());
+            } else if (planProp.isSimple()) {
+                writeSimple(propType, value);
+            } else if (value instanceof Bean) {
+                if (SerConverterCache.of(settings).isConvertible(value.getClass())) {
                     writeSimple(propType, value);
                 } else {
                     writeBean((Bean) value, propType, RootType.NOT_ROOT);
@@ -111,6 +186,35 @@ abstract class AbstractBinWriter {
         }
     }
 
+    // writes the streamed elements as a chunked array, as the number of elements is not known in advance
+    void writeStreamed(MetaProperty<?> prop, Class<?> beanType) throws IOException {
+        SerIterator elementTypes = streamed.elementTypes(settings, prop, beanType);
+        Iterator<?> elements = streamed.getElements();
+        output.writeExtensionString(MsgPack.JODA_TYPE_CHUNKED, "");
+        Object[] chunk = new Object[CHUNK_SIZE];
+        int chunkSize = 0;
+        while (elements.hasNext()) {
+            chunk[chunkSize++] = elements.next();
+            if (chunkSize == CHUNK_SIZE) {
+                writeChunk(chunk, chunkSize, elementTypes);
+                chunkSize = 0;
+            }
+        }
+        if (chunkSize > 0) {
+            writeChunk(chunk, chunkSize, elementTypes);
+        }
+        output.writeArrayHeader(0);
+    }
+
+    // writes a chunk of a chunked array
+    private void writeChunk(Object[] chunk, int chunkSize, SerIterator elementTypes) throws IOException {
+        output.writeArrayHeader(chunkSize);
+        for (int i = 0; i < chunkSize; i++) {
+            writeObject(elementTypes.valueType(), chunk[i], elementTypes);
+        }
+        Arrays.fill(chunk, 0, chunkSize, null);
+    }
+
     //-----------------------------------------------------------------------
     void writeMetaPropertyReference(String metaTypeName) throws IOException {
         output.writeExtensionString(MsgPack.JODA_TYPE_META, metaTypeName);
@@ -207,7 +311,7 @@ abstract class AbstractBinWriter {
     void writeObject(Class<?> declaredType, Object obj, SerIterator parentIterator) throws IOException {
         if (obj == null) {
             output.writeNil();
-        } else if (settings.getConverter().isConvertible(obj.getClass())) {
+        } else if (SerConverterCache.of(settings).isConvertible(obj.getClass())) {
             writeSimple(declaredType, obj);
         } else if (obj instanceof Bean) {
             writeBean((Bean) obj, declaredType, RootType.NOT_ROOT);
@@ -224,6 +328,23 @@ abstract class AbstractBinWriter {
     }
 
     //-----------------------------------------------------------------------
+    // write a primitive property, avoiding boxing for the common types
+    private void writePrimitive(SerWritePlan.Property planProp, Bean bean) throws IOException {
+        MetaProperty<?> metaProp = planProp.getMetaProperty();
+        Class<?> type = planProp.getType();
+        if (type == int.class) {
+            output.writeInt(metaProp.getInt(bean));
+        } else if (type == double.class) {
+            output.writeDouble(metaProp.getDouble(bean));
+        } else if (type == long.class) {
+            output.writeLong(metaProp.getLong(bean));
+        } else if (type == boolean.class) {
+            output.writeBoolean(metaProp.getBoolean(bean));
+        } else {
+            writeSimple(type, planProp.extractValue(bean));
+        }
+    }
+
     void writeSimple(Class<?> declaredType, Object value) throws IOException {
         // simple types have no need to write a type object
         Class<?> realType = value.getClass();
@@ -239,6 +360,9 @@ abstract class AbstractBinWriter {
         } else if (realType == Boolean.class) {
             output.writeBoolean(((Boolean) value).booleanValue());
             return;
+        } else if (compactValues && writeCompactValue(realType, value)) {
+            // the extension type identifies the type, so no type object is needed
+            return;
         }
 
         // handle no declared type and subclasses
@@ -257,6 +381,12 @@ abstract class AbstractBinWriter {
         } else if (realType == byte[].class) {
             output.writeBytes((byte[]) value);
             return;
+        } else if (compactValues && value instanceof Enum && ((Enum<?>) value).getDeclaringClass() == effectiveType) {
+            String name = ((Enum<?>) value).name();
+            if (name.length() <= MAX_ENUM_NAME_LENGTH) {
+                writeEnumName(name);
+                return;
+            }
         }
 
         // write as a string
@@ -267,6 +397,39 @@ abstract class AbstractBinWriter {
         }
     }
 
+    // writes a value of a common type using an extension type, returning false if not a common type
+    private boolean writeCompactValue(Class<?> realType, Object value) throws IOException {
+        if (realType == LocalDate.class) {
+            output.writeExtensionLong(MsgPack.JODA_TYPE_DATE, ((LocalDate) value).toEpochDay());
+        } else if (realType == Instant.class) {
+            Instant instant = (Instant) value;
+            output.writeTimestamp(instant.getEpochSecond(), instant.getNano());
+        } else if (realType == UUID.class) {
+            UUID uuid = (UUID) value;
+            output.writeExtensionLongs(MsgPack.JODA_TYPE_UUID, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        } else if (realType == BigDecimal.class) {
+            BigDecimal decimal = (BigDecimal) value;
+            output.writeExtensionScaled(MsgPack.JODA_TYPE_DECIMAL, decimal.scale(), decimal.unscaledValue().toByteArray());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    // writes an enum name, as the index in the enum name table if the name has been written before
+    private void writeEnumName(String name) throws IOException {
+        if (enumNames == null) {
+            enumNames = new HashMap<>();
+        }
+        Integer index = enumNames.get(name);
+        if (index != null) {
+            output.writeExtensionLong(MsgPack.JODA_TYPE_ENUM_REF, index);
+        } else {
+            enumNames.put(name, enumNames.size());
+            output.writeExtensionString(MsgPack.JODA_TYPE_ENUM, name);
+        }
+    }
+
     // called when serializing an object in {@link #writeSimple(Class, Object)}, to get the effective type of the
     // object and if necessary to serialize the class information
     // needs to handle no declared type and subclass instances
@@ -275,15 +438,15 @@ abstract class AbstractBinWriter {
         Class<?> effectiveType = declaredType;
         if (declaredType == Object.class) {
             if (realType != String.class) {
-                effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
+                effectiveType = SerConverterCache.of(settings).findTypedConverter(realType).getEffectiveType();
                 output.writeMapHeader(1);
                 String type = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
                 output.writeExtensionString(MsgPack.JODA_TYPE_DATA, type);
             } else {
                 effectiveType = realType;
             }
-        } else if (settings.getConverter().isConvertible(declaredType) == false) {
-            effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
+        } else if (SerConverterCache.of(settings).isConvertible(declaredType) == false) {
+            effectiveType = SerConverterCache.of(settings).findTypedConverter(realType).getEffectiveType();
             output.writeMapHeader(1);
             String type = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
             output.writeExtensionString(MsgPack.JODA_TYPE_DATA, type);
@@ -294,7 +457,7 @@ abstract class AbstractBinWriter {
     // writes a value as a string
     // called after discerning that the value is not a simple type
     void writeObjectAsString(Object value, Class<?> effectiveType) throws IOException {
-        String converted = settings.getConverter().convertToString(effectiveType, value);
+        String converted = SerConverterCache.of(settings).convertToString(effectiveType, value);
         if (converted == null) {
             throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
         }
@@ -33,6 +33,7 @@ import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerConverterCache;
 import org.joda.beans.ser.SerIterator;
 import org.joda.beans.ser.SerOptional;
 
@@ -141,7 +142,7 @@ final class BeanReferences {
         if (base instanceof Bean) {
             addClassInfo(base, declaredClass);
             Bean bean = (Bean) base;
-            if (settings.getConverter().isConvertible(bean.getClass())) {
+            if (SerConverterCache.of(settings).isConvertible(bean.getClass())) {
                 return;
             }
 
@@ -216,7 +217,7 @@ final class BeanReferences {
         }
 
         if (value instanceof ImmutableBean) {
-            boolean isConvertible = settings.getConverter().isConvertible(value.getClass());
+            boolean isConvertible = SerConverterCache.of(settings).isConvertible(value.getClass());
             boolean noNeedToSerializeTypeName = declaredClass.equals(value.getClass()) &&
                     (classes.containsKey(value.getClass()) || isConvertible);
 
@@ -235,13 +236,13 @@ final class BeanReferences {
         } else if (declaredClass == Object.class && !value.getClass().equals(String.class)) {
             addClassInfoForEffectiveType(value);
             
-        } else if (!settings.getConverter().isConvertible(declaredClass)) {
+        } else if (!SerConverterCache.of(settings).isConvertible(declaredClass)) {
             addClassInfoForEffectiveType(value);
         }
     }
 
     private void addClassInfoForEffectiveType(Object value) {
-        Class<?> effectiveType = settings.getConverter().findTypedConverter(value.getClass()).getEffectiveType();
+        Class<?> effectiveType = SerConverterCache.of(settings).findTypedConverter(value.getClass()).getEffectiveType();
         ClassInfo classInfo = new ClassInfo(effectiveType, new MetaProperty<?>[0]);
         addClassInfoAndIncrementCount(effectiveType, classInfo);
     }
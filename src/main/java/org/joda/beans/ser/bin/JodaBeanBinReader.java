@@ -15,12 +15,13 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerStreamedProperty;
 
 /**
  * Provides the ability for a Joda-Bean to read from binary formats.
@@ -83,7 +84,49 @@ public class JodaBeanBinReader extends MsgPack {
         if (input == null) {
             throw new NullPointerException("input");
         }
-        return read(new ByteArrayInputStream(input), rootType);
+        return read(ByteBuffer.wrap(input), rootType);
+    }
+
+    /**
+     * Reads and parses to a bean.
+     * <p>
+     * The data is read from the position to the limit of the buffer.
+     * The buffer may be a heap, direct or memory-mapped buffer.
+     * The position of the buffer is not altered.
+     * 
+     * @param input  the input buffer, not null
+     * @return the bean, not null
+     */
+    public Bean read(ByteBuffer input) {
+        return read(input, Bean.class);
+    }
+
+    /**
+     * Reads and parses to a bean.
+     * <p>
+     * The data is read from the position to the limit of the buffer.
+     * The buffer may be a heap, direct or memory-mapped buffer.
+     * The position of the buffer is not altered.
+     * 
+     * @param <T>  the root type
+     * @param input  the input buffer, not null
+     * @param rootType  the root type, not null
+     * @return the bean, not null
+     */
+    public <T> T read(ByteBuffer input, Class<T> rootType) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        if (rootType == null) {
+            throw new NullPointerException("rootType");
+        }
+        try {
+            return parseVersion(MsgPackDataInput.of(input)).read(rootType);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
     }
 
     /**
@@ -111,15 +154,87 @@ public class JodaBeanBinReader extends MsgPack {
         if (rootType == null) {
             throw new NullPointerException("rootType");
         }
-        DataInputStream dataInput;
-        if (input instanceof DataInputStream) {
-            dataInput = (DataInputStream) input;
-        } else {
-            dataInput = new DataInputStream(input);
+        try {
+            try {
+                return parseVersion(MsgPackDataInput.of(input)).read(rootType);
+            } finally {
+                input.close();
+            }
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads and parses to a bean, streaming the elements of a collection property of the root bean.
+     * <p>
+     * The elements of the named property are passed to the consumer as they are parsed,
+     * without building the collection, as described in {@link SerStreamedProperty}.
+     * <p>
+     * The data is read from the position to the limit of the buffer.
+     * The position of the buffer is not altered.
+     * 
+     * @param <T>  the root type
+     * @param input  the input buffer, not null
+     * @param rootType  the root type, not null
+     * @param propertyName  the name of the collection property of the root bean to stream, not null
+     * @param elementConsumer  the consumer of the elements, not null
+     * @return the root bean, without the streamed property, not null
+     */
+    public <T> T read(ByteBuffer input, Class<T> rootType, String propertyName, Consumer<Object> elementConsumer) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        if (rootType == null) {
+            throw new NullPointerException("rootType");
+        }
+        if (propertyName == null) {
+            throw new NullPointerException("propertyName");
+        }
+        if (elementConsumer == null) {
+            throw new NullPointerException("elementConsumer");
+        }
+        try {
+            return parseVersion(MsgPackDataInput.of(input)).read(rootType, propertyName, elementConsumer);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Reads and parses to a bean, streaming the elements of a collection property of the root bean.
+     * <p>
+     * The elements of the named property are passed to the consumer as they are parsed,
+     * without building the collection, as described in {@link SerStreamedProperty}.
+     * 
+     * @param <T>  the root type
+     * @param input  the input stream, not null
+     * @param rootType  the root type, not null
+     * @param propertyName  the name of the collection property of the root bean to stream, not null
+     * @param elementConsumer  the consumer of the elements, not null
+     * @return the root bean, without the streamed property, not null
+     */
+    public <T> T read(InputStream input, Class<T> rootType, String propertyName, Consumer<Object> elementConsumer) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        if (rootType == null) {
+            throw new NullPointerException("rootType");
+        }
+        if (propertyName == null) {
+            throw new NullPointerException("propertyName");
+        }
+        if (elementConsumer == null) {
+            throw new NullPointerException("elementConsumer");
         }
         try {
             try {
-                return parseVersion(dataInput, rootType);
+                return parseVersion(MsgPackDataInput.of(input)).read(rootType, propertyName, elementConsumer);
             } finally {
                 input.close();
             }
@@ -131,8 +246,63 @@ public class JodaBeanBinReader extends MsgPack {
     }
 
     //-----------------------------------------------------------------------
-    // parses the version
-    private <T> T parseVersion(DataInputStream input, Class<T> declaredType) throws Exception {
+    /**
+     * Starts reading a bean stream, as written by {@link JodaBeanBinWriter#writeStream(java.io.OutputStream)}.
+     * <p>
+     * The header of the stream is read immediately.
+     * Each bean is then read as the returned iterator is advanced.
+     * The returned iterator owns the stream, which is not closed until the iterator is closed.
+     * If the header cannot be read, the stream is closed before the exception is thrown.
+     * 
+     * @param <T>  the type of the beans
+     * @param input  the input stream, not null
+     * @param rootType  the type of the beans, not null
+     * @return the iterator of beans, not null
+     */
+    public <T> JodaBeanBinStreamReader<T> readStream(InputStream input, Class<T> rootType) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        return readStream(MsgPackDataInput.of(input), rootType);
+    }
+
+    /**
+     * Starts reading a bean stream, as written by {@link JodaBeanBinWriter#writeStream(java.io.OutputStream)}.
+     * <p>
+     * The header of the stream is read immediately.
+     * Each bean is then read as the returned iterator is advanced.
+     * The data is read from the position to the limit of the buffer.
+     * The position of the buffer is not altered.
+     * 
+     * @param <T>  the type of the beans
+     * @param input  the input buffer, not null
+     * @param rootType  the type of the beans, not null
+     * @return the iterator of beans, not null
+     */
+    public <T> JodaBeanBinStreamReader<T> readStream(ByteBuffer input, Class<T> rootType) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        return readStream(MsgPackDataInput.of(input), rootType);
+    }
+
+    // starts reading a bean stream
+    private <T> JodaBeanBinStreamReader<T> readStream(MsgPackDataInput input, Class<T> rootType) {
+        if (rootType == null) {
+            throw new NullPointerException("rootType");
+        }
+        try {
+            return new JodaBeanBinStreamReader<>(settings, input, rootType);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // parses the version, returning the reader for the remaining data
+    private AbstractBinReader parseVersion(MsgPackDataInput input) throws Exception {
         // root array
         int arrayByte = input.readByte();
         int versionByte = input.readByte();
@@ -142,16 +312,32 @@ public class JodaBeanBinReader extends MsgPack {
                     throw new IllegalArgumentException(
                             "Invalid binary data: Expected array with 2 elements, but was: 0x" + toHex(arrayByte));
                 }
-                return new JodaBeanStandardBinReader(settings, input).read(declaredType);
+                return new JodaBeanStandardBinReader(settings, input, versionByte);
             case 2:
                 if (arrayByte != MIN_FIX_ARRAY + 4) {
                     throw new IllegalArgumentException(
                             "Invalid binary data: Expected array with 4 elements, but was: 0x" + toHex(arrayByte));
                 }
-                return new JodaBeanReferencingBinReader(settings, input).read(declaredType);
+                return new JodaBeanReferencingBinReader(settings, input);
+            case 3:
+                throw new IllegalArgumentException("Invalid binary data: Bean stream must be read using readStream()");
+            case 4:
+                if (arrayByte != MIN_FIX_ARRAY + 2) {
+                    throw new IllegalArgumentException(
+                            "Invalid binary data: Expected array with 2 elements, but was: 0x" + toHex(arrayByte));
+                }
+                // the standard reader also reads compact values
+                return new JodaBeanStandardBinReader(settings, input, versionByte);
+            case 5:
+                if (arrayByte != MIN_FIX_ARRAY + 2) {
+                    throw new IllegalArgumentException(
+                            "Invalid binary data: Expected array with 2 elements, but was: 0x" + toHex(arrayByte));
+                }
+                // the standard reader also reads chunked arrays
+                return new JodaBeanStandardBinReader(settings, input, versionByte);
             default:
                 throw new IllegalArgumentException(
-                        "Invalid binary data: Expected version 1 or 2, but was: 0x" + toHex(versionByte));
+                        "Invalid binary data: Expected version 1, 2, 4 or 5, but was: 0x" + toHex(versionByte));
         }
     }
 
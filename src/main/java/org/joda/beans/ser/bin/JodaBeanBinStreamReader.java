@@ -0,0 +1,197 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Provides the ability for a sequence of Joda-Beans to be read from a binary bean stream.
+ * <p>
+ * The bean stream format is defined by {@link JodaBeanBinStreamWriter}.
+ * Each bean is parsed when {@link #next()} is called, in the order they were written.
+ * The short type names and property names seen in earlier beans are remembered across the whole stream.
+ * <p>
+ * Each frame is read fully before the bean within it is parsed, which allows the bean
+ * to be parsed directly from memory even when the stream is read from an {@code InputStream}.
+ * <p>
+ * If a bean cannot be read, the exception is thrown and the stream ends, such that
+ * {@link #hasNext()} returns false. This is because the type names defined by the failed frame
+ * may be only partly known, and later frames may refer to them.
+ * The underlying input is not closed until {@link #close()} is called.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @param <T>  the type of the beans
+ */
+public final class JodaBeanBinStreamReader<T> extends MsgPack implements Iterator<T>, Closeable {
+
+    /**
+     * The input of the stream.
+     */
+    private final MsgPackDataInput input;
+    /**
+     * The type of the beans.
+     */
+    private final Class<T> rootType;
+    /**
+     * The reader of the last frame, which holds the type and property names across the whole stream.
+     */
+    private JodaBeanStandardBinReader reader;
+    /**
+     * The type byte of the next frame.
+     */
+    private int nextByte;
+    /**
+     * Whether the type byte of the next frame has been read.
+     */
+    private boolean peeked;
+    /**
+     * Whether the end of the stream has been reached.
+     */
+    private boolean ended;
+
+    /**
+     * Creates an instance, reading the header.
+     * <p>
+     * The input is closed if the header cannot be read.
+     *
+     * @param settings  the settings to use, not null
+     * @param input  the input to read from, not null
+     * @param rootType  the type of the beans, not null
+     * @throws IOException if an error occurs
+     */
+    JodaBeanBinStreamReader(JodaBeanSer settings, MsgPackDataInput input, Class<T> rootType) throws IOException {
+        this.input = input;
+        this.rootType = rootType;
+        this.reader = new JodaBeanStandardBinReader(settings, input, 3);
+        try {
+            readHeader();
+        } catch (RuntimeException | IOException ex) {
+            input.close();
+            throw ex;
+        }
+    }
+
+    // reads the header of the stream
+    private void readHeader() throws IOException {
+        int arrayByte = input.readByte();
+        int versionByte = input.readByte();
+        if (arrayByte != MIN_FIX_ARRAY + 1 || versionByte != 3) {
+            throw new IllegalArgumentException(
+                    "Invalid binary data: Expected bean stream header, but was: 0x" + toHex(arrayByte) + toHex(versionByte));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if there is another bean in the stream.
+     * <p>
+     * This reads the start of the next frame, blocking if necessary.
+     * The stream ends at a MessagePack nil, or at the end of the data.
+     *
+     * @return true if there is another bean
+     * @throws RuntimeException if an error occurs
+     */
+    @Override
+    public boolean hasNext() {
+        if (ended) {
+            return false;
+        }
+        if (peeked == false) {
+            try {
+                nextByte = input.readByte();
+            } catch (EOFException ex) {
+                nextByte = NIL;
+            } catch (IOException ex) {
+                ended = true;
+                throw new RuntimeException(ex);
+            }
+            peeked = true;
+            if (nextByte == NIL) {
+                ended = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads and parses the next bean in the stream.
+     * <p>
+     * If an error occurs, the stream ends and no further beans can be read.
+     *
+     * @return the bean, not null
+     * @throws NoSuchElementException if there are no more beans
+     * @throws RuntimeException if an error occurs
+     */
+    @Override
+    public T next() {
+        if (hasNext() == false) {
+            throw new NoSuchElementException("No more beans in the bean stream");
+        }
+        peeked = false;
+        try {
+            int size = acceptFrameSize(nextByte);
+            byte[] bytes = input.readView(size);
+            ByteBuffer frame = ByteBuffer.wrap(bytes, input.viewOffset(), size);
+            reader = new JodaBeanStandardBinReader(reader, MsgPackDataInput.of(frame));
+            return reader.parseRemaining(rootType);
+        } catch (RuntimeException ex) {
+            ended = true;
+            throw ex;
+        } catch (Exception ex) {
+            ended = true;
+            throw new RuntimeException(ex);
+        }
+    }
+
+    // reads the size of the frame
+    private int acceptFrameSize(int typeByte) throws IOException {
+        int size;
+        if (typeByte == BIN_8) {
+            size = input.readUnsignedByte();
+        } else if (typeByte == BIN_16) {
+            size = input.readUnsignedShort();
+        } else if (typeByte == BIN_32) {
+            size = input.readInt();
+            if (size < 0) {
+                throw new IllegalArgumentException("Invalid binary data: Frame too large");
+            }
+        } else {
+            throw new IllegalArgumentException("Invalid binary data: Expected frame, but was: 0x" + toHex(typeByte));
+        }
+        return size;
+    }
+
+    /**
+     * Closes the underlying input.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        ended = true;
+        input.close();
+    }
+
+}
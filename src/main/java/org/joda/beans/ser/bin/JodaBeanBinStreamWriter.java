@@ -0,0 +1,152 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Provides the ability for a sequence of Joda-Beans to be written to a binary bean stream.
+ * <p>
+ * A bean stream is intended for logs and queues, where many beans are written one after another.
+ * The stream has a single header, followed by each bean as a length-prefixed frame.
+ * The short type names used in the standard format are remembered across the whole stream,
+ * so that the full name of each type is only written once.
+ * <p>
+ * The stream is read using {@link JodaBeanBinStreamReader}.
+ * As each frame may use type names defined in earlier frames, the frames must be read in order.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * <h3>Format</h3>
+ * The stream starts with a MessagePack array of size one containing the version, 3.
+ * Each bean is then written as a MessagePack byte block, containing the bean in the standard format
+ * with the root type set, but without the array and version that normally precede it.
+ * The stream ends with a MessagePack nil, or at the end of the data.
+ * A standalone MessagePack parser can read the frames, but not always the type names within them.
+ */
+public final class JodaBeanBinStreamWriter implements Closeable, Flushable {
+
+    /**
+     * The stream being written to.
+     */
+    private final OutputStream stream;
+    /**
+     * The output of the stream.
+     */
+    private final MsgPackOutput output;
+    /**
+     * The output of the current frame.
+     */
+    private final MsgPackOutput frame;
+    /**
+     * The writer, which holds the type names across the whole stream.
+     */
+    private final JodaBeanStandardBinWriter writer;
+    /**
+     * Whether the stream has been closed.
+     */
+    private boolean closed;
+    /**
+     * Whether a write has failed, leaving the type names out of step with the stream.
+     */
+    private boolean failed;
+
+    /**
+     * Creates an instance, writing the header.
+     *
+     * @param settings  the settings to use, not null
+     * @param stream  the stream to write to, not null
+     * @throws IOException if an error occurs
+     */
+    JodaBeanBinStreamWriter(JodaBeanSer settings, OutputStream stream) throws IOException {
+        this.stream = stream;
+        this.output = new MsgPackOutput(stream);
+        this.frame = new MsgPackOutput();
+        this.writer = new JodaBeanStandardBinWriter(settings, frame);
+        output.writeArrayHeader(1);
+        output.writeInt(3);  // version 3, a bean stream
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes a bean to the stream.
+     * <p>
+     * The data is buffered internally and written to the stream in blocks.
+     * Use {@link #flush()} to ensure that the bean has been written to the stream.
+     * <p>
+     * If the bean cannot be written, nothing is written to the stream, however the
+     * type names held by this writer may no longer match those of the stream.
+     * As such, no further beans can be written, although the stream can still be closed.
+     *
+     * @param bean  the bean to output, not null
+     * @throws IOException if an error occurs
+     * @throws IllegalStateException if the stream has been closed or an earlier write failed
+     */
+    public void write(Bean bean) throws IOException {
+        if (bean == null) {
+            throw new NullPointerException("bean");
+        }
+        if (closed) {
+            throw new IllegalStateException("Bean stream has been closed");
+        }
+        if (failed) {
+            throw new IllegalStateException("Bean stream cannot be written to after a failed write");
+        }
+        frame.reset();
+        failed = true;
+        writer.writeRootBean(bean, true);
+        failed = false;
+        output.writeBytes(frame);
+    }
+
+    /**
+     * Flushes the stream.
+     * <p>
+     * This writes any buffered data and flushes the underlying stream.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+        stream.flush();
+    }
+
+    /**
+     * Closes the stream.
+     * <p>
+     * This writes the end of the stream, flushes and closes the underlying stream.
+     * Closing a stream that is already closed has no effect.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed == false) {
+            closed = true;
+            output.writeNil();
+            output.flush();
+            stream.close();
+        }
+    }
+
+}
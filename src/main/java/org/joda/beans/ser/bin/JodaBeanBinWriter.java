@@ -15,13 +15,17 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerStreamedElements;
 
 /**
  * Provides the ability for a Joda-Bean to be written to a binary format.
@@ -54,6 +58,17 @@ import org.joda.beans.ser.JodaBeanSer;
  * <p>
  * Type names are shortened by the package of the root type if possible.
  * Certain basic types are also handled, such as String, Integer, File and URI.
+ * <p>
+ * When the elements of a collection property are streamed, the number of elements
+ * is not known in advance. The collection is then written as a chunked array,
+ * consisting of an 'ext' entity with no data followed by a sequence of arrays,
+ * the last of which is empty. A chunked array cannot be read by a standalone MessagePack parser.
+ * <p>
+ * A message that contains a chunked array is written with version 5 instead of version 1,
+ * thus a reader that does not support chunked arrays rejects the message when reading the header,
+ * rather than partway through the data. Version 5 can only be read by {@link JodaBeanBinReader},
+ * and not by earlier versions of Joda-Beans. A message in the compact value format, version 4,
+ * may also contain a chunked array.
  * 
  * <h3>Referencing format</h3>
  * The referencing format is based on the standard format.
@@ -85,6 +100,23 @@ import org.joda.beans.ser.JodaBeanSer;
  * For references, when an object will be referred back to it is written as a map of size one with 'ext' as the key
  * and the object that should be referred to as the value.
  * When that same object is referred back to it is written as 'ext' with the data from the initial 'ext'.
+ * 
+ * <h3>Compact value format</h3>
+ * The compact value format is the standard format, with version 4 instead of version 1,
+ * where certain common value types are written using MessagePack 'ext' entities rather than strings.
+ * It is enabled using {@link #withCompactValues(boolean)}, and can only be read by {@link JodaBeanBinReader}.
+ * <p>
+ * A {@code LocalDate} is written as the epoch-day, and a {@code UUID} as the most and least significant bits.
+ * A {@code BigDecimal} is written as the scale followed by the two's complement unscaled value.
+ * An {@code Instant} is written using the MessagePack timestamp extension type.
+ * As these types are identified by the 'ext' type, no additional type information is written for them.
+ * <p>
+ * An enum constant is written using the name the first time the name occurs in the message,
+ * which adds the name to a table of names. Each later occurrence is written as the index in the table.
+ * The enum type is determined in the same way as other simple types.
+ * 
+ * <h3>Bean stream format</h3>
+ * The bean stream format holds a sequence of beans in the standard format, as defined by {@link JodaBeanBinStreamWriter}.
  */
 public class JodaBeanBinWriter {
 
@@ -96,6 +128,10 @@ public class JodaBeanBinWriter {
      * Whether to use referencing.
      */
     private final boolean referencing;
+    /**
+     * Whether to write compact values.
+     */
+    private final boolean compactValues;
 
     //-----------------------------------------------------------------------
     /**
@@ -114,11 +150,38 @@ public class JodaBeanBinWriter {
      * @param referencing  whether to use referencing
      */
     public JodaBeanBinWriter(JodaBeanSer settings, boolean referencing) {
+        this(settings, referencing, false);
+    }
+
+    // creates an instance
+    private JodaBeanBinWriter(JodaBeanSer settings, boolean referencing, boolean compactValues) {
         if (settings == null) {
             throw new NullPointerException("settings");
         }
         this.settings = settings;
         this.referencing = referencing;
+        this.compactValues = compactValues;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this writer that writes common value types in a compact binary form.
+     * <p>
+     * The compact value format writes {@code LocalDate}, {@code Instant}, {@code UUID},
+     * {@code BigDecimal} and enums using MessagePack 'ext' entities rather than strings.
+     * This is smaller and faster to read, but can only be read by {@link JodaBeanBinReader},
+     * and not by earlier versions of Joda-Beans.
+     * The referencing format and bean streams are not supported.
+     * 
+     * @param compactValues  whether to write compact values
+     * @return a copy of this writer with the flag changed, not null
+     * @throws IllegalStateException if this writer uses the referencing format
+     */
+    public JodaBeanBinWriter withCompactValues(boolean compactValues) {
+        if (referencing && compactValues) {
+            throw new IllegalStateException("Referencing binary format cannot write compact values");
+        }
+        return new JodaBeanBinWriter(settings, referencing, compactValues);
     }
 
     //-----------------------------------------------------------------------
@@ -142,13 +205,13 @@ public class JodaBeanBinWriter {
      * @return the binary data, not null
      */
     public byte[] write(Bean bean, boolean rootType) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
+        MsgPackOutput output = new MsgPackOutput();
         try {
-            write(bean, rootType, baos);
+            write(bean, rootType, output);
         } catch (IOException ex) {
             throw new IllegalStateException(ex);
         }
-        return baos.toByteArray();
+        return output.toByteArray();
     }
 
     /**
@@ -166,6 +229,9 @@ public class JodaBeanBinWriter {
 
     /**
      * Writes the bean to the {@code OutputStream}.
+     * <p>
+     * The data is buffered internally and written to the stream in blocks.
+     * The stream is not flushed or closed.
      * 
      * @param bean  the bean to output, not null
      * @param rootType  true to output the root type
@@ -173,12 +239,165 @@ public class JodaBeanBinWriter {
      * @throws IOException if an error occurs
      */
     public void write(Bean bean, boolean rootType, OutputStream output) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output");
+        }
+        write(bean, rootType, new MsgPackOutput(output));
+    }
+
+    /**
+     * Writes the bean to the {@code ByteBuffer}.
+     * <p>
+     * The type of the bean will be set in the message.
+     * 
+     * @param bean  the bean to output, not null
+     * @param buffer  the buffer to write to, not null
+     * @throws BufferOverflowException if the buffer is too small
+     */
+    public void write(Bean bean, ByteBuffer buffer) {
+        write(bean, true, buffer);
+    }
+
+    /**
+     * Writes the bean to the {@code ByteBuffer}.
+     * <p>
+     * The data is written starting at the position of the buffer, which is then
+     * advanced to the end of the data. A heap buffer is written to directly,
+     * without any intermediate copies.
+     * <p>
+     * If the buffer is too small, an exception is thrown.
+     * The position of a heap buffer is unaltered in that case, however
+     * the position and content of a direct buffer are undefined.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param buffer  the buffer to write to, not null
+     * @throws BufferOverflowException if the buffer is too small
+     */
+    public void write(Bean bean, boolean rootType, ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer");
+        }
+        try {
+            write(bean, rootType, new MsgPackOutput(buffer));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Writes the bean to the {@code WritableByteChannel}.
+     * <p>
+     * The type of the bean will be set in the message.
+     * 
+     * @param bean  the bean to output, not null
+     * @param channel  the channel to write to, not null
+     * @throws IOException if an error occurs
+     */
+    public void writeTo(Bean bean, WritableByteChannel channel) throws IOException {
+        writeTo(bean, true, channel);
+    }
+
+    /**
+     * Writes the bean to the {@code WritableByteChannel}.
+     * <p>
+     * The data is buffered internally and written to the channel in blocks.
+     * The channel is not closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param channel  the channel to write to, not null
+     * @throws IOException if an error occurs
+     */
+    public void writeTo(Bean bean, boolean rootType, WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new NullPointerException("channel");
+        }
+        write(bean, rootType, new MsgPackOutput(channel));
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream}, streaming the elements of a collection property.
+     * <p>
+     * The elements of the named collection property are taken from the iterator, rather than the bean,
+     * and are written as they are produced. This allows a bean with a very large collection to be
+     * written without holding all the elements in memory at the same time.
+     * A {@code Stream} can be written by passing {@code stream.iterator()}.
+     * <p>
+     * As the number of elements is not known in advance, the collection is written as a chunked array,
+     * and the message is written with version 5, as described in the class Javadoc.
+     * This can be read by {@link JodaBeanBinReader}, but not by a standalone MessagePack parser
+     * or earlier versions of Joda-Beans.
+     * The referencing format is not supported.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The data is buffered internally and written to the stream in blocks.
+     * The stream is not flushed or closed.
+     * 
+     * @param bean  the bean to output, the value of the streamed property is ignored, not null
+     * @param propertyName  the name of the collection property to stream, not null
+     * @param elements  the elements of the collection property, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     * @throws IllegalStateException if this writer uses the referencing format
+     */
+    public void write(Bean bean, String propertyName, Iterator<?> elements, OutputStream output) throws IOException {
         if (bean == null) {
             throw new NullPointerException("bean");
         }
+        if (propertyName == null) {
+            throw new NullPointerException("propertyName");
+        }
+        if (elements == null) {
+            throw new NullPointerException("elements");
+        }
+        if (output == null) {
+            throw new NullPointerException("output");
+        }
+        if (referencing) {
+            throw new IllegalStateException("Referencing binary format cannot stream the elements of a property");
+        }
+        MsgPackOutput msgPackOutput = new MsgPackOutput(output);
+        new JodaBeanStandardBinWriter(settings, msgPackOutput, compactValues)
+                .write(bean, true, SerStreamedElements.of(propertyName, elements));
+        msgPackOutput.flush();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Starts writing a bean stream to the {@code OutputStream}.
+     * <p>
+     * A bean stream holds a sequence of beans, each written as a length-prefixed frame
+     * in the standard format, after a single header. The short type names are remembered
+     * across the whole stream, making the stream smaller and faster to write and read
+     * than writing each bean separately. The referencing format and compact values are not supported.
+     * <p>
+     * The header is written immediately, and each bean is written by the returned writer.
+     * The stream is read using {@link JodaBeanBinReader#readStream(InputStream, Class)}.
+     * 
+     * @param output  the output stream, not null
+     * @return the writer of the bean stream, not null
+     * @throws IOException if an error occurs
+     * @throws IllegalStateException if this writer uses the referencing format or compact values
+     */
+    public JodaBeanBinStreamWriter writeStream(OutputStream output) throws IOException {
         if (output == null) {
             throw new NullPointerException("output");
         }
+        if (referencing) {
+            throw new IllegalStateException("Referencing binary format cannot write a bean stream");
+        }
+        if (compactValues) {
+            throw new IllegalStateException("Compact value binary format cannot write a bean stream");
+        }
+        return new JodaBeanBinStreamWriter(settings, output);
+    }
+
+    // writes the bean to the output, flushing at the end
+    private void write(Bean bean, boolean rootType, MsgPackOutput output) throws IOException {
+        if (bean == null) {
+            throw new NullPointerException("bean");
+        }
         if (referencing) {
             if (!(bean instanceof ImmutableBean)) {
                 throw new IllegalArgumentException(
@@ -186,8 +405,9 @@ public class JodaBeanBinWriter {
             }
             new JodaBeanReferencingBinWriter(settings, output).write((ImmutableBean) bean);
         } else {
-            new JodaBeanStandardBinWriter(settings, output).write(bean, rootType);
+            new JodaBeanStandardBinWriter(settings, output, compactValues).write(bean, rootType);
         }
+        output.flush();
     }
 
 }
@@ -15,7 +15,6 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -56,7 +55,7 @@ class JodaBeanReferencingBinReader extends AbstractBinReader {
 
     //-----------------------------------------------------------------------
     // creates an instance
-    JodaBeanReferencingBinReader(JodaBeanSer settings, DataInputStream input) {
+    JodaBeanReferencingBinReader(JodaBeanSer settings, MsgPackDataInput input) {
         super(settings, input);
     }
 
@@ -144,9 +143,13 @@ class JodaBeanReferencingBinReader extends AbstractBinReader {
             SerDeserializer deser = settings.getDeserializers().findDeserializer(classInfo.type);
             MetaBean metaBean = deser.findMetaBean(classInfo.type);
             BeanBuilder<?> builder = deser.createBuilder(classInfo.type, metaBean);
+            String streamName = startBean(metaBean);
             for (MetaProperty<?> metaProp : classInfo.metaProperties) {
                 if (metaProp == null) {
-                    MsgPackInput.skipObject(input);
+                    skipObject();
+                } else if (streamName != null && metaProp.name().equals(streamName)) {
+                    propName = metaProp.name();
+                    parseStreamed(SerOptional.extractType(metaProp, classInfo.type), metaProp, classInfo.type);
                 } else {
                     propName = metaProp.name();
                     Object value = parseObject(SerOptional.extractType(metaProp, classInfo.type), metaProp, classInfo.type, null, false);
@@ -174,6 +177,7 @@ class JodaBeanReferencingBinReader extends AbstractBinReader {
             SerIterable parentIterable,
             boolean rootType) throws Exception {
 
+        boolean streamedValue = startValue();
         // establish type
         Class<?> effectiveType = declaredType;
         ClassInfo classInfo = null;
@@ -184,7 +188,7 @@ class JodaBeanReferencingBinReader extends AbstractBinReader {
         // Unwrap nested references and meta data
         while (isMap(typeByte)) {
 
-            input.mark(18);
+            input.mark();
             int mapSize = acceptMap(typeByte);
             if (mapSize > 0) {
                 int typeByteTemp = input.readByte();
@@ -288,7 +292,7 @@ class JodaBeanReferencingBinReader extends AbstractBinReader {
         }
 
         if (isArray(typeByte)) {
-            input.mark(11);
+            input.mark();
             int arraySize = acceptArray(typeByte);
             if (arraySize > 0) {
                 int typeByteTemp = input.readByte();
@@ -316,7 +320,7 @@ class JodaBeanReferencingBinReader extends AbstractBinReader {
         }
 
         if (isIntExtension(typeByte)) {
-            input.mark(5);
+            input.mark();
             int typeByteTemp = input.readByte();
             int reference = acceptIntExtension(typeByte);
             // JODA_TYPE_REF is the only thing serialized in isolation, others are serialized as map keys or the start of an array
@@ -333,7 +337,7 @@ class JodaBeanReferencingBinReader extends AbstractBinReader {
         if (classInfo != null) {
             effectiveType = classInfo.type;
         }
-        Object value = parseObject(metaProp, beanType, parentIterable, effectiveType, metaType, typeByte);
+        Object value = parseObject(metaProp, beanType, parentIterable, effectiveType, metaType, typeByte, streamedValue);
 
         if (ref != null) {
             refs[ref] = value; // This object was keyed and is repeated
@@ -348,7 +352,8 @@ class JodaBeanReferencingBinReader extends AbstractBinReader {
             SerIterable parentIterable,
             Class<?> effectiveType,
             String metaType,
-            int typeByte) throws Exception {
+            int typeByte,
+            boolean streamedValue) throws Exception {
 
         // parse based on type
         if (typeByte == NIL) {
@@ -375,6 +380,9 @@ class JodaBeanReferencingBinReader extends AbstractBinReader {
                 if (childIterable == null) {
                     throw new IllegalArgumentException("Invalid binary data: Invalid metaType: " + metaType);
                 }
+                if (streamedValue) {
+                    childIterable = streamedIterable(childIterable);
+                }
                 return parseIterable(typeByte, childIterable);
             } else {
                 return parseSimple(typeByte, effectiveType);
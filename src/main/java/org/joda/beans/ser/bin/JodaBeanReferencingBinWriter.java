@@ -16,13 +16,13 @@
 package org.joda.beans.ser.bin;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.List;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerConverterCache;
 import org.joda.beans.ser.SerIterator;
 import org.joda.beans.ser.SerOptional;
 import org.joda.beans.ser.SerTypeMapper;
@@ -37,7 +37,7 @@ class JodaBeanReferencingBinWriter extends AbstractBinWriter {
     private BeanReferences references;
 
     // creates an instance
-    JodaBeanReferencingBinWriter(JodaBeanSer settings, OutputStream output) {
+    JodaBeanReferencingBinWriter(JodaBeanSer settings, MsgPackOutput output) {
         super(settings, output);
     }
 
@@ -69,7 +69,7 @@ class JodaBeanReferencingBinWriter extends AbstractBinWriter {
 
             output.writeArrayHeader(classInfo.metaProperties.length);
             for (MetaProperty<?> property : classInfo.metaProperties) {
-                output.writeString(property.name());
+                writePropertyName(property);
             }
         }
     }
@@ -116,7 +116,7 @@ class JodaBeanReferencingBinWriter extends AbstractBinWriter {
             }
 
             if (value instanceof Bean) {
-                if (settings.getConverter().isConvertible(value.getClass())) {
+                if (SerConverterCache.of(settings).isConvertible(value.getClass())) {
                     writeSimple(propType, value);
                 } else {
                     writeBean((Bean) value, propType, RootType.NOT_ROOT);
@@ -163,15 +163,15 @@ class JodaBeanReferencingBinWriter extends AbstractBinWriter {
         Class<?> effectiveType = declaredType;
         if (declaredType == Object.class) {
             if (realType != String.class) {
-                effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
+                effectiveType = SerConverterCache.of(settings).findTypedConverter(realType).getEffectiveType();
                 ClassInfo classInfo = references.getClassInfo(effectiveType);
                 output.writeMapHeader(1);
                 output.writePositiveExtensionInt(MsgPack.JODA_TYPE_DATA, classInfo.position);
             } else {
                 effectiveType = realType;
             }
-        } else if (!settings.getConverter().isConvertible(declaredType)) {
-            effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
+        } else if (!SerConverterCache.of(settings).isConvertible(declaredType)) {
+            effectiveType = SerConverterCache.of(settings).findTypedConverter(realType).getEffectiveType();
             ClassInfo classInfo = references.getClassInfo(effectiveType);
             output.writeMapHeader(1);
             output.writePositiveExtensionInt(MsgPack.JODA_TYPE_DATA, classInfo.position);
@@ -185,7 +185,7 @@ class JodaBeanReferencingBinWriter extends AbstractBinWriter {
         if (ref != null && ref.hasBeenSerialized) {
             output.writePositiveExtensionInt(MsgPack.JODA_TYPE_REF, ref.position);
         } else {
-            String converted = settings.getConverter().convertToString(effectiveType, value);
+            String converted = SerConverterCache.of(settings).convertToString(effectiveType, value);
             if (converted == null) {
                 throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
             }
@@ -15,7 +15,6 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataInputStream;
 
 import org.joda.beans.ser.JodaBeanSer;
 
@@ -24,9 +23,14 @@ import org.joda.beans.ser.JodaBeanSer;
  */
 class JodaBeanStandardBinReader extends AbstractBinReader {
 
-    // creates an instance
-    JodaBeanStandardBinReader(JodaBeanSer settings, DataInputStream input) {
-        super(settings, input);
+    // creates an instance for the version read from the header, where only version 4 contains compact values
+    JodaBeanStandardBinReader(JodaBeanSer settings, MsgPackDataInput input, int version) {
+        super(settings, input, version == 4);
+    }
+
+    // creates an instance that continues from an earlier reader, used for each bean in a bean stream
+    JodaBeanStandardBinReader(JodaBeanStandardBinReader previous, MsgPackDataInput input) {
+        super(previous, input);
     }
 
 }
@@ -16,10 +16,10 @@
 package org.joda.beans.ser.bin;
 
 import java.io.IOException;
-import java.io.OutputStream;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerStreamedElements;
 
 /**
  * Provides the ability for a Joda-Bean to written to the standard binary format.
@@ -30,17 +30,36 @@ class JodaBeanStandardBinWriter extends AbstractBinWriter {
     // the bean data is much more friendly for dynamic languages using
     // a standalone MessagePack parser
 
+    /**
+     * The version to write, 1 or 4 for compact values.
+     */
+    private final int version;
+
     // creates an instance
-    JodaBeanStandardBinWriter(JodaBeanSer settings, OutputStream output) {
-        super(settings, output);
+    JodaBeanStandardBinWriter(JodaBeanSer settings, MsgPackOutput output) {
+        this(settings, output, false);
+    }
+
+    // creates an instance, optionally writing compact values
+    JodaBeanStandardBinWriter(JodaBeanSer settings, MsgPackOutput output, boolean compactValues) {
+        super(settings, output, compactValues);
+        this.version = compactValues ? 4 : 1;
     }
 
     //-----------------------------------------------------------------------
     // writes the bean
     void write(Bean bean, boolean rootType) throws IOException {
         output.writeArrayHeader(2);
-        output.writeInt(1);  // version 1
+        output.writeInt(version);
         writeRootBean(bean, rootType);
     }
 
+    // writes the bean, streaming the elements of a collection property as a chunked array
+    // version 5 is used unless writing compact values, as version 1 never contains a chunked array
+    void write(Bean bean, boolean rootType, SerStreamedElements streamed) throws IOException {
+        output.writeArrayHeader(2);
+        output.writeInt(version == 1 ? 5 : version);
+        writeRootBean(bean, rootType, streamed);
+    }
+
 }
@@ -207,6 +207,34 @@ abstract class MsgPack {
      * Extension type code for a reference to a previously serialized Joda-Bean.
      */
     static final int JODA_TYPE_REF = 36;
+    /**
+     * Extension type code for the start of a chunked array, used for streamed collections.
+     */
+    static final int JODA_TYPE_CHUNKED = 37;
+    /**
+     * Extension type code for a {@code LocalDate}, as the epoch-day, used for compact values.
+     */
+    static final int JODA_TYPE_DATE = 38;
+    /**
+     * Extension type code for a {@code UUID}, as the most and least significant bits, used for compact values.
+     */
+    static final int JODA_TYPE_UUID = 39;
+    /**
+     * Extension type code for a {@code BigDecimal}, as the scale and unscaled value, used for compact values.
+     */
+    static final int JODA_TYPE_DECIMAL = 40;
+    /**
+     * Extension type code for an enum constant, as the name that is added to the enum name table, used for compact values.
+     */
+    static final int JODA_TYPE_ENUM = 41;
+    /**
+     * Extension type code for an enum constant, as the index in the enum name table, used for compact values.
+     */
+    static final int JODA_TYPE_ENUM_REF = 42;
+    /**
+     * Extension type code for the MessagePack timestamp, used for an {@code Instant} in compact values.
+     */
+    static final int TIMESTAMP = -1;
 
     //-----------------------------------------------------------------------
     /**
@@ -231,6 +259,10 @@ abstract class MsgPack {
         return (typeByte >= MIN_FIX_STR && typeByte <= MAX_FIX_STR) || typeByte == STR_8 || typeByte == STR_16 || typeByte == STR_32;
     }
 
+    static boolean isExtension(int typeByte) throws IOException {
+        return (typeByte >= FIX_EXT_1 && typeByte <= FIX_EXT_16) || typeByte == EXT_8 || typeByte == EXT_16 || typeByte == EXT_32;
+    }
+
     static boolean isIntegral(int typeByte) throws IOException {
         return (typeByte >= MIN_FIX_INT && typeByte <= MAX_FIX_INT) ||
                 typeByte == UINT_8 || typeByte == UINT_16 || typeByte == UINT_32 || typeByte == UINT_64 ||
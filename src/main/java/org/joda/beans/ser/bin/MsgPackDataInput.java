@@ -0,0 +1,609 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Provides access to the bytes of MsgPack data.
+ * <p>
+ * This is similar to {@code DataInputStream}, with the addition of methods to
+ * mark and reset the position, decode strings and skip whole objects.
+ * <p>
+ * Two implementations are provided, one for streams and one for buffers.
+ * The buffer implementation uses absolute index access, so marking is free,
+ * strings are decoded in place and skipping does not read the skipped data.
+ */
+abstract class MsgPackDataInput extends MsgPack {
+
+    /**
+     * Obtains an instance that reads from a stream.
+     *
+     * @param stream  the stream to read from, not null
+     * @return the input, not null
+     */
+    static MsgPackDataInput of(InputStream stream) {
+        return new StreamInput(stream);
+    }
+
+    /**
+     * Obtains an instance that reads from a buffer.
+     * <p>
+     * The data is read from the position to the limit of the buffer.
+     * The buffer itself is not altered.
+     *
+     * @param buffer  the buffer to read from, not null
+     * @return the input, not null
+     */
+    static MsgPackDataInput of(ByteBuffer buffer) {
+        return new BufferInput(buffer);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads a signed byte.
+     *
+     * @return the byte
+     * @throws IOException if an error occurs
+     */
+    abstract byte readByte() throws IOException;
+
+    /**
+     * Reads an unsigned byte.
+     *
+     * @return the byte, from 0 to 255
+     * @throws IOException if an error occurs
+     */
+    abstract int readUnsignedByte() throws IOException;
+
+    /**
+     * Reads a big-endian signed 16 bit value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs
+     */
+    abstract short readShort() throws IOException;
+
+    /**
+     * Reads a big-endian unsigned 16 bit value.
+     *
+     * @return the value, from 0 to 65535
+     * @throws IOException if an error occurs
+     */
+    abstract int readUnsignedShort() throws IOException;
+
+    /**
+     * Reads a big-endian 32 bit value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs
+     */
+    abstract int readInt() throws IOException;
+
+    /**
+     * Reads a big-endian 64 bit value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs
+     */
+    abstract long readLong() throws IOException;
+
+    /**
+     * Reads a big-endian 32 bit floating point value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs
+     */
+    float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    /**
+     * Reads a big-endian 64 bit floating point value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs
+     */
+    double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Reads bytes to fill the array.
+     *
+     * @param bytes  the array to fill, not null
+     * @throws IOException if an error occurs
+     */
+    abstract void readFully(byte[] bytes) throws IOException;
+
+    /**
+     * Reads a UTF-8 encoded string.
+     *
+     * @param size  the size of the encoded string in bytes
+     * @return the string, not null
+     * @throws IOException if an error occurs
+     */
+    abstract String readString(int size) throws IOException;
+
+    /**
+     * Reads bytes, providing direct access to them without copying where possible.
+     * <p>
+     * The bytes start at the index returned by {@link #viewOffset()}.
+     * The array is only valid until the next read, and must not be altered.
+     *
+     * @param size  the number of bytes to read
+     * @return the array holding the bytes, not null
+     * @throws IOException if an error occurs
+     */
+    abstract byte[] readView(int size) throws IOException;
+
+    /**
+     * Gets the offset of the bytes returned by the last call to {@link #readView(int)}.
+     *
+     * @return the offset
+     */
+    abstract int viewOffset();
+
+    /**
+     * Skips the specified number of bytes.
+     *
+     * @param size  the number of bytes to skip
+     * @throws IOException if an error occurs
+     */
+    abstract void skipBytes(int size) throws IOException;
+
+    /**
+     * Marks the current position.
+     * <p>
+     * At most 32 bytes may be read before {@link #reset()} is called.
+     */
+    abstract void mark();
+
+    /**
+     * Resets to the marked position.
+     *
+     * @throws IOException if an error occurs
+     */
+    abstract void reset() throws IOException;
+
+    /**
+     * Closes the input.
+     *
+     * @throws IOException if an error occurs
+     */
+    abstract void close() throws IOException;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Skips over the next object.
+     * <p>
+     * The data of each extension within the object is skipped using the callback.
+     * This allows the reader of a format to act on the extensions that it defines.
+     *
+     * @param extensionSkipper  the callback used to skip the data of each extension, not null
+     * @throws IOException if an error occurs
+     */
+    void skipObject(ExtensionSkipper extensionSkipper) throws IOException {
+        long remaining = 1;
+        while (remaining > 0) {
+            remaining--;
+            byte b = readByte();
+            if (b >= MIN_FIX_INT) {  // no need to check for b <= MAX_FIX_INT
+                continue;
+            } else if (b >= MIN_FIX_STR && b <= MAX_FIX_STR) {
+                skipBytes(b - MIN_FIX_STR);
+            } else if (b >= MIN_FIX_ARRAY && b <= MAX_FIX_ARRAY) {
+                remaining += b - MIN_FIX_ARRAY;
+            } else if (b >= MIN_FIX_MAP && b <= MAX_FIX_MAP) {
+                remaining += (b - MIN_FIX_MAP) * 2L;
+            } else {
+                switch ((int) b) {
+                    case BIN_8:
+                    case STR_8:
+                        skipBytes(readUnsignedByte());
+                        break;
+                    case BIN_16:
+                    case STR_16:
+                        skipBytes(readUnsignedShort());
+                        break;
+                    case BIN_32:
+                    case STR_32:
+                        skipBytes(checkSize(readInt()));
+                        break;
+                    case EXT_8:
+                        skipExtension(readUnsignedByte(), extensionSkipper);
+                        break;
+                    case EXT_16:
+                        skipExtension(readUnsignedShort(), extensionSkipper);
+                        break;
+                    case EXT_32:
+                        skipExtension(checkSize(readInt()), extensionSkipper);
+                        break;
+                    case UINT_8:
+                    case SINT_8:
+                        skipBytes(1);
+                        break;
+                    case UINT_16:
+                    case SINT_16:
+                        skipBytes(2);
+                        break;
+                    case FLOAT_32:
+                    case UINT_32:
+                    case SINT_32:
+                        skipBytes(4);
+                        break;
+                    case FLOAT_64:
+                    case UINT_64:
+                    case SINT_64:
+                        skipBytes(8);
+                        break;
+                    case FIX_EXT_1:
+                        skipExtension(1, extensionSkipper);
+                        break;
+                    case FIX_EXT_2:
+                        skipExtension(2, extensionSkipper);
+                        break;
+                    case FIX_EXT_4:
+                        skipExtension(4, extensionSkipper);
+                        break;
+                    case FIX_EXT_8:
+                        skipExtension(8, extensionSkipper);
+                        break;
+                    case FIX_EXT_16:
+                        skipExtension(16, extensionSkipper);
+                        break;
+                    case ARRAY_16:
+                        remaining += readUnsignedShort();
+                        break;
+                    case ARRAY_32:
+                        remaining += checkSize(readInt());
+                        break;
+                    case MAP_16:
+                        remaining += readUnsignedShort() * 2L;
+                        break;
+                    case MAP_32:
+                        remaining += checkSize(readInt()) * 2L;
+                        break;
+                    default:
+                        // nil, boolean and unknown are a single byte
+                        break;
+                }
+            }
+        }
+    }
+
+    // reads the type of an extension, and skips the data using the callback
+    private void skipExtension(int size, ExtensionSkipper extensionSkipper) throws IOException {
+        extensionSkipper.skipExtension(readByte(), size);
+    }
+
+    // checks a 32 bit size
+    private static int checkSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid binary data: Size too large");
+        }
+        return size;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Callback used to skip the data of an extension when skipping an object.
+     */
+    @FunctionalInterface
+    interface ExtensionSkipper {
+
+        /**
+         * Skips the data of an extension, where the header and type have been read.
+         * <p>
+         * The data of the extension must be read or skipped.
+         * Any data following the extension that belongs to it may also be skipped.
+         *
+         * @param extensionType  the extension type
+         * @param size  the size of the data of the extension
+         * @throws IOException if an error occurs
+         */
+        void skipExtension(int extensionType, int size) throws IOException;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Input from a stream.
+     */
+    private static final class StreamInput extends MsgPackDataInput {
+        /**
+         * The maximum number of bytes that can be read after a mark.
+         */
+        private static final int MARK_LIMIT = 32;
+        /**
+         * The stream to read.
+         */
+        private final DataInputStream input;
+        /**
+         * The temporary array used to view bytes.
+         */
+        private byte[] scratch;
+
+        StreamInput(InputStream stream) {
+            if (stream instanceof DataInputStream && stream.markSupported()) {
+                this.input = (DataInputStream) stream;
+            } else if (stream.markSupported()) {
+                this.input = new DataInputStream(stream);
+            } else {
+                this.input = new DataInputStream(new BufferedInputStream(stream));
+            }
+        }
+
+        @Override
+        byte readByte() throws IOException {
+            return input.readByte();
+        }
+
+        @Override
+        int readUnsignedByte() throws IOException {
+            return input.readUnsignedByte();
+        }
+
+        @Override
+        short readShort() throws IOException {
+            return input.readShort();
+        }
+
+        @Override
+        int readUnsignedShort() throws IOException {
+            return input.readUnsignedShort();
+        }
+
+        @Override
+        int readInt() throws IOException {
+            return input.readInt();
+        }
+
+        @Override
+        long readLong() throws IOException {
+            return input.readLong();
+        }
+
+        @Override
+        void readFully(byte[] bytes) throws IOException {
+            input.readFully(bytes);
+        }
+
+        @Override
+        String readString(int size) throws IOException {
+            byte[] bytes = new byte[size];
+            input.readFully(bytes);
+            // inline common ASCII case for much better performance
+            char[] chars = new char[size];
+            for (int i = 0; i < size; i++) {
+                byte b = bytes[i];
+                if (b >= 0) {
+                    chars[i] = (char) b;
+                } else {
+                    return new String(bytes, UTF_8);
+                }
+            }
+            return new String(chars);
+        }
+
+        @Override
+        byte[] readView(int size) throws IOException {
+            if (scratch == null || scratch.length < size) {
+                scratch = new byte[Math.max(size, 64)];
+            }
+            input.readFully(scratch, 0, size);
+            return scratch;
+        }
+
+        @Override
+        int viewOffset() {
+            return 0;
+        }
+
+        @Override
+        void skipBytes(int size) throws IOException {
+            int remaining = size;
+            while (remaining > 0) {
+                int skipped = input.skipBytes(remaining);
+                if (skipped <= 0) {
+                    input.readByte();  // throws EOFException at end of stream
+                    skipped = 1;
+                }
+                remaining -= skipped;
+            }
+        }
+
+        @Override
+        void mark() {
+            input.mark(MARK_LIMIT);
+        }
+
+        @Override
+        void reset() throws IOException {
+            input.reset();
+        }
+
+        @Override
+        void close() throws IOException {
+            input.close();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Input from a buffer, using absolute index access.
+     */
+    private static final class BufferInput extends MsgPackDataInput {
+        /**
+         * The buffer to read.
+         */
+        private final ByteBuffer buffer;
+        /**
+         * The backing array, null if not accessible.
+         */
+        private final byte[] array;
+        /**
+         * The offset of the buffer within the backing array.
+         */
+        private final int arrayOffset;
+        /**
+         * The limit of the data.
+         */
+        private final int limit;
+        /**
+         * The current position.
+         */
+        private int pos;
+        /**
+         * The marked position.
+         */
+        private int mark;
+        /**
+         * The temporary array used to view bytes from a direct buffer.
+         */
+        private byte[] scratch;
+        /**
+         * The offset of the last viewed bytes.
+         */
+        private int viewOffset;
+
+        BufferInput(ByteBuffer buffer) {
+            this.buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+            this.array = buffer.hasArray() ? buffer.array() : null;
+            this.arrayOffset = buffer.hasArray() ? buffer.arrayOffset() : 0;
+            this.limit = buffer.limit();
+            this.pos = buffer.position();
+            this.mark = pos;
+        }
+
+        // checks that the specified number of bytes is available, returning the current position
+        private int require(int size) throws EOFException {
+            int current = pos;
+            if (limit - current < size) {
+                throw new EOFException();
+            }
+            pos = current + size;
+            return current;
+        }
+
+        @Override
+        byte readByte() throws IOException {
+            return buffer.get(require(1));
+        }
+
+        @Override
+        int readUnsignedByte() throws IOException {
+            return buffer.get(require(1)) & 0xFF;
+        }
+
+        @Override
+        short readShort() throws IOException {
+            return buffer.getShort(require(2));
+        }
+
+        @Override
+        int readUnsignedShort() throws IOException {
+            return buffer.getShort(require(2)) & 0xFFFF;
+        }
+
+        @Override
+        int readInt() throws IOException {
+            return buffer.getInt(require(4));
+        }
+
+        @Override
+        long readLong() throws IOException {
+            return buffer.getLong(require(8));
+        }
+
+        @Override
+        void readFully(byte[] bytes) throws IOException {
+            int start = require(bytes.length);
+            if (array != null) {
+                System.arraycopy(array, arrayOffset + start, bytes, 0, bytes.length);
+            } else {
+                for (int i = 0; i < bytes.length; i++) {
+                    bytes[i] = buffer.get(start + i);
+                }
+            }
+        }
+
+        @Override
+        String readString(int size) throws IOException {
+            byte[] bytes = readView(size);
+            int offset = viewOffset;
+            // inline common ASCII case for much better performance
+            char[] chars = new char[size];
+            for (int i = 0; i < size; i++) {
+                byte b = bytes[offset + i];
+                if (b >= 0) {
+                    chars[i] = (char) b;
+                } else {
+                    return new String(bytes, offset, size, UTF_8);
+                }
+            }
+            return new String(chars);
+        }
+
+        @Override
+        byte[] readView(int size) throws IOException {
+            int start = require(size);
+            if (array != null) {
+                viewOffset = arrayOffset + start;
+                return array;
+            }
+            if (scratch == null || scratch.length < size) {
+                scratch = new byte[Math.max(size, 64)];
+            }
+            for (int i = 0; i < size; i++) {
+                scratch[i] = buffer.get(start + i);
+            }
+            viewOffset = 0;
+            return scratch;
+        }
+
+        @Override
+        int viewOffset() {
+            return viewOffset;
+        }
+
+        @Override
+        void skipBytes(int size) throws IOException {
+            require(size);
+        }
+
+        @Override
+        void mark() {
+            mark = pos;
+        }
+
+        @Override
+        void reset() {
+            pos = mark;
+        }
+
+        @Override
+        void close() {
+            // nothing to close
+        }
+    }
+
+}
@@ -294,6 +294,32 @@ abstract class MsgPackInput extends MsgPack {
         byte[] bytes = new byte[size];
         input.readFully(bytes);
         handleExtension(type, numeric, bytes);
+        if (type == JODA_TYPE_CHUNKED && numeric == false) {
+            while (readChunk() > 0) {
+                // read until the empty chunk
+            }
+        }
+    }
+
+    // reads a chunk of a chunked array, returning the size
+    int readChunk() throws IOException {
+        handleObjectStart();
+        byte b = input.readByte();
+        int size;
+        if (b >= MIN_FIX_ARRAY && b <= MAX_FIX_ARRAY) {
+            size = b - MIN_FIX_ARRAY;
+        } else if (b == ARRAY_16) {
+            size = input.readUnsignedShort();
+        } else if (b == ARRAY_32) {
+            size = input.readInt();
+        } else {
+            throw new IllegalStateException("Expected array chunk");
+        }
+        if (size < 0) {
+            throw new IllegalStateException("Array too large");
+        }
+        array(size);
+        return size;
     }
 
     void handleObjectStart() {
@@ -338,24 +364,4 @@ abstract class MsgPackInput extends MsgPack {
     void handleExtension(int type, boolean numeric, byte[] bytes) throws IOException {
     }
 
-    //-----------------------------------------------------------------------
-    /**
-     * Skips over the next object in an input stream.
-     * 
-     * @param input  the input stream, not null
-     * @throws IOException if an error occurs
-     */
-    public static void skipObject(DataInputStream input) throws IOException {
-        new Skipper(input).skip(input.readByte());
-    }
-
-    private static class Skipper extends MsgPackInput {
-        Skipper(DataInputStream input) {
-            super(input);
-        }
-        void skip(int typeByte) throws IOException {
-            readObject(typeByte);
-        }
-    }
-
 }
@@ -15,36 +15,300 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
 
 /**
  * Outputter for MsgPack data.
+ * <p>
+ * The data is written directly into a {@code byte[]}, avoiding the cost of a stream per byte.
+ * The array is either growable, a buffer flushed to a stream, channel or direct {@code ByteBuffer},
+ * or the backing array of a heap {@code ByteBuffer}.
  */
 final class MsgPackOutput extends MsgPack {
 
     /**
-     * The stream to write to.
+     * The initial size of a growable buffer.
      */
-    private final DataOutputStream output;
+    private static final int GROWABLE_BUFFER_SIZE = 1024;
+    /**
+     * The size of the buffer used when flushing to a sink.
+     */
+    private static final int SINK_BUFFER_SIZE = 8192;
 
     /**
-     * Creates an instance.
+     * The buffer being written to.
+     */
+    private byte[] buf;
+    /**
+     * The position in the buffer to write to next.
+     */
+    private int pos;
+    /**
+     * The index in the buffer after the last byte that may be written.
+     */
+    private int limit;
+    /**
+     * The index in the buffer where the data starts, non-zero for an offset heap {@code ByteBuffer}.
+     */
+    private final int start;
+    /**
+     * The stream to flush to, null if not flushing to a stream.
+     */
+    private final OutputStream stream;
+    /**
+     * The channel to flush to, null if not flushing to a channel.
+     */
+    private final WritableByteChannel channel;
+    /**
+     * The target buffer, null if not writing to a buffer.
+     */
+    private final ByteBuffer target;
+    /**
+     * Whether the target buffer backs the buffer being written to.
+     */
+    private final boolean targetBacked;
+
+    /**
+     * Creates an instance that writes to a growable array.
+     */
+    MsgPackOutput() {
+        this(null, null, null, new byte[GROWABLE_BUFFER_SIZE]);
+    }
+
+    /**
+     * Creates an instance that flushes to a stream.
      * 
      * @param stream  the stream to write to, not null
      */
     MsgPackOutput(OutputStream stream) {
-        this.output = new DataOutputStream(stream);
+        this(stream, null, null, new byte[SINK_BUFFER_SIZE]);
     }
 
     /**
-     * Creates an instance.
+     * Creates an instance that flushes to a channel.
      * 
-     * @param stream  the stream to write to, not null
+     * @param channel  the channel to write to, not null
+     */
+    MsgPackOutput(WritableByteChannel channel) {
+        this(null, channel, null, new byte[SINK_BUFFER_SIZE]);
+    }
+
+    /**
+     * Creates an instance that writes to a buffer.
+     * <p>
+     * A heap buffer is written directly via its backing array.
+     * A direct buffer is written in blocks.
+     * The position of the buffer is only updated once {@link #flush()} is called.
+     * 
+     * @param target  the buffer to write to, not null
      */
-    MsgPackOutput(DataOutputStream stream) {
-        this.output = stream;
+    MsgPackOutput(ByteBuffer target) {
+        this(null, null, target, target.hasArray() ? target.array() : new byte[SINK_BUFFER_SIZE]);
+    }
+
+    // creates an instance
+    private MsgPackOutput(OutputStream stream, WritableByteChannel channel, ByteBuffer target, byte[] buf) {
+        this.stream = stream;
+        this.channel = channel;
+        this.target = target;
+        this.buf = buf;
+        this.targetBacked = target != null && target.hasArray();
+        if (targetBacked) {
+            this.start = target.arrayOffset() + target.position();
+            this.limit = target.arrayOffset() + target.limit();
+        } else {
+            this.start = 0;
+            this.limit = buf.length;
+        }
+        this.pos = start;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of bytes written to the growable array.
+     * 
+     * @return the size
+     */
+    int size() {
+        return pos - start;
+    }
+
+    /**
+     * Returns a copy of the bytes written to the growable array.
+     * 
+     * @return the bytes, not null
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOfRange(buf, start, pos);
+    }
+
+    /**
+     * Clears the growable array, so that it can be reused.
+     */
+    void reset() {
+        pos = start;
+    }
+
+    /**
+     * Flushes any buffered data to the stream, channel or buffer.
+     * <p>
+     * This does not flush the underlying stream.
+     * 
+     * @throws IOException if an error occurs
+     */
+    void flush() throws IOException {
+        if (targetBacked) {
+            target.position(pos - target.arrayOffset());
+        } else if (isGrowable() == false) {
+            flushBuffer();
+        }
+    }
+
+    // checks if the buffer is a growable array
+    private boolean isGrowable() {
+        return stream == null && channel == null && target == null;
+    }
+
+    // writes the buffer to the sink
+    private void flushBuffer() throws IOException {
+        if (pos > 0) {
+            writeToSink(buf, 0, pos);
+            pos = 0;
+        }
+    }
+
+    // writes bytes to the sink
+    private void writeToSink(byte[] bytes, int offset, int length) throws IOException {
+        if (stream != null) {
+            stream.write(bytes, offset, length);
+        } else if (channel != null) {
+            ByteBuffer wrapped = ByteBuffer.wrap(bytes, offset, length);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+        } else if (target != null) {
+            target.put(bytes, offset, length);
+        }
+    }
+
+    // ensures that there is space for the specified number of bytes
+    private void ensure(int required) throws IOException {
+        if (limit - pos < required) {
+            makeSpace(required);
+        }
+    }
+
+    // makes space in the buffer, by growing or flushing
+    private void makeSpace(int required) throws IOException {
+        if (targetBacked) {
+            throw new BufferOverflowException();
+        } else if (isGrowable()) {
+            int newSize = Math.max(buf.length * 2, pos + required);
+            if (newSize < 0) {
+                throw new OutOfMemoryError("Binary data too large");
+            }
+            buf = Arrays.copyOf(buf, newSize);
+            limit = newSize;
+        } else {
+            flushBuffer();
+        }
+    }
+
+    // writes a single byte
+    private void put1(int value) throws IOException {
+        ensure(1);
+        buf[pos++] = (byte) value;
+    }
+
+    // writes a byte and a big-endian 8 bit value
+    private void put1And1(int marker, int value) throws IOException {
+        ensure(2);
+        buf[pos++] = (byte) marker;
+        buf[pos++] = (byte) value;
+    }
+
+    // writes a byte and a big-endian 16 bit value
+    private void put1And2(int marker, int value) throws IOException {
+        ensure(3);
+        byte[] buf = this.buf;
+        int pos = this.pos;
+        buf[pos] = (byte) marker;
+        buf[pos + 1] = (byte) (value >>> 8);
+        buf[pos + 2] = (byte) value;
+        this.pos = pos + 3;
+    }
+
+    // writes a byte and a big-endian 32 bit value
+    private void put1And4(int marker, int value) throws IOException {
+        ensure(5);
+        byte[] buf = this.buf;
+        int pos = this.pos;
+        buf[pos] = (byte) marker;
+        buf[pos + 1] = (byte) (value >>> 24);
+        buf[pos + 2] = (byte) (value >>> 16);
+        buf[pos + 3] = (byte) (value >>> 8);
+        buf[pos + 4] = (byte) value;
+        this.pos = pos + 5;
+    }
+
+    // writes a byte and a big-endian 64 bit value
+    private void put1And8(int marker, long value) throws IOException {
+        ensure(9);
+        byte[] buf = this.buf;
+        int pos = this.pos;
+        buf[pos] = (byte) marker;
+        buf[pos + 1] = (byte) (value >>> 56);
+        buf[pos + 2] = (byte) (value >>> 48);
+        buf[pos + 3] = (byte) (value >>> 40);
+        buf[pos + 4] = (byte) (value >>> 32);
+        buf[pos + 5] = (byte) (value >>> 24);
+        buf[pos + 6] = (byte) (value >>> 16);
+        buf[pos + 7] = (byte) (value >>> 8);
+        buf[pos + 8] = (byte) value;
+        this.pos = pos + 9;
+    }
+
+    // writes a big-endian 64 bit value
+    private void put8(long value) throws IOException {
+        ensure(8);
+        byte[] buf = this.buf;
+        int pos = this.pos;
+        buf[pos] = (byte) (value >>> 56);
+        buf[pos + 1] = (byte) (value >>> 48);
+        buf[pos + 2] = (byte) (value >>> 40);
+        buf[pos + 3] = (byte) (value >>> 32);
+        buf[pos + 4] = (byte) (value >>> 24);
+        buf[pos + 5] = (byte) (value >>> 16);
+        buf[pos + 6] = (byte) (value >>> 8);
+        buf[pos + 7] = (byte) value;
+        this.pos = pos + 8;
+    }
+
+    // writes a block of bytes, bypassing the buffer if the block is large
+    private void putBytes(byte[] bytes) throws IOException {
+        putBytes(bytes, 0, bytes.length);
+    }
+
+    // writes part of an array of bytes, bypassing the buffer if the block is large
+    private void putBytes(byte[] bytes, int offset, int length) throws IOException {
+        if (limit - pos < length) {
+            if (targetBacked || isGrowable()) {
+                makeSpace(length);
+            } else {
+                flushBuffer();
+                if (length >= buf.length) {
+                    writeToSink(bytes, offset, length);
+                    return;
+                }
+            }
+        }
+        System.arraycopy(bytes, offset, buf, pos, length);
+        pos += length;
     }
 
     //-----------------------------------------------------------------------
@@ -54,7 +318,7 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeNil() throws IOException {
-        output.writeByte(NIL);
+        put1(NIL);
     }
 
     /**
@@ -65,9 +329,9 @@ final class MsgPackOutput extends MsgPack {
      */
     void writeBoolean(boolean value) throws IOException {
         if (value) {
-            output.writeByte(TRUE);
+            put1(TRUE);
         } else {
-            output.writeByte(FALSE);
+            put1(FALSE);
         }
     }
 
@@ -81,29 +345,23 @@ final class MsgPackOutput extends MsgPack {
         if (value < MIN_FIX_INT) {
             // large negative
             if (value >= Byte.MIN_VALUE) {
-                output.writeByte(SINT_8);
-                output.writeByte((byte) value);
+                put1And1(SINT_8, value);
             } else if (value >= Short.MIN_VALUE) {
-                output.writeByte(SINT_16);
-                output.writeShort((short) value);
+                put1And2(SINT_16, value);
             } else {
-                output.writeByte(SINT_32);
-                output.writeInt(value);
+                put1And4(SINT_32, value);
             }
         } else if (value < MAX_FIX_INT) {
             // in range -64 to 127
-            output.writeByte(value);
+            put1(value);
         } else {
             // large positive
             if (value < 0xFF) {
-                output.writeByte(UINT_8);
-                output.writeByte((byte) value);
+                put1And1(UINT_8, value);
             } else if (value < 0xFFFF) {
-                output.writeByte(UINT_16);
-                output.writeShort((short) value);
+                put1And2(UINT_16, value);
             } else {
-                output.writeByte(UINT_32);
-                output.writeInt(value);
+                put1And4(UINT_32, value);
             }
         }
     }
@@ -118,35 +376,27 @@ final class MsgPackOutput extends MsgPack {
         if (value < MIN_FIX_INT) {
             // large negative
             if (value >= Byte.MIN_VALUE) {
-                output.writeByte(SINT_8);
-                output.writeByte((byte) value);
+                put1And1(SINT_8, (int) value);
             } else if (value >= Short.MIN_VALUE) {
-                output.writeByte(SINT_16);
-                output.writeShort((short) value);
+                put1And2(SINT_16, (int) value);
             } else if (value >= Integer.MIN_VALUE) {
-                output.writeByte(SINT_32);
-                output.writeInt((int) value);
+                put1And4(SINT_32, (int) value);
             } else {
-                output.writeByte(SINT_64);
-                output.writeLong(value);
+                put1And8(SINT_64, value);
             }
         } else if (value < MAX_FIX_INT) {
             // in range -64 to 127
-            output.writeByte((byte) value);
+            put1((int) value);
         } else {
             // large positive
             if (value < 0xFF) {
-                output.writeByte(UINT_8);
-                output.writeByte((byte) value);
+                put1And1(UINT_8, (int) value);
             } else if (value < 0xFFFF) {
-                output.writeByte(UINT_16);
-                output.writeShort((short) value);
+                put1And2(UINT_16, (int) value);
             } else if (value < 0xFFFFFFFFL) {
-                output.writeByte(UINT_32);
-                output.writeInt((int) value);
+                put1And4(UINT_32, (int) value);
             } else {
-                output.writeByte(UINT_64);
-                output.writeLong(value);
+                put1And8(UINT_64, value);
             }
         }
     }
@@ -158,8 +408,7 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeFloat(float value) throws IOException {
-        output.writeByte(FLOAT_32);
-        output.writeFloat(value);
+        put1And4(FLOAT_32, Float.floatToIntBits(value));
     }
 
     /**
@@ -169,8 +418,7 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeDouble(double value) throws IOException {
-        output.writeByte(FLOAT_64);
-        output.writeDouble(value);
+        put1And8(FLOAT_64, Double.doubleToLongBits(value));
     }
 
     /**
@@ -180,57 +428,152 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeBytes(byte[] bytes) throws IOException {
-        int size = bytes.length;
+        writeBinaryHeader(bytes.length);
+        putBytes(bytes);
+    }
+
+    /**
+     * Writes the data of a growable output as a MessagePack byte block.
+     * 
+     * @param data  the output holding the data, not null
+     * @throws IOException if an error occurs
+     */
+    void writeBytes(MsgPackOutput data) throws IOException {
+        int size = data.size();
+        writeBinaryHeader(size);
+        putBytes(data.buf, data.start, size);
+    }
+
+    // writes the header of a byte block
+    private void writeBinaryHeader(int size) throws IOException {
         if (size < 256) {
-            output.writeByte(BIN_8);
-            output.writeByte(size);
+            put1And1(BIN_8, size);
         } else if (size < 65536) {
-            output.writeByte(BIN_16);
-            output.writeShort(size);
+            put1And2(BIN_16, size);
         } else {
-            output.writeByte(BIN_32);
-            output.writeInt(size);
+            put1And4(BIN_32, size);
         }
-        output.write(bytes);
     }
 
     /**
      * Writes a MessagePack string.
+     * <p>
+     * The string is encoded as UTF-8 directly into the buffer.
      * 
      * @param value  the value
      * @throws IOException if an error occurs
      */
     void writeString(String value) throws IOException {
-        byte[] bytes = toUTF8(value);
-        int size = bytes.length;
+        int size = utf8Length(value);
+        writeStringHeader(size);
+        putUtf8(value, size);
+    }
+
+    /**
+     * Writes a MessagePack string that has been pre-encoded.
+     * 
+     * @param encoded  the encoded string, including the header, from {@link #encodeString(String)}
+     * @throws IOException if an error occurs
+     */
+    void writeEncodedString(byte[] encoded) throws IOException {
+        putBytes(encoded);
+    }
+
+    /**
+     * Encodes a MessagePack string, including the header.
+     * <p>
+     * This allows frequently used strings, such as property names, to be encoded once.
+     * 
+     * @param value  the value
+     * @return the encoded string, not null
+     */
+    static byte[] encodeString(String value) {
+        MsgPackOutput output = new MsgPackOutput();
+        try {
+            output.writeString(value);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return output.toByteArray();
+    }
+
+    // writes the string header
+    private void writeStringHeader(int size) throws IOException {
         if (size < 32) {
-            output.writeByte(MIN_FIX_STR + size);
+            put1(MIN_FIX_STR + size);
         } else if (size < 256) {
-            output.writeByte(STR_8);
-            output.writeByte(size);
+            put1And1(STR_8, size);
         } else if (size < 65536) {
-            output.writeByte(STR_16);
-            output.writeShort(size);
+            put1And2(STR_16, size);
         } else {
-            output.writeByte(STR_32);
-            output.writeInt(size);
+            put1And4(STR_32, size);
+        }
+    }
+
+    // calculates the length of the string when encoded as UTF-8
+    // this matches String.getBytes(UTF_8), where an unpaired surrogate is encoded as '?'
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int size = length;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch >= 0x80) {
+                if (ch < 0x800) {
+                    size++;
+                } else if (Character.isSurrogate(ch)) {
+                    if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        size += 2;
+                        i++;
+                    }
+                } else {
+                    size += 2;
+                }
+            }
         }
-        output.write(bytes);
+        return size;
     }
 
-    private byte[] toUTF8(String value) {
-        // inline common ASCII case for much better performance
-        int size = value.length();
-        byte[] bytes = new byte[size];
-        for (int i = 0; i < size; i++) {
+    // writes the UTF-8 encoded form of the string directly into the buffer
+    private void putUtf8(String value, int size) throws IOException {
+        if (limit - pos < size) {
+            if (targetBacked || isGrowable()) {
+                makeSpace(size);
+            } else {
+                flushBuffer();
+                if (size > buf.length) {
+                    // very large string, encode via a temporary array
+                    writeToSink(value.getBytes(UTF_8), 0, size);
+                    return;
+                }
+            }
+        }
+        byte[] buf = this.buf;
+        int pos = this.pos;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
             char ch = value.charAt(i);
-            if (ch < 128) {
-                bytes[i] = (byte) ch;
+            if (ch < 0x80) {
+                buf[pos++] = (byte) ch;
+            } else if (ch < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (ch >> 6));
+                buf[pos++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                    buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    buf[pos++] = (byte) '?';
+                }
             } else {
-                return value.getBytes(UTF_8);
+                buf[pos++] = (byte) (0xE0 | (ch >> 12));
+                buf[pos++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (ch & 0x3F));
             }
         }
-        return bytes;
+        this.pos = pos;
     }
 
     /**
@@ -241,13 +584,11 @@ final class MsgPackOutput extends MsgPack {
      */
     void writeArrayHeader(int size) throws IOException {
         if (size < 16) {
-            output.writeByte(MIN_FIX_ARRAY + size);
+            put1(MIN_FIX_ARRAY + size);
         } else if (size < 65536) {
-            output.writeByte(ARRAY_16);
-            output.writeShort(size);
+            put1And2(ARRAY_16, size);
         } else {
-            output.writeByte(ARRAY_32);
-            output.writeInt(size);
+            put1And4(ARRAY_32, size);
         }
     }
 
@@ -259,13 +600,11 @@ final class MsgPackOutput extends MsgPack {
      */
     void writeMapHeader(int size) throws IOException {
         if (size < 16) {
-            output.writeByte(MIN_FIX_MAP + size);
+            put1(MIN_FIX_MAP + size);
         } else if (size < 65536) {
-            output.writeByte(MAP_16);
-            output.writeShort(size);
+            put1And2(MAP_16, size);
         } else {
-            output.writeByte(MAP_32);
-            output.writeInt(size);
+            put1And4(MAP_32, size);
         }
     }
 
@@ -277,9 +616,8 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeExtensionByte(int extensionType, int value) throws IOException {
-        output.write(FIX_EXT_1);
-        output.write(extensionType);
-        output.write(value);
+        put1And1(FIX_EXT_1, extensionType);
+        put1(value);
     }
 
     /**
@@ -290,14 +628,13 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeExtensionString(int extensionType, String str) throws IOException {
-        byte[] bytes = str.getBytes(UTF_8);
-        if (bytes.length > 256) {
+        int size = utf8Length(str);
+        if (size > 256) {
             throw new IllegalArgumentException("String too long");
         }
-        output.write(EXT_8);
-        output.write(bytes.length);
-        output.write(extensionType);
-        output.write(bytes);
+        put1And1(EXT_8, size);
+        put1(extensionType);
+        putUtf8(str, size);
     }
 
     /**
@@ -312,17 +649,130 @@ final class MsgPackOutput extends MsgPack {
             throw new IllegalArgumentException("Can only serialize positive references: " + reference);
         }
         if (reference < 0xFF) {
-            output.write(FIX_EXT_1);
-            output.write(extensionType);
-            output.writeByte((byte) reference);
+            put1And1(FIX_EXT_1, extensionType);
+            put1(reference);
         } else if (reference < 0xFFFF) {
-            output.writeByte(FIX_EXT_2);
-            output.write(extensionType);
-            output.writeShort((short) reference);
+            put1(FIX_EXT_2);
+            put1And2(extensionType, reference);
+        } else {
+            put1(FIX_EXT_4);
+            put1And4(extensionType, reference);
+        }
+    }
+
+    /**
+     * Writes an extension of a signed long using the smallest FIX_EXT data type.
+     * 
+     * @param extensionType  the type
+     * @param value  the value to write as the data
+     * @throws IOException if an error occurs
+     */
+    void writeExtensionLong(int extensionType, long value) throws IOException {
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            put1And1(FIX_EXT_1, extensionType);
+            put1((int) value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            put1(FIX_EXT_2);
+            put1And2(extensionType, (int) value);
+        } else if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            put1(FIX_EXT_4);
+            put1And4(extensionType, (int) value);
+        } else {
+            put1(FIX_EXT_8);
+            put1And8(extensionType, value);
+        }
+    }
+
+    /**
+     * Writes an extension of two longs using FIX_EXT_16.
+     * 
+     * @param extensionType  the type
+     * @param value1  the first value to write as the data
+     * @param value2  the second value to write as the data
+     * @throws IOException if an error occurs
+     */
+    void writeExtensionLongs(int extensionType, long value1, long value2) throws IOException {
+        put1(FIX_EXT_16);
+        put1And8(extensionType, value1);
+        put8(value2);
+    }
+
+    /**
+     * Writes an extension of a scale and unscaled value, such as that of a {@code BigDecimal}.
+     * <p>
+     * The scale is written as a single byte if possible, otherwise as -128 followed by four bytes.
+     * The unscaled value is written as the remaining data.
+     * 
+     * @param extensionType  the type
+     * @param scale  the scale
+     * @param unscaled  the big-endian two's complement unscaled value, not empty
+     * @throws IOException if an error occurs
+     */
+    void writeExtensionScaled(int extensionType, int scale, byte[] unscaled) throws IOException {
+        boolean byteScale = scale > Byte.MIN_VALUE && scale <= Byte.MAX_VALUE;
+        writeExtensionHeader(extensionType, unscaled.length + (byteScale ? 1 : 5));
+        if (byteScale) {
+            put1(scale);
+        } else {
+            put1And4(Byte.MIN_VALUE, scale);
+        }
+        putBytes(unscaled);
+    }
+
+    /**
+     * Writes a MessagePack timestamp extension.
+     * <p>
+     * The smallest of the three timestamp formats that can hold the value is used.
+     * 
+     * @param seconds  the seconds from the epoch of 1970-01-01T00:00:00Z
+     * @param nanos  the nanoseconds within the second, from 0 to 999,999,999
+     * @throws IOException if an error occurs
+     */
+    void writeTimestamp(long seconds, int nanos) throws IOException {
+        if ((seconds >>> 34) == 0) {
+            long data = ((long) nanos << 34) | seconds;
+            if ((data >>> 32) == 0) {
+                put1(FIX_EXT_4);
+                put1And4(TIMESTAMP, (int) data);
+            } else {
+                put1(FIX_EXT_8);
+                put1And8(TIMESTAMP, data);
+            }
         } else {
-            output.writeByte(FIX_EXT_4);
-            output.write(extensionType);
-            output.writeInt(reference);
+            put1And1(EXT_8, 12);
+            put1And4(TIMESTAMP, nanos);
+            put8(seconds);
+        }
+    }
+
+    // writes the header of an extension, using FIX_EXT where possible
+    private void writeExtensionHeader(int extensionType, int size) throws IOException {
+        switch (size) {
+            case 1:
+                put1And1(FIX_EXT_1, extensionType);
+                break;
+            case 2:
+                put1And1(FIX_EXT_2, extensionType);
+                break;
+            case 4:
+                put1And1(FIX_EXT_4, extensionType);
+                break;
+            case 8:
+                put1And1(FIX_EXT_8, extensionType);
+                break;
+            case 16:
+                put1And1(FIX_EXT_16, extensionType);
+                break;
+            default:
+                if (size < 256) {
+                    put1And1(EXT_8, size);
+                } else if (size < 65536) {
+                    put1And2(EXT_16, size);
+                } else {
+                    put1And4(EXT_32, size);
+                }
+                put1(extensionType);
+                break;
         }
     }
 
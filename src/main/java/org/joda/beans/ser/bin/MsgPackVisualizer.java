@@ -18,6 +18,13 @@ package org.joda.beans.ser.bin;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
 
 /**
  * Allows MsgPack data to be visualized.
@@ -77,6 +84,14 @@ final class MsgPackVisualizer extends MsgPackInput {
         indent = indent.substring(0, indent.length() - 2);
     }
 
+    @Override
+    int readChunk() throws IOException {
+        indent = indent + "~ ";
+        int size = super.readChunk();
+        indent = indent.substring(0, indent.length() - 2);
+        return size;
+    }
+
     @Override
     void readMapKey() throws IOException {
         indent = indent + "= ";
@@ -94,7 +109,7 @@ final class MsgPackVisualizer extends MsgPackInput {
     @Override
     void handleObjectStart() {
         buf.append(indent);
-        indent = indent.replace("-", " ").replace("=", " ");
+        indent = indent.replace("-", " ").replace("=", " ").replace("~", " ");
     }
 
     @Override
@@ -164,7 +179,10 @@ final class MsgPackVisualizer extends MsgPackInput {
     @Override
     void handleExtension(int type, boolean numeric, byte[] bytes) throws IOException {
         String str;
-        if (numeric) {
+        if (type == JODA_TYPE_DATE || type == JODA_TYPE_UUID || type == JODA_TYPE_DECIMAL ||
+                type == JODA_TYPE_ENUM_REF || type == TIMESTAMP) {
+            str = visualizeCompactValue(type, bytes);
+        } else if (numeric) {
             int value = 0;
             for (byte b : bytes) {
                 value = (value << 8) | (0xFF & b);
@@ -199,10 +217,61 @@ final class MsgPackVisualizer extends MsgPackInput {
             case JODA_TYPE_REF:
                 buf.append(" (ref)");
                 break;
+            case JODA_TYPE_CHUNKED:
+                buf.append(" (chunked)");
+                break;
+            case JODA_TYPE_DATE:
+                buf.append(" (date)");
+                break;
+            case JODA_TYPE_UUID:
+                buf.append(" (uuid)");
+                break;
+            case JODA_TYPE_DECIMAL:
+                buf.append(" (decimal)");
+                break;
+            case JODA_TYPE_ENUM:
+                buf.append(" (enum)");
+                break;
+            case JODA_TYPE_ENUM_REF:
+                buf.append(" (enumref)");
+                break;
+            case TIMESTAMP:
+                buf.append(" (timestamp)");
+                break;
             default:
                 break;
         }
         buf.append(System.lineSeparator());
     }
 
+    // decodes the data of a compact value for display
+    private static String visualizeCompactValue(int type, byte[] bytes) {
+        ByteBuffer data = ByteBuffer.wrap(bytes);
+        switch (type) {
+            case JODA_TYPE_DATE:
+                return LocalDate.ofEpochDay(new BigInteger(bytes).longValue()).toString();
+            case JODA_TYPE_UUID:
+                return new UUID(data.getLong(), data.getLong()).toString();
+            case JODA_TYPE_DECIMAL: {
+                int scale = data.get();
+                if (scale == Byte.MIN_VALUE) {
+                    scale = data.getInt();
+                }
+                return new BigDecimal(new BigInteger(Arrays.copyOfRange(bytes, data.position(), bytes.length)), scale).toString();
+            }
+            case TIMESTAMP:
+                if (bytes.length == 4) {
+                    return Instant.ofEpochSecond(data.getInt() & 0xFFFFFFFFL).toString();
+                } else if (bytes.length == 8) {
+                    long value = data.getLong();
+                    return Instant.ofEpochSecond(value & 0x3FFFFFFFFL, value >>> 34).toString();
+                } else {
+                    int nanos = data.getInt();
+                    return Instant.ofEpochSecond(data.getLong(), nanos).toString();
+                }
+            default:
+                return new BigInteger(bytes).toString();
+        }
+    }
+
 }
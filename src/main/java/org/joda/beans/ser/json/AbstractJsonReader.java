@@ -22,6 +22,7 @@ import static org.joda.beans.ser.json.JodaBeanJsonWriter.VALUE;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -30,9 +31,12 @@ import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerConverterCache;
 import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerIterable;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerPropertyNameCache;
+import org.joda.beans.ser.SerReadPlan;
+import org.joda.beans.ser.SerStreamedProperty;
 import org.joda.beans.ser.SerTypeMapper;
 
 /**
@@ -61,6 +65,14 @@ abstract class AbstractJsonReader {
      * The known types.
      */
     private Map<String, Class<?>> knownTypes = new HashMap<>();
+    /**
+     * The cache of property names.
+     */
+    private final SerPropertyNameCache propertyNames = new SerPropertyNameCache();
+    /**
+     * The property of the root bean to stream, null if not streaming.
+     */
+    private SerStreamedProperty streamed;
 
     /**
      * Creates an instance.
@@ -87,24 +99,53 @@ abstract class AbstractJsonReader {
         return declaredType.cast(parsed);
     }
 
+    /**
+     * Parses the root bean, streaming the elements of a collection property.
+     * 
+     * @param input  the JSON input
+     * @param declaredType  the declared type, not null
+     * @param propertyName  the name of the collection property of the root bean to stream, not null
+     * @param elementConsumer  the consumer of the elements, not null
+     * @return the bean, not null
+     * @throws Exception if an error occurs
+     */
+    <T> T parseRoot(JsonInput input, Class<T> declaredType, String propertyName, Consumer<Object> elementConsumer) throws Exception {
+        this.streamed = SerStreamedProperty.of(propertyName, elementConsumer);
+        return parseRoot(input, declaredType);
+    }
+
     // parse a bean, event after object start passed in
     private Object parseBean(JsonEvent event, Class<?> beanType) throws Exception {
         String propName = "";
         try {
-            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
-            MetaBean metaBean = deser.findMetaBean(beanType);
+            SerReadPlan plan = SerReadPlan.of(beanType, settings);
+            SerDeserializer deser = plan.getDeserializer();
+            MetaBean metaBean = plan.getMetaBean();
             BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            String streamName = (streamed != null ? streamed.startBean(metaBean) : null);
             while (event != JsonEvent.OBJECT_END) {
                 // property name
-                propName = input.acceptObjectKey(event);
-                MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                CharSequence key = input.acceptObjectKeyView(event);
+                SerReadPlan.Property prop = plan.find(key);
+                if (prop == null) {
+                    prop = propertyNames.find(key, beanType, metaBean);
+                    if (prop == null) {
+                        propName = key.toString();
+                        prop = plan.resolve(propName);
+                        propertyNames.add(prop, beanType, metaBean);
+                    }
+                }
+                propName = prop.getName();
                 // ignore unknown properties
-                if (metaProp == null || metaProp.style().isDerived()) {
+                if (prop.isSkipped()) {
                     input.skipData();
+                } else if (streamName != null && prop.getMetaProperty().name().equals(streamName)) {
+                    streamed.startProperty();
+                    streamed.endProperty(parseObject(input.readEvent(), prop.getType(), prop.getMetaProperty(), beanType, null, false));
                 } else {
-                    Object value = parseObject(input.readEvent(),
-                            SerOptional.extractType(metaProp, beanType), metaProp, beanType, null, false);
-                    deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
+                    MetaProperty<?> metaProp = prop.getMetaProperty();
+                    Object value = parseObject(input.readEvent(), prop.getType(), metaProp, beanType, null, false);
+                    deser.setValue(builder, metaProp, prop.wrapValue(value));
                 }
                 propName = "";
                 event = input.acceptObjectSeparator();
@@ -125,6 +166,7 @@ abstract class AbstractJsonReader {
             SerIterable parentIterable,
             boolean rootType) throws Exception {
 
+        boolean streamedValue = streamed != null && streamed.startValue();
         // avoid nulls
         Class<?> declaredType = (inputDeclaredType == null ? Object.class : inputDeclaredType);
         // establish type
@@ -137,7 +179,7 @@ abstract class AbstractJsonReader {
                 } else if (key.equals(TYPE)) {
                     return parseTypedSimple(declaredType);
                 } else if (key.equals(META)) {
-                    return parseTypedMeta();
+                    return parseTypedMeta(streamedValue);
                 } else {
                     input.pushBack('"');
                     input.pushBackObjectKey(key);
@@ -172,7 +214,7 @@ abstract class AbstractJsonReader {
                         childIterable = parseUnknownObject(declaredType);
                     }
                 }
-                return parseIterable(event, childIterable);
+                return parseIterable(event, streamedValue ? streamed.iterable(childIterable) : childIterable);
             } else {
                 return parseSimple(event, declaredType);
             }
@@ -224,9 +266,12 @@ abstract class AbstractJsonReader {
         return result;
     }
 
-    private Object parseTypedMeta() throws Exception {
+    private Object parseTypedMeta(boolean streamedValue) throws Exception {
         String metaType = input.acceptString();
         SerIterable childIterable = settings.getIteratorFactory().createIterable(metaType, settings, knownTypes);
+        if (streamedValue) {
+            childIterable = streamed.iterable(childIterable);
+        }
         input.acceptEvent(JsonEvent.COMMA);
         String valueKey = input.acceptObjectKey(input.readEvent());
         if (valueKey.equals(VALUE) == false) {
@@ -421,7 +466,7 @@ abstract class AbstractJsonReader {
         if (type == Object.class || type.isAssignableFrom(String.class)) {
             return text;
         }
-        return settings.getConverter().convertFromString(type, text);
+        return SerConverterCache.of(settings).convertFromString(type, text);
     }
 
 }
@@ -17,10 +17,12 @@ package org.joda.beans.ser.json;
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.function.Consumer;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerStreamedProperty;
 
 /**
  * Provides the ability for a Joda-Bean to read from JSON.
@@ -96,4 +98,32 @@ public class JodaBeanJsonReader extends AbstractJsonReader {
         }
     }
 
+    /**
+     * Reads and parses to a bean, streaming the elements of a collection property of the root bean.
+     * <p>
+     * The elements of the named property are passed to the consumer as they are parsed,
+     * without building the collection, as described in {@link SerStreamedProperty}.
+     * 
+     * @param <T>  the root type
+     * @param input  the input reader, not null
+     * @param rootType  the root type, not null
+     * @param propertyName  the name of the collection property of the root bean to stream, not null
+     * @param elementConsumer  the consumer of the elements, not null
+     * @return the root bean, without the streamed property, not null
+     */
+    public <T> T read(Reader input, Class<T> rootType, String propertyName, Consumer<Object> elementConsumer) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        JodaBeanUtils.notNull(propertyName, "propertyName");
+        JodaBeanUtils.notNull(elementConsumer, "elementConsumer");
+        try {
+            JsonInput jsonInput = new JsonInput(input);
+            return parseRoot(jsonInput, rootType, propertyName, elementConsumer);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
 }
@@ -16,7 +16,9 @@
 package org.joda.beans.ser.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 import org.joda.beans.Bean;
@@ -24,9 +26,11 @@ import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerConverterCache;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerStreamedElements;
 import org.joda.beans.ser.SerTypeMapper;
+import org.joda.beans.ser.SerWritePlan;
 import org.joda.convert.StringConverter;
 
 /**
@@ -98,6 +102,10 @@ public class JodaBeanJsonWriter {
      * The known types.
      */
     private Map<Class<?>, String> knownTypes = new HashMap<>();
+    /**
+     * The elements of the property of the root bean to stream, null if not streaming.
+     */
+    private SerStreamedElements streamed;
 
     /**
      * Creates an instance.
@@ -168,6 +176,68 @@ public class JodaBeanJsonWriter {
         output.append(settings.getNewLine());
     }
 
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8.
+     * <p>
+     * The type of the bean will be set in the message.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean, OutputStream output) throws IOException {
+        write(bean, true, output);
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8 specifying whether to include the type at the root.
+     * <p>
+     * The JSON is encoded directly as UTF-8 bytes, without creating an intermediate string.
+     * The data is buffered internally and written to the stream in blocks.
+     * The stream is not flushed or closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean, boolean rootType, OutputStream output) throws IOException {
+        JodaBeanUtils.notNull(bean, "bean");
+        JodaBeanUtils.notNull(output, "output");
+        JsonUtf8Output utf8Output = new JsonUtf8Output(output, settings.getIndent(), settings.getNewLine());
+        this.output = utf8Output;
+        writeBean(bean, bean.getClass(), rootType ? RootType.ROOT_WITH_TYPE : RootType.ROOT_WITHOUT_TYPE);
+        utf8Output.append(settings.getNewLine());
+        utf8Output.flush();
+    }
+
+    /**
+     * Writes the bean to the {@code Appendable}, streaming the elements of a collection property.
+     * <p>
+     * The elements of the named collection property are taken from the iterator, rather than the bean,
+     * and are written as they are produced. This allows a bean with a very large collection to be
+     * written without holding all the elements in memory at the same time.
+     * A {@code Stream} can be written by passing {@code stream.iterator()}.
+     * <p>
+     * The type of the bean will be set in the message.
+     * 
+     * @param bean  the bean to output, the value of the streamed property is ignored, not null
+     * @param propertyName  the name of the collection property to stream, not null
+     * @param elements  the elements of the collection property, not null
+     * @param output  the output appendable, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean, String propertyName, Iterator<?> elements, Appendable output) throws IOException {
+        JodaBeanUtils.notNull(bean, "bean");
+        JodaBeanUtils.notNull(output, "output");
+        this.streamed = SerStreamedElements.of(propertyName, elements);
+        try {
+            write(bean, true, output);
+        } finally {
+            this.streamed = null;
+        }
+    }
+
     //-----------------------------------------------------------------------
     // write a bean as a JSON object
     private void writeBean(Bean bean, Class<?> declaredType, RootType rootTypeFlag) throws IOException {
@@ -181,25 +251,35 @@ public class JodaBeanJsonWriter {
             output.writeObjectKeyValue(BEAN, typeStr);
         }
         // property information
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    output.writeObjectKey(prop.name());
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            writeSimple(propType, value);
-                        } else {
-                            writeBean((Bean) value, propType, RootType.NOT_ROOT);
-                        }
+        SerWritePlan plan = SerWritePlan.of(bean, settings);
+        int streamIndex = (streamed != null ? streamed.startBean(plan) : -1);
+        for (int i = 0; i < plan.propertyCount(); i++) {
+            SerWritePlan.Property planProp = plan.property(i);
+            if (planProp.isPrimitive() && i != streamIndex) {
+                output.writePropertyKey(planProp.getMetaProperty());
+                writePrimitive(planProp, bean);
+                continue;
+            }
+            Object value = (i == streamIndex ? streamed.getElements() : planProp.extractValue(bean));
+            if (value != null) {
+                output.writePropertyKey(planProp.getMetaProperty());
+                Class<?> propType = planProp.getType();
+                if (i == streamIndex) {
+                    writeStreamed(planProp.getMetaProperty(), bean.getClass());
+                } else if (planProp.isSimple()) {
+                    writeSimple(propType, value);
+                } else if (value instanceof Bean) {
+                    if (SerConverterCache.of(settings).isConvertible(value.getClass())) {
+                        writeSimple(propType, value);
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                        if (itemIterator != null) {
-                            writeElements(itemIterator);
-                        } else {
-                            writeSimple(propType, value);
-                        }
+                        writeBean((Bean) value, propType, RootType.NOT_ROOT);
+                    }
+                } else {
+                    SerIterator itemIterator = settings.getIteratorFactory().create(value, planProp.getMetaProperty(), bean.getClass());
+                    if (itemIterator != null) {
+                        writeElements(itemIterator);
+                    } else {
+                        writeSimple(propType, value);
                     }
                 }
             }
@@ -207,6 +287,19 @@ public class JodaBeanJsonWriter {
         output.writeObjectEnd();
     }
 
+    // write the streamed elements as an array
+    private void writeStreamed(MetaProperty<?> prop, Class<?> beanType) throws IOException {
+        SerIterator elementTypes = streamed.elementTypes(settings, prop, beanType);
+        Iterator<?> elements = streamed.getElements();
+        output.writeArrayStart();
+        while (elements.hasNext()) {
+            Object value = elements.next();
+            output.writeArrayItemStart();
+            writeObject(elementTypes.valueType(), value, elementTypes);
+        }
+        output.writeArrayEnd();
+    }
+
     //-----------------------------------------------------------------------
     // write a collection
     private void writeElements(SerIterator itemIterator) throws IOException {
@@ -245,7 +338,7 @@ public class JodaBeanJsonWriter {
     // write map
     private void writeMap(SerIterator itemIterator) throws IOException {
         // if key type is known and convertible use short key format, else use full bean format
-        if (settings.getConverter().isConvertible(itemIterator.keyType())) {
+        if (SerConverterCache.of(settings).isConvertible(itemIterator.keyType())) {
             writeMapSimple(itemIterator);
         } else {
             writeMapComplex(itemIterator);
@@ -254,7 +347,7 @@ public class JodaBeanJsonWriter {
 
     // write map with simple keys
     private void writeMapSimple(SerIterator itemIterator) throws IOException {
-        StringConverter<Object> keyConverter = settings.getConverter().findConverterNoGenerics(itemIterator.keyType());
+        StringConverter<Object> keyConverter = SerConverterCache.of(settings).findConverterNoGenerics(itemIterator.keyType());
         output.writeObjectStart();
         while (itemIterator.hasNext()) {
             itemIterator.next();
@@ -352,7 +445,7 @@ public class JodaBeanJsonWriter {
     private void writeObject(Class<?> declaredType, Object obj, SerIterator parentIterator) throws IOException {
         if (obj == null) {
             output.writeNull();
-        } else if (settings.getConverter().isConvertible(obj.getClass())) {
+        } else if (SerConverterCache.of(settings).isConvertible(obj.getClass())) {
             writeSimple(declaredType, obj);
         } else if (obj instanceof Bean) {
             writeBean((Bean) obj, declaredType, RootType.NOT_ROOT);
@@ -369,6 +462,28 @@ public class JodaBeanJsonWriter {
     }
 
     //-----------------------------------------------------------------------
+    // write a primitive property, avoiding boxing for the common types
+    private void writePrimitive(SerWritePlan.Property planProp, Bean bean) throws IOException {
+        MetaProperty<?> metaProp = planProp.getMetaProperty();
+        Class<?> type = planProp.getType();
+        if (type == int.class) {
+            output.writeInt(metaProp.getInt(bean));
+        } else if (type == double.class) {
+            double dbl = metaProp.getDouble(bean);
+            if (Double.isNaN(dbl) == false && Double.isInfinite(dbl) == false) {
+                output.writeDouble(dbl);
+            } else {
+                writeSimple(type, dbl);
+            }
+        } else if (type == long.class) {
+            output.writeLong(metaProp.getLong(bean));
+        } else if (type == boolean.class) {
+            output.writeBoolean(metaProp.getBoolean(bean));
+        } else {
+            writeSimple(type, planProp.extractValue(bean));
+        }
+    }
+
     // write simple type
     private void writeSimple(Class<?> declaredType, Object value) throws IOException {
         // simple types have no need to write a type object
@@ -392,7 +507,7 @@ public class JodaBeanJsonWriter {
         boolean requiresClose = false;
         if (declaredType == Object.class) {
             if (realType != String.class) {
-                effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
+                effectiveType = SerConverterCache.of(settings).findTypedConverter(realType).getEffectiveType();
                 String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
                 output.writeObjectStart();
                 output.writeObjectKeyValue(TYPE, typeStr);
@@ -401,8 +516,8 @@ public class JodaBeanJsonWriter {
             } else {
                 effectiveType = realType;
             }
-        } else if (settings.getConverter().isConvertible(declaredType) == false) {
-            effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
+        } else if (SerConverterCache.of(settings).isConvertible(declaredType) == false) {
+            effectiveType = SerConverterCache.of(settings).findTypedConverter(realType).getEffectiveType();
             String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
             output.writeObjectStart();
             output.writeObjectKeyValue(TYPE, typeStr);
@@ -426,7 +541,7 @@ public class JodaBeanJsonWriter {
         } else {
             // write as a string
             try {
-                String converted = settings.getConverter().convertToString(effectiveType, value);
+                String converted = SerConverterCache.of(settings).convertToString(effectiveType, value);
                 if (converted == null) {
                     throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
                 }
@@ -16,14 +16,15 @@
 package org.joda.beans.ser.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
-import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerConverterCache;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerWritePlan;
 import org.joda.convert.StringConverter;
 
 /**
@@ -102,30 +103,53 @@ public class JodaBeanSimpleJsonWriter {
         output.append(settings.getNewLine());
     }
 
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8.
+     * <p>
+     * The JSON is encoded directly as UTF-8 bytes, without creating an intermediate string.
+     * The data is buffered internally and written to the stream in blocks.
+     * The stream is not flushed or closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean, OutputStream output) throws IOException {
+        JodaBeanUtils.notNull(bean, "bean");
+        JodaBeanUtils.notNull(output, "output");
+        JsonUtf8Output utf8Output = new JsonUtf8Output(output, settings.getIndent(), settings.getNewLine());
+        this.output = utf8Output;
+        writeBean(bean, bean.getClass());
+        utf8Output.append(settings.getNewLine());
+        utf8Output.flush();
+    }
+
     //-----------------------------------------------------------------------
     // write a bean as a JSON object
     private void writeBean(Bean bean, Class<?> declaredType) throws IOException {
         output.writeObjectStart();
         // property information
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    output.writeObjectKey(prop.name());
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            writeSimple(propType, value);
-                        } else {
-                            writeBean((Bean) value, propType);
-                        }
+        SerWritePlan plan = SerWritePlan.of(bean, settings);
+        for (int i = 0; i < plan.propertyCount(); i++) {
+            SerWritePlan.Property planProp = plan.property(i);
+            Object value = planProp.extractValue(bean);
+            if (value != null) {
+                output.writePropertyKey(planProp.getMetaProperty());
+                Class<?> propType = planProp.getType();
+                if (planProp.isSimple()) {
+                    writeSimple(propType, value);
+                } else if (value instanceof Bean) {
+                    if (SerConverterCache.of(settings).isConvertible(value.getClass())) {
+                        writeSimple(propType, value);
+                    } else {
+                        writeBean((Bean) value, propType);
+                    }
+                } else {
+                    SerIterator itemIterator = settings.getIteratorFactory().create(value, planProp.getMetaProperty(), bean.getClass(), true);
+                    if (itemIterator != null) {
+                        writeElements(itemIterator);
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass(), true);
-                        if (itemIterator != null) {
-                            writeElements(itemIterator);
-                        } else {
-                            writeSimple(propType, value);
-                        }
+                        writeSimple(propType, value);
                     }
                 }
             }
@@ -163,7 +187,7 @@ public class JodaBeanSimpleJsonWriter {
     // write map
     private void writeMap(SerIterator itemIterator) throws IOException {
         // if key type is known and convertible use short key format, else use full bean format
-        if (settings.getConverter().isConvertible(itemIterator.keyType())) {
+        if (SerConverterCache.of(settings).isConvertible(itemIterator.keyType())) {
             writeMapSimple(itemIterator);
         } else {
             writeMapComplex(itemIterator);
@@ -172,7 +196,7 @@ public class JodaBeanSimpleJsonWriter {
 
     // write map with simple keys
     private void writeMapSimple(SerIterator itemIterator) throws IOException {
-        StringConverter<Object> keyConverter = settings.getConverter().findConverterNoGenerics(itemIterator.keyType());
+        StringConverter<Object> keyConverter = SerConverterCache.of(settings).findConverterNoGenerics(itemIterator.keyType());
         output.writeObjectStart();
         while (itemIterator.hasNext()) {
             itemIterator.next();
@@ -199,7 +223,7 @@ public class JodaBeanSimpleJsonWriter {
             if (key == null) {
                 throw new IllegalArgumentException("Unable to write map key as it cannot be null");
             }
-            String str = settings.getConverter().convertToString(itemIterator.key());
+            String str = SerConverterCache.of(settings).convertToString(itemIterator.key());
             if (str == null) {
                 throw new IllegalArgumentException("Unable to write map key as it cannot be a null string");
             }
@@ -269,7 +293,7 @@ public class JodaBeanSimpleJsonWriter {
     private void writeObject(Class<?> declaredType, Object obj, SerIterator parentIterator) throws IOException {
         if (obj == null) {
             output.writeNull();
-        } else if (settings.getConverter().isConvertible(obj.getClass())) {
+        } else if (SerConverterCache.of(settings).isConvertible(obj.getClass())) {
             writeSimple(declaredType, obj);
         } else if (obj instanceof Bean) {
             writeBean((Bean) obj, declaredType);
@@ -324,7 +348,7 @@ public class JodaBeanSimpleJsonWriter {
         } else {
             // write as a string
             try {
-                String converted = settings.getConverter().convertToString(realType, value);
+                String converted = SerConverterCache.of(settings).convertToString(realType, value);
                 if (converted == null) {
                     throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
                 }
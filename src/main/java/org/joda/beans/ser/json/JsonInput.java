@@ -20,9 +20,21 @@ import java.io.Reader;
 
 /**
  * Reader of JSON data.
+ * <p>
+ * The input is read in blocks into an internal buffer.
+ * As such, characters beyond the end of the JSON data may be consumed from the reader.
  */
 final class JsonInput {
 
+    /**
+     * The size of the block read from the reader.
+     */
+    private static final int BLOCK_SIZE = 8192;
+    /**
+     * The maximum number of digits that can be parsed without overflowing a long.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
     /** encoding JSON */
     private static final String[] REPLACE = new String[128];
     static {
@@ -47,6 +59,18 @@ final class JsonInput {
      * The reused string buffer.
      */
     private final StringBuilder buf = new StringBuilder(32);
+    /**
+     * The block of characters read from the reader.
+     */
+    private final char[] block = new char[BLOCK_SIZE];
+    /**
+     * The position of the next character in the block.
+     */
+    private int pos;
+    /**
+     * The number of valid characters in the block.
+     */
+    private int limit;
     /**
      * The last parsed integral number.
      */
@@ -56,9 +80,9 @@ final class JsonInput {
      */
     private double floating;
     /**
-     * The previously read character.
+     * The previously read character, -1 if none.
      */
-    private Character cachedNext;
+    private int cachedNext = -1;
     /**
      * The previously read object key.
      */
@@ -164,6 +188,20 @@ final class JsonInput {
         return str;
     }
 
+    // expect object key and parse it, returning a view of the characters
+    // the view is only valid until the next string is parsed
+    CharSequence acceptObjectKeyView(JsonEvent event) throws IOException {
+        ensureEvent(event, JsonEvent.STRING);
+        if (cachedObjectKey != null) {
+            String key = cachedObjectKey;
+            cachedObjectKey = null;
+            return key;
+        }
+        parseStringToBuffer();
+        acceptEvent(JsonEvent.COLON);
+        return buf;
+    }
+
     //-----------------------------------------------------------------------
     // expect string and parse it
     String acceptString() throws IOException {
@@ -173,17 +211,31 @@ final class JsonInput {
 
     // opening quite already consumed
     String parseString() throws IOException {
+        parseStringToBuffer();
+        return buf.toString();
+    }
+
+    // opening quite already consumed, parsed string is left in the buffer
+    private void parseStringToBuffer() throws IOException {
         buf.setLength(0);
-        char next = readNext();
-        while (next != '"') {
-            if (next == '\\') {
+        while (true) {
+            // append the run of characters without quotes or escapes directly from the block
+            if (cachedNext < 0) {
+                int start = pos;
+                while (pos < limit && block[pos] != '"' && block[pos] != '\\') {
+                    pos++;
+                }
+                buf.append(block, start, pos - start);
+            }
+            char next = readNext();
+            if (next == '"') {
+                return;
+            } else if (next == '\\') {
                 parseEscape();
             } else {
                 buf.append(next);
             }
-            next = readNext();
         }
-        return buf.toString();
     }
 
     private void parseEscape() throws IOException {
@@ -251,32 +303,74 @@ final class JsonInput {
     }
 
     private JsonEvent acceptNumber(char first) throws IOException {
+        // parse directly from the block if the whole number is within it
+        // the first character is at the previous position unless it was pushed back,
+        // in which case the check still ensures that the characters match
+        int start = pos - 1;
+        if (start >= 0 && block[start] == first) {
+            int end = pos;
+            while (end < limit && isNumberChar(block[end])) {
+                end++;
+            }
+            if (end < limit) {
+                pos = end;
+                return parseNumber(block, start, end);
+            }
+        }
+        // the number spans blocks
         buf.setLength(0);
         buf.append(first);
-        char last = first;
         char next = readNext();
-        while ((next >= '0' && next <= '9') || next == '.' || next == '-' || next == '+' || next == 'e' || next == 'E') {
-            buf.append((char) next);
-            last = next;
+        while (isNumberChar(next)) {
+            buf.append(next);
             next = readNext();
         }
         pushBack(next);
+        char[] chars = new char[buf.length()];
+        buf.getChars(0, chars.length, chars, 0);
+        return parseNumber(chars, 0, chars.length);
+    }
+
+    // checks if the character can be part of a number
+    private static boolean isNumberChar(char ch) {
+        return (ch >= '0' && ch <= '9') || ch == '.' || ch == '-' || ch == '+' || ch == 'e' || ch == 'E';
+    }
+
+    // parses the characters of a number
+    private JsonEvent parseNumber(char[] chars, int start, int end) {
+        char last = chars[end - 1];
         if (last < '0' || last > '9') {
             throw new IllegalArgumentException("Invalid JSON data: Expected number but found invalid last char '" + last + "'");
         }
-        String str = buf.toString();
-        if (str.equals("0")) {
-            integral = 0;
-            return JsonEvent.NUMBER_INTEGRAL;
-        } else if (str.startsWith("0") && str.charAt(1) != '.') {
-            throw new IllegalArgumentException("Invalid JSON data: Expected number but found zero at start");
-        } else if (str.contains(".") || str.contains("e") || str.contains("E")) {
-            floating = Double.parseDouble(str);
-            return JsonEvent.NUMBER_FLOATING;
+        int length = end - start;
+        if (chars[start] == '0') {
+            if (length == 1) {
+                integral = 0;
+                return JsonEvent.NUMBER_INTEGRAL;
+            } else if (chars[start + 1] != '.') {
+                throw new IllegalArgumentException("Invalid JSON data: Expected number but found zero at start");
+            }
+        }
+        boolean negative = chars[start] == '-';
+        boolean digits = true;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            char ch = chars[i];
+            if (ch == '.' || ch == 'e' || ch == 'E') {
+                floating = Double.parseDouble(new String(chars, start, length));
+                return JsonEvent.NUMBER_FLOATING;
+            }
+            digits &= (ch >= '0' && ch <= '9');
+        }
+        if (digits && length <= MAX_LONG_DIGITS) {
+            long value = 0;
+            for (int i = negative ? start + 1 : start; i < end; i++) {
+                value = value * 10 + (chars[i] - '0');
+            }
+            integral = negative ? -value : value;
         } else {
-            integral = Long.parseLong(str);
-            return JsonEvent.NUMBER_INTEGRAL;
+            integral = Long.parseLong(new String(chars, start, length));
         }
+        return JsonEvent.NUMBER_INTEGRAL;
     }
 
     //-----------------------------------------------------------------------
@@ -311,16 +405,28 @@ final class JsonInput {
 
     //-----------------------------------------------------------------------
     private char readNext() throws IOException {
-        if (cachedNext != null) {
-            char next = cachedNext.charValue();
-            cachedNext = null;
+        if (cachedNext >= 0) {
+            char next = (char) cachedNext;
+            cachedNext = -1;
             return next;
         }
-        int next = input.read();
-        if (next == -1) {
+        if (pos == limit) {
+            readBlock();
+        }
+        return block[pos++];
+    }
+
+    // reads the next block from the reader
+    private void readBlock() throws IOException {
+        int count = input.read(block, 0, BLOCK_SIZE);
+        while (count == 0) {
+            count = input.read(block, 0, BLOCK_SIZE);
+        }
+        if (count < 0) {
             throw new IllegalArgumentException("Invalid JSON data: End of file");
         }
-        return (char) next;
+        pos = 0;
+        limit = count;
     }
 
     void skipData() throws IOException {
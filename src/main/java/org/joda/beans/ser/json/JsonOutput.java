@@ -18,13 +18,19 @@ package org.joda.beans.ser.json;
 import java.io.IOException;
 import java.util.BitSet;
 
+import org.joda.beans.MetaProperty;
+import org.joda.beans.ser.SerNumberFormat;
+
 /**
  * Outputter for JSON data.
+ * <p>
+ * This writes to an {@code Appendable}.
+ * The subclass {@link JsonUtf8Output} writes UTF-8 bytes instead.
  */
-final class JsonOutput {
+class JsonOutput {
 
     /** encoding JSON */
-    private static final String[] REPLACE = new String[128];
+    static final String[] REPLACE = new String[128];
     static {
         for (int i = 0; i < 32; i++) {
             REPLACE[i] = String.format("\\u%04x", i);
@@ -63,6 +69,10 @@ final class JsonOutput {
      * The comma state.
      */
     private BitSet commaState = new BitSet(64);
+    /**
+     * The reused buffer for formatting numbers.
+     */
+    private byte[] numberBuf;
 
     /**
      * Creates an instance that outputs in compact format.
@@ -86,6 +96,16 @@ final class JsonOutput {
         this.newLine = newLine;
     }
 
+    /**
+     * Creates an instance for a subclass that overrides the methods that output characters.
+     * 
+     * @param indent  the pretty format indent
+     * @param newLine  the pretty format new line
+     */
+    JsonOutput(String indent, String newLine) {
+        this(null, indent, newLine);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Writes a JSON null.
@@ -121,7 +141,7 @@ final class JsonOutput {
         if ((value & 0xfffffff8) == 0) {
             output.append((char) (value + 48));
         } else {
-            output.append(Integer.toString(value));
+            writeLong(value);
         }
     }
 
@@ -132,7 +152,8 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeLong(long value) throws IOException {
-        output.append(Long.toString(value));
+        byte[] buf = numberBuf();
+        appendAscii(buf, SerNumberFormat.formatLong(value, buf, 0));
     }
 
     /**
@@ -144,7 +165,11 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeFloat(float value) throws IOException {
-        if (Float.isNaN(value) || Float.isInfinite(value)) {
+        byte[] buf = numberBuf();
+        int end = SerNumberFormat.formatFloat(value, buf, 0);
+        if (end >= 0) {
+            appendAscii(buf, end);
+        } else if (Float.isNaN(value) || Float.isInfinite(value)) {
             output.append('"').append(Float.toString(value)).append('"');
         } else {
             output.append(Float.toString(value));
@@ -160,13 +185,32 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeDouble(double value) throws IOException {
-        if (Double.isNaN(value) || Double.isInfinite(value)) {
+        byte[] buf = numberBuf();
+        int end = SerNumberFormat.formatDouble(value, buf, 0);
+        if (end >= 0) {
+            appendAscii(buf, end);
+        } else if (Double.isNaN(value) || Double.isInfinite(value)) {
             output.append('"').append(Double.toString(value)).append('"');
         } else {
             output.append(Double.toString(value));
         }
     }
 
+    // gets the buffer for formatting numbers
+    private byte[] numberBuf() {
+        if (numberBuf == null) {
+            numberBuf = new byte[SerNumberFormat.MAX_LENGTH];
+        }
+        return numberBuf;
+    }
+
+    // appends the formatted number
+    private void appendAscii(byte[] buf, int end) throws IOException {
+        for (int i = 0; i < end; i++) {
+            output.append((char) buf[i]);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Writes a JSON string.
@@ -203,7 +247,7 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeArrayStart() throws IOException {
-        output.append('[');
+        append('[');
         commaDepth++;
         commaState.clear(commaDepth);
     }
@@ -215,9 +259,9 @@ final class JsonOutput {
      */
     void writeArrayItemStart() throws IOException {
         if (commaState.get(commaDepth)) {
-            output.append(',');
+            append(',');
             if (newLine.length() > 0) {
-                output.append(' ');
+                append(' ');
             }
         } else {
             commaState.set(commaDepth);
@@ -230,7 +274,7 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeArrayEnd() throws IOException {
-        output.append(']');
+        append(']');
         commaDepth--;
     }
 
@@ -241,7 +285,7 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeObjectStart() throws IOException {
-        output.append('{');
+        append('{');
         currentIndent = currentIndent + indent;
         commaDepth++;
         commaState.set(commaDepth, false);
@@ -256,17 +300,40 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeObjectKey(String key) throws IOException {
+        writeObjectKeyStart();
+        writeString(key);
+        writeObjectKeyEnd();
+    }
+
+    /**
+     * Writes a JSON object key that is the name of a property.
+     * <p>
+     * This handles the comma, string encoded key and separator colon.
+     * Property names are drawn from a limited set, allowing subclasses to cache the encoded form.
+     * 
+     * @param metaProperty  the property whose name is the key
+     * @throws IOException if an error occurs
+     */
+    void writePropertyKey(MetaProperty<?> metaProperty) throws IOException {
+        writeObjectKey(metaProperty.name());
+    }
+
+    // writes the comma and indent before the key
+    void writeObjectKeyStart() throws IOException {
         if (commaState.get(commaDepth)) {
-            output.append(',');
+            append(',');
         } else {
             commaState.set(commaDepth, true);
         }
-        output.append(newLine);
-        output.append(currentIndent);
-        writeString(key);
-        output.append(':');
+        append(newLine);
+        append(currentIndent);
+    }
+
+    // writes the colon after the key
+    void writeObjectKeyEnd() throws IOException {
+        append(':');
         if (newLine.length() > 0) {
-            output.append(' ');
+            append(' ');
         }
     }
 
@@ -290,11 +357,22 @@ final class JsonOutput {
     void writeObjectEnd() throws IOException {
         currentIndent = currentIndent.substring(0, currentIndent.length() - indent.length());
         if (commaState.get(commaDepth)) {
-            output.append(newLine);
-            output.append(currentIndent);
+            append(newLine);
+            append(currentIndent);
         }
-        output.append('}');
+        append('}');
         commaDepth--;
     }
 
+    //-----------------------------------------------------------------------
+    // appends a character
+    void append(char ch) throws IOException {
+        output.append(ch);
+    }
+
+    // appends a string without escaping
+    void append(String str) throws IOException {
+        output.append(str);
+    }
+
 }
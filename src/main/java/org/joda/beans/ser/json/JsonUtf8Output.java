@@ -0,0 +1,307 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.joda.beans.MetaProperty;
+import org.joda.beans.ser.SerEncodedNameCache;
+import org.joda.beans.ser.SerNumberFormat;
+
+/**
+ * Outputter for JSON data that writes UTF-8 bytes.
+ * <p>
+ * The bytes are encoded directly into a reused buffer, which is written to the stream in blocks.
+ * Numbers and strings are encoded without creating intermediate strings where possible.
+ * The output is identical to encoding the output of {@link JsonOutput} as UTF-8.
+ */
+final class JsonUtf8Output extends JsonOutput {
+
+    /**
+     * The size of the buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+    /**
+     * The maximum number of bytes a single character of a string can be encoded as.
+     */
+    private static final int MAX_CHAR_BYTES = 6;
+    /**
+     * The encoded property names, including the quotes.
+     */
+    private static final SerEncodedNameCache ENCODED_NAMES = SerEncodedNameCache.of(JsonUtf8Output::encodeString);
+    /** encoding JSON as bytes */
+    private static final byte[][] REPLACE_BYTES = new byte[128][];
+    static {
+        for (int i = 0; i < 128; i++) {
+            if (REPLACE[i] != null) {
+                REPLACE_BYTES[i] = REPLACE[i].getBytes(US_ASCII);
+            }
+        }
+    }
+    /** JSON null */
+    private static final byte[] NULL = "null".getBytes(US_ASCII);
+    /** JSON true */
+    private static final byte[] TRUE = "true".getBytes(US_ASCII);
+    /** JSON false */
+    private static final byte[] FALSE = "false".getBytes(US_ASCII);
+
+    /**
+     * The stream to write to.
+     */
+    private final OutputStream stream;
+    /**
+     * The buffer.
+     */
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    /**
+     * The position in the buffer to write to next.
+     */
+    private int pos;
+
+    /**
+     * Creates an instance that outputs in compact format.
+     *
+     * @param stream  the stream to write to, not null
+     */
+    JsonUtf8Output(OutputStream stream) {
+        this(stream, "", "");
+    }
+
+    /**
+     * Creates an instance where the output format can be controlled.
+     *
+     * @param stream  the stream to write to, not null
+     * @param indent  the pretty format indent
+     * @param newLine  the pretty format new line
+     */
+    JsonUtf8Output(OutputStream stream, String indent, String newLine) {
+        super(indent, newLine);
+        this.stream = stream;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Flushes any buffered data to the stream.
+     * <p>
+     * This does not flush the underlying stream.
+     *
+     * @throws IOException if an error occurs
+     */
+    void flush() throws IOException {
+        if (pos > 0) {
+            stream.write(buf, 0, pos);
+            pos = 0;
+        }
+    }
+
+    // ensures that there is space for the specified number of bytes
+    private void ensure(int required) throws IOException {
+        if (BUFFER_SIZE - pos < required) {
+            flush();
+        }
+    }
+
+    // writes the bytes
+    private void putBytes(byte[] bytes) throws IOException {
+        if (bytes.length > BUFFER_SIZE - pos) {
+            flush();
+            if (bytes.length > BUFFER_SIZE) {
+                stream.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buf, pos, bytes.length);
+        pos += bytes.length;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    void writeNull() throws IOException {
+        putBytes(NULL);
+    }
+
+    @Override
+    void writeBoolean(boolean value) throws IOException {
+        putBytes(value ? TRUE : FALSE);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    void writeInt(int value) throws IOException {
+        writeLong(value);
+    }
+
+    @Override
+    void writeLong(long value) throws IOException {
+        ensure(SerNumberFormat.MAX_LENGTH);
+        pos = SerNumberFormat.formatLong(value, buf, pos);
+    }
+
+    @Override
+    void writeFloat(float value) throws IOException {
+        ensure(SerNumberFormat.MAX_LENGTH);
+        int end = SerNumberFormat.formatFloat(value, buf, pos);
+        if (end >= 0) {
+            pos = end;
+        } else if (Float.isNaN(value) || Float.isInfinite(value)) {
+            append('"');
+            appendAscii(Float.toString(value));
+            append('"');
+        } else {
+            appendAscii(Float.toString(value));
+        }
+    }
+
+    @Override
+    void writeDouble(double value) throws IOException {
+        ensure(SerNumberFormat.MAX_LENGTH);
+        int end = SerNumberFormat.formatDouble(value, buf, pos);
+        if (end >= 0) {
+            pos = end;
+        } else if (Double.isNaN(value) || Double.isInfinite(value)) {
+            append('"');
+            appendAscii(Double.toString(value));
+            append('"');
+        } else {
+            appendAscii(Double.toString(value));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    void writeString(String value) throws IOException {
+        append('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (BUFFER_SIZE - pos < MAX_CHAR_BYTES) {
+                flush();
+            }
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                byte[] replace = REPLACE_BYTES[ch];
+                if (replace != null) {
+                    System.arraycopy(replace, 0, buf, pos, replace.length);
+                    pos += replace.length;
+                } else {
+                    buf[pos++] = (byte) ch;
+                }
+            } else if (ch == '\u2028' || ch == '\u2029') {
+                buf[pos++] = '\\';
+                buf[pos++] = 'u';
+                buf[pos++] = '2';
+                buf[pos++] = '0';
+                buf[pos++] = '2';
+                buf[pos++] = (byte) (ch == '\u2028' ? '8' : '9');
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                putCodePoint(Character.toCodePoint(ch, value.charAt(++i)));
+            } else {
+                putChar(ch);
+            }
+        }
+        append('"');
+    }
+
+    @Override
+    void writePropertyKey(MetaProperty<?> metaProperty) throws IOException {
+        byte[] encoded = ENCODED_NAMES.encodedName(metaProperty);
+        if (encoded == null) {
+            writeObjectKey(metaProperty.name());
+            return;
+        }
+        writeObjectKeyStart();
+        putBytes(encoded);
+        writeObjectKeyEnd();
+    }
+
+    // encodes a JSON string, including the quotes
+    private static byte[] encodeString(String value) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(value.length() + 2);
+        JsonUtf8Output output = new JsonUtf8Output(baos);
+        try {
+            output.writeString(value);
+            output.flush();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return baos.toByteArray();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    void append(char ch) throws IOException {
+        ensure(MAX_CHAR_BYTES);
+        if (ch < 0x80) {
+            buf[pos++] = (byte) ch;
+        } else {
+            putChar(ch);
+        }
+    }
+
+    @Override
+    void append(String str) throws IOException {
+        int length = str.length();
+        for (int i = 0; i < length; i++) {
+            ensure(MAX_CHAR_BYTES);
+            char ch = str.charAt(i);
+            if (ch < 0x80) {
+                buf[pos++] = (byte) ch;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+                putCodePoint(Character.toCodePoint(ch, str.charAt(++i)));
+            } else {
+                putChar(ch);
+            }
+        }
+    }
+
+    // appends a string known to only contain ASCII characters
+    private void appendAscii(String str) throws IOException {
+        int length = str.length();
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            buf[pos++] = (byte) str.charAt(i);
+        }
+    }
+
+    // writes a character that is not part of a surrogate pair, space must have been ensured
+    // this matches String.getBytes(UTF_8), where an unpaired surrogate is encoded as '?'
+    private void putChar(char ch) {
+        if (ch < 0x80) {
+            buf[pos++] = (byte) ch;
+        } else if (ch < 0x800) {
+            buf[pos++] = (byte) (0xC0 | (ch >> 6));
+            buf[pos++] = (byte) (0x80 | (ch & 0x3F));
+        } else if (Character.isSurrogate(ch)) {
+            buf[pos++] = '?';
+        } else {
+            buf[pos++] = (byte) (0xE0 | (ch >> 12));
+            buf[pos++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+            buf[pos++] = (byte) (0x80 | (ch & 0x3F));
+        }
+    }
+
+    // writes a supplementary code point, space must have been ensured
+    private void putCodePoint(int codePoint) {
+        buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+        buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+    }
+
+}
@@ -23,14 +23,15 @@ import java.util.Map.Entry;
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
 import org.joda.beans.JodaBeanUtils;
-import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerConverterCache;
 import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerIterable;
 import org.joda.beans.ser.SerIteratorFactory;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerPropertyNameCache;
+import org.joda.beans.ser.SerReadPlan;
 
 /**
  * Provides the ability for a Joda-Bean to read from a JSON-like in memory {@code Map}.
@@ -46,6 +47,10 @@ public class JodaBeanSimpleMapReader {
      * Settings.
      */
     private final JodaBeanSer settings;
+    /**
+     * The cache of property names that are not in the read plan.
+     */
+    private final SerPropertyNameCache propertyNames = new SerPropertyNameCache();
 
     /**
      * Creates an instance.
@@ -96,18 +101,25 @@ public class JodaBeanSimpleMapReader {
     private Object parseBean(Map<String, Object> input, Class<?> beanType) throws Exception {
         String propName = "";
         try {
-            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
-            MetaBean metaBean = deser.findMetaBean(beanType);
-            BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            SerReadPlan plan = SerReadPlan.of(beanType, settings);
+            SerDeserializer deser = plan.getDeserializer();
+            BeanBuilder<?> builder = deser.createBuilder(beanType, plan.getMetaBean());
             for (Entry<String, Object> entry : input.entrySet()) {
                 // property name
                 propName = entry.getKey();
-                MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                SerReadPlan.Property prop = plan.find(propName);
+                if (prop == null) {
+                    prop = propertyNames.find(propName, beanType, plan.getMetaBean());
+                    if (prop == null) {
+                        prop = plan.resolve(propName);
+                        propertyNames.add(prop, beanType, plan.getMetaBean());
+                    }
+                }
                 // ignore unknown properties
-                if (metaProp != null && !metaProp.style().isDerived()) {
-                    Object value = parseObject(
-                            entry.getValue(), SerOptional.extractType(metaProp, beanType), metaProp, beanType, null);
-                    deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
+                if (prop.isSkipped() == false) {
+                    MetaProperty<?> metaProp = prop.getMetaProperty();
+                    Object value = parseObject(entry.getValue(), prop.getType(), metaProp, beanType, null);
+                    deser.setValue(builder, metaProp, prop.wrapValue(value));
                 }
                 propName = "";
             }
@@ -324,7 +336,7 @@ public class JodaBeanSimpleMapReader {
         if (type == Object.class || type.isAssignableFrom(String.class)) {
             return input;
         }
-        return settings.getConverter().convertFromString(type, (String) input);
+        return SerConverterCache.of(settings).convertFromString(type, (String) input);
     }
 
     private Object convertInteger(long value, Class<?> type) {
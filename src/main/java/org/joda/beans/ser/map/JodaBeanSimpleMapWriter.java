@@ -23,11 +23,11 @@ import java.util.Map;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
-import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerConverterCache;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerWritePlan;
 import org.joda.convert.StringConverter;
 
 /**
@@ -83,28 +83,30 @@ public class JodaBeanSimpleMapWriter {
     private Map<String, Object> writeBean(Bean bean, Class<?> declaredType) {
         Map<String, Object> result = new LinkedHashMap<>();
         // property information
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    Object outputValue = null;
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            outputValue = writeSimple(propType, value);
-                        } else {
-                            outputValue = writeBean((Bean) value, propType);
-                        }
+        SerWritePlan plan = SerWritePlan.of(bean, settings);
+        for (int i = 0; i < plan.propertyCount(); i++) {
+            SerWritePlan.Property planProp = plan.property(i);
+            Object value = planProp.extractValue(bean);
+            if (value != null) {
+                Object outputValue = null;
+                Class<?> propType = planProp.getType();
+                if (planProp.isSimple()) {
+                    outputValue = writeSimple(propType, value);
+                } else if (value instanceof Bean) {
+                    if (SerConverterCache.of(settings).isConvertible(value.getClass())) {
+                        outputValue = writeSimple(propType, value);
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass(), true);
-                        if (itemIterator != null) {
-                            outputValue = writeElements(itemIterator);
-                        } else {
-                            outputValue = writeSimple(propType, value);
-                        }
+                        outputValue = writeBean((Bean) value, propType);
+                    }
+                } else {
+                    SerIterator itemIterator = settings.getIteratorFactory().create(value, planProp.getMetaProperty(), bean.getClass(), true);
+                    if (itemIterator != null) {
+                        outputValue = writeElements(itemIterator);
+                    } else {
+                        outputValue = writeSimple(propType, value);
                     }
-                    result.put(prop.name(), outputValue);
                 }
+                result.put(planProp.getName(), outputValue);
             }
         }
         return result;
@@ -142,7 +144,7 @@ public class JodaBeanSimpleMapWriter {
             return new LinkedHashMap<>();
         }
         // if key type is known and convertible use short key format, else use full bean format
-        if (settings.getConverter().isConvertible(itemIterator.keyType())) {
+        if (SerConverterCache.of(settings).isConvertible(itemIterator.keyType())) {
             return writeMapSimple(itemIterator);
         } else {
             return writeMapComplex(itemIterator);
@@ -152,7 +154,7 @@ public class JodaBeanSimpleMapWriter {
     // write map with simple keys
     private Object writeMapSimple(SerIterator itemIterator) {
         Map<String, Object> result = new LinkedHashMap<>();
-        StringConverter<Object> keyConverter = settings.getConverter().findConverterNoGenerics(itemIterator.keyType());
+        StringConverter<Object> keyConverter = SerConverterCache.of(settings).findConverterNoGenerics(itemIterator.keyType());
         while (itemIterator.hasNext()) {
             itemIterator.next();
             Object key = itemIterator.key();
@@ -177,7 +179,7 @@ public class JodaBeanSimpleMapWriter {
             if (key == null) {
                 throw new IllegalArgumentException("Unable to write map key as it cannot be null");
             }
-            String str = settings.getConverter().convertToString(itemIterator.key());
+            String str = SerConverterCache.of(settings).convertToString(itemIterator.key());
             if (str == null) {
                 throw new IllegalArgumentException("Unable to write map key as it cannot be a null string");
             }
@@ -230,7 +232,7 @@ public class JodaBeanSimpleMapWriter {
     private Object writeObject(Class<?> declaredType, Object obj, SerIterator parentIterator) {
         if (obj == null) {
             return null;
-        } else if (settings.getConverter().isConvertible(obj.getClass())) {
+        } else if (SerConverterCache.of(settings).isConvertible(obj.getClass())) {
             return writeSimple(declaredType, obj);
         } else if (obj instanceof Bean) {
             return writeBean((Bean) obj, declaredType);
@@ -257,7 +259,7 @@ public class JodaBeanSimpleMapWriter {
         } else {
             // write as a string
             try {
-                String converted = settings.getConverter().convertToString(realType, value);
+                String converted = SerConverterCache.of(settings).convertToString(realType, value);
                 if (converted == null) {
                     throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
                 }
@@ -34,6 +34,7 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLEventReader;
@@ -44,13 +45,15 @@ import javax.xml.stream.events.XMLEvent;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
-import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerConverterCache;
 import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerIterable;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerPropertyNameCache;
+import org.joda.beans.ser.SerReadPlan;
+import org.joda.beans.ser.SerStreamedProperty;
 import org.joda.beans.ser.SerTypeMapper;
 
 /**
@@ -93,6 +96,14 @@ public class JodaBeanXmlReader {
      * The known types.
      */
     private Map<String, Class<?>> knownTypes = new HashMap<>();
+    /**
+     * The cache of property names that are not in the read plan.
+     */
+    private final SerPropertyNameCache propertyNames = new SerPropertyNameCache();
+    /**
+     * The property of the root bean to stream, null if not streaming.
+     */
+    private SerStreamedProperty streamed;
 
     /**
      * Creates an instance.
@@ -196,6 +207,55 @@ public class JodaBeanXmlReader {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Reads and parses to a bean, streaming the elements of a collection property of the root bean.
+     * <p>
+     * The elements of the named property are passed to the consumer as they are parsed,
+     * without building the collection, as described in {@link SerStreamedProperty}.
+     * 
+     * @param <T>  the root type
+     * @param input  the input stream, not null
+     * @param rootType  the root type, not null
+     * @param propertyName  the name of the collection property of the root bean to stream, not null
+     * @param elementConsumer  the consumer of the elements, not null
+     * @return the root bean, without the streamed property, not null
+     */
+    public <T> T read(final InputStream input, Class<T> rootType, String propertyName, Consumer<Object> elementConsumer) {
+        if (propertyName == null) {
+            throw new NullPointerException("propertyName");
+        }
+        if (elementConsumer == null) {
+            throw new NullPointerException("elementConsumer");
+        }
+        streamed = SerStreamedProperty.of(propertyName, elementConsumer);
+        return read(input, rootType);
+    }
+
+    /**
+     * Reads and parses to a bean, streaming the elements of a collection property of the root bean.
+     * <p>
+     * The elements of the named property are passed to the consumer as they are parsed,
+     * without building the collection, as described in {@link SerStreamedProperty}.
+     * 
+     * @param <T>  the root type
+     * @param input  the input reader, not null
+     * @param rootType  the root type, not null
+     * @param propertyName  the name of the collection property of the root bean to stream, not null
+     * @param elementConsumer  the consumer of the elements, not null
+     * @return the root bean, without the streamed property, not null
+     */
+    public <T> T read(final Reader input, Class<T> rootType, String propertyName, Consumer<Object> elementConsumer) {
+        if (propertyName == null) {
+            throw new NullPointerException("propertyName");
+        }
+        if (elementConsumer == null) {
+            throw new NullPointerException("elementConsumer");
+        }
+        streamed = SerStreamedProperty.of(propertyName, elementConsumer);
+        return read(input, rootType);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses the root bean.
@@ -243,14 +303,14 @@ public class JodaBeanXmlReader {
         try {
             XMLEvent event = null;
             // handle case where whole bean is Joda-Convert string
-            if (settings.getConverter().isConvertible(beanType)) {
+            if (SerConverterCache.of(settings).isConvertible(beanType)) {
                 StringBuilder buf = new StringBuilder();
                 while (reader.hasNext()) {
                     event = nextEvent(">btxt ");
                     if (event.isCharacters()) {
                         buf.append(event.asCharacters().getData());
                     } else if (event.isEndElement()) {
-                        return settings.getConverter().convertFromString(beanType, buf.toString());
+                        return SerConverterCache.of(settings).convertFromString(beanType, buf.toString());
                     } else if (event.isStartElement()) {
                         break;  // not serialized via Joda-Convert
                     } else if (event.isEndDocument()) {
@@ -261,16 +321,24 @@ public class JodaBeanXmlReader {
                 event = nextEvent(">bean ");
             }
             // handle structured bean
-            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
-            MetaBean metaBean = deser.findMetaBean(beanType);
-            BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            SerReadPlan plan = SerReadPlan.of(beanType, settings);
+            SerDeserializer deser = plan.getDeserializer();
+            BeanBuilder<?> builder = deser.createBuilder(beanType, plan.getMetaBean());
+            String streamName = (streamed != null ? streamed.startBean(plan.getMetaBean()) : null);
             // handle beans with structure
             while (event.isEndElement() == false) {
                 if (event.isStartElement()) {
                     StartElement start = event.asStartElement();
                     propName = start.getName().getLocalPart();
-                    MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
-                    if (metaProp == null || metaProp.style().isDerived()) {
+                    SerReadPlan.Property prop = plan.find(propName);
+                    if (prop == null) {
+                        prop = propertyNames.find(propName, beanType, plan.getMetaBean());
+                        if (prop == null) {
+                            prop = plan.resolve(propName);
+                            propertyNames.add(prop, beanType, plan.getMetaBean());
+                        }
+                    }
+                    if (prop.isSkipped()) {
                         int depth = 0;
                         event = nextEvent(" skip ");
                         while (event.isEndElement() == false || depth > 0) {
@@ -283,14 +351,16 @@ public class JodaBeanXmlReader {
                         }
                         // skip elements
                     } else {
-                        Class<?> childType = parseTypeAttribute(start, SerOptional.extractType(metaProp, beanType));
+                        MetaProperty<?> metaProp = prop.getMetaProperty();
+                        boolean streamedValue = streamName != null && metaProp.name().equals(streamName);
+                        Class<?> childType = parseTypeAttribute(start, prop.getType());
                         Object value;
                         if (Bean.class.isAssignableFrom(childType)) {
                             value = parseBean(childType);
                         } else {
                             SerIterable iterable = settings.getIteratorFactory().createIterable(metaProp, beanType);
                             if (iterable != null) {
-                                value = parseIterable(start, iterable);
+                                value = parseIterable(start, streamedValue ? streamed.iterable(iterable) : iterable);
                             } else {
                                 // metatype
                                 Attribute metaTypeAttr = start.getAttributeByName(METATYPE_QNAME);
@@ -299,14 +369,18 @@ public class JodaBeanXmlReader {
                                     if (iterable == null) {
                                         throw new IllegalArgumentException("Invalid metaType");
                                     }
-                                    value = parseIterable(start, iterable);
+                                    value = parseIterable(start, streamedValue ? streamed.iterable(iterable) : iterable);
                                 } else {
                                     String text = advanceAndParseText();
-                                    value = settings.getConverter().convertFromString(childType, text);
+                                    value = SerConverterCache.of(settings).convertFromString(childType, text);
                                 }
                             }
                         }
-                        deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
+                        if (streamedValue) {
+                            streamed.endProperty(value);
+                        } else {
+                            deser.setValue(builder, metaProp, prop.wrapValue(value));
+                        }
                     }
                     propName = "";
                 }
@@ -357,13 +431,13 @@ public class JodaBeanXmlReader {
                     }
                     String rowStr = rowAttr.getValue();
                     if (iterable.keyType() != null) {
-                        key = settings.getConverter().convertFromString(iterable.keyType(), rowStr);
+                        key = SerConverterCache.of(settings).convertFromString(iterable.keyType(), rowStr);
                     } else {
                         key = rowStr;
                     }
                     String colStr = colAttr.getValue();
                     if (iterable.columnType() != null) {
-                        column = settings.getConverter().convertFromString(iterable.columnType(), colStr);
+                        column = SerConverterCache.of(settings).convertFromString(iterable.columnType(), colStr);
                     } else {
                         column = colStr;
                     }
@@ -375,7 +449,7 @@ public class JodaBeanXmlReader {
                         // item is value with a key attribute
                         String keyStr = keyAttr.getValue();
                         if (iterable.keyType() != null) {
-                            key = settings.getConverter().convertFromString(iterable.keyType(), keyStr);
+                            key = SerConverterCache.of(settings).convertFromString(iterable.keyType(), keyStr);
                         } else {
                             key = keyStr;
                         }
@@ -418,7 +492,7 @@ public class JodaBeanXmlReader {
     private Object parseKey(final SerIterable iterable, StartElement start) throws Exception {
         // type
         Class<?> childType = parseTypeAttribute(start, iterable.keyType());
-        if (Bean.class.isAssignableFrom(childType) || settings.getConverter().isConvertible(childType)) {
+        if (Bean.class.isAssignableFrom(childType) || SerConverterCache.of(settings).isConvertible(childType)) {
             return parseBean(childType);
         } else if (childType.isAssignableFrom(String.class)) {
             return parseBean(String.class);
@@ -458,7 +532,7 @@ public class JodaBeanXmlReader {
                         value = parseIterable(start, childIterable);
                     } else {
                         String text = advanceAndParseText();
-                        value = settings.getConverter().convertFromString(childType, text);
+                        value = SerConverterCache.of(settings).convertFromString(childType, text);
                     }
                 }
             }
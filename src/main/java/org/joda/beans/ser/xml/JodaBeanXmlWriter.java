@@ -30,15 +30,20 @@ import static org.joda.beans.ser.xml.JodaBeanXml.TYPE;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 import org.joda.beans.Bean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerConverterCache;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerNumberFormat;
+import org.joda.beans.ser.SerStreamedElements;
 import org.joda.beans.ser.SerTypeMapper;
+import org.joda.beans.ser.SerWritePlan;
+import org.joda.convert.StringConvert;
 import org.joda.convert.StringConverter;
 
 /**
@@ -90,6 +95,18 @@ public class JodaBeanXmlWriter {
      * The known types.
      */
     private Map<Class<?>, String> knownTypes = new HashMap<>();
+    /**
+     * The elements of the property of the root bean to stream, null if not streaming.
+     */
+    private SerStreamedElements streamed;
+    /**
+     * Whether the converters for numbers are the standard ones, null until first needed.
+     */
+    private Boolean standardNumberConverters;
+    /**
+     * The reused buffer for formatting numbers.
+     */
+    private byte[] numberBuf;
 
     /**
      * Creates an instance.
@@ -207,46 +224,86 @@ public class JodaBeanXmlWriter {
         output.append('<').append('/').append(BEAN).append('>').append(settings.getNewLine());
     }
 
+    /**
+     * Writes the bean to the {@code Appendable}, streaming the elements of a collection property.
+     * <p>
+     * The elements of the named collection property are taken from the iterator, rather than the bean,
+     * and are written as they are produced. This allows a bean with a very large collection to be
+     * written without holding all the elements in memory at the same time.
+     * A {@code Stream} can be written by passing {@code stream.iterator()}.
+     * <p>
+     * The type of the bean will be set in the message.
+     * 
+     * @param bean  the bean to output, the value of the streamed property is ignored, not null
+     * @param propertyName  the name of the collection property to stream, not null
+     * @param elements  the elements of the collection property, not null
+     * @param output  the output appendable, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean, String propertyName, Iterator<?> elements, Appendable output) throws IOException {
+        if (bean == null) {
+            throw new NullPointerException("bean");
+        }
+        this.streamed = SerStreamedElements.of(propertyName, elements);
+        try {
+            write(bean, true, output);
+        } finally {
+            this.streamed = null;
+        }
+    }
+
     private void writeHeader() throws IOException {
         output.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>").append(settings.getNewLine());
     }
 
     //-----------------------------------------------------------------------
     private boolean willWriteBean(Bean bean) {
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
-                return true;
-            }
-        }
-        return false;
+        return SerWritePlan.of(bean, settings).propertyCount() > 0;
     }
 
     private void writeBean(Bean bean, String currentIndent) throws IOException {
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    String propName = prop.name();
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
-                        } else {
-                            writeBean(currentIndent, propName, new StringBuilder(), propType, (Bean) value);
-                        }
+        SerWritePlan plan = SerWritePlan.of(bean, settings);
+        int streamIndex = (streamed != null ? streamed.startBean(plan) : -1);
+        for (int i = 0; i < plan.propertyCount(); i++) {
+            SerWritePlan.Property planProp = plan.property(i);
+            Object value = (i == streamIndex ? streamed.getElements() : planProp.extractValue(bean));
+            if (value != null) {
+                String propName = planProp.getName();
+                Class<?> propType = planProp.getType();
+                if (i == streamIndex) {
+                    writeStreamed(currentIndent, propName, planProp.getMetaProperty(), bean.getClass());
+                } else if (planProp.isSimple()) {
+                    writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
+                } else if (value instanceof Bean) {
+                    if (SerConverterCache.of(settings).isConvertible(value.getClass())) {
+                        writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
+                    } else {
+                        writeBean(currentIndent, propName, new StringBuilder(), propType, (Bean) value);
+                    }
+                } else {
+                    SerIterator itemIterator = settings.getIteratorFactory().create(value, planProp.getMetaProperty(), bean.getClass());
+                    if (itemIterator != null) {
+                        writeElements(currentIndent, propName, new StringBuilder(), itemIterator);
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                        if (itemIterator != null) {
-                            writeElements(currentIndent, propName, new StringBuilder(), itemIterator);
-                        } else {
-                            writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
-                        }
+                        writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
                     }
                 }
             }
         }
     }
 
+    // write the streamed elements, which cannot be counted in advance
+    private void writeStreamed(String currentIndent, String tagName, MetaProperty<?> prop, Class<?> beanType) throws IOException {
+        SerIterator elementTypes = streamed.elementTypes(settings, prop, beanType);
+        Iterator<?> elements = streamed.getElements();
+        output.append(currentIndent).append('<').append(tagName).append('>').append(settings.getNewLine());
+        String elementIndent = currentIndent + settings.getIndent();
+        while (elements.hasNext()) {
+            writeValueElement(elementIndent, ITEM, new StringBuilder(), elements.next(), elementTypes);
+        }
+        output.append(currentIndent).append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+    }
+
     //-----------------------------------------------------------------------
     private void writeBean(String currentIndent, String tagName, StringBuilder attrs, Class<?> propType, Bean value) throws IOException {
         if (value == null) {
@@ -292,19 +349,19 @@ public class JodaBeanXmlWriter {
         boolean keyBean = false;
         if (itemIterator.category() == SerCategory.TABLE || itemIterator.category() == SerCategory.GRID) {
             try {
-                rowConverter = settings.getConverter().findConverterNoGenerics(itemIterator.keyType());
+                rowConverter = SerConverterCache.of(settings).findConverterNoGenerics(itemIterator.keyType());
             } catch (RuntimeException ex) {
                 throw new IllegalArgumentException("Unable to write table/grid as declared key type is not a simple type: " + itemIterator.keyType().getName(), ex);
             }
             try {
-                columnConverter = settings.getConverter().findConverterNoGenerics(itemIterator.columnType());
+                columnConverter = SerConverterCache.of(settings).findConverterNoGenerics(itemIterator.columnType());
             } catch (RuntimeException ex) {
                 throw new IllegalArgumentException("Unable to write table/grid as declared column type is not a simple type: " + itemIterator.columnType().getName(), ex);
             }
         } else if (itemIterator.category() == SerCategory.MAP) {
             // if key type is known and convertible use short key format, else use full bean format
-            if (settings.getConverter().isConvertible(itemIterator.keyType())) {
-                keyConverter = settings.getConverter().findConverterNoGenerics(itemIterator.keyType());
+            if (SerConverterCache.of(settings).isConvertible(itemIterator.keyType())) {
+                keyConverter = SerConverterCache.of(settings).findConverterNoGenerics(itemIterator.keyType());
             } else {
                 keyBean = true;
             }
@@ -355,7 +412,7 @@ public class JodaBeanXmlWriter {
             throw new IllegalArgumentException("Unable to write map key as it cannot be null: " + key);
         }
         // if key type is known and convertible use short key format
-        if (settings.getConverter().isConvertible(itemIterator.keyType())) {
+        if (SerConverterCache.of(settings).isConvertible(itemIterator.keyType())) {
             writeSimple(currentIndent, ITEM, new StringBuilder(), Object.class, key);
         } else if (key instanceof Bean) {
             writeBean(currentIndent, ITEM, new StringBuilder(), itemIterator.keyType(), (Bean) key);
@@ -370,13 +427,16 @@ public class JodaBeanXmlWriter {
     }
 
     private void writeValueElement(String currentIndent, String tagName, StringBuilder attrs, SerIterator itemIterator) throws IOException {
-        Object value = itemIterator.value();
+        writeValueElement(currentIndent, tagName, attrs, itemIterator.value(), itemIterator);
+    }
+
+    private void writeValueElement(String currentIndent, String tagName, StringBuilder attrs, Object value, SerIterator itemIterator) throws IOException {
         Class<?> valueType = itemIterator.valueType();
         if (value == null) {
             appendAttribute(attrs, NULL, "true");
             output.append(currentIndent).append('<').append(tagName).append(attrs).append("/>").append(settings.getNewLine());
         } else if (value instanceof Bean) {
-            if (settings.getConverter().isConvertible(value.getClass())) {
+            if (SerConverterCache.of(settings).isConvertible(value.getClass())) {
                 writeSimple(currentIndent, tagName, attrs, valueType, value);
             } else {
                 writeBean(currentIndent, tagName, attrs, valueType, (Bean) value);
@@ -397,21 +457,30 @@ public class JodaBeanXmlWriter {
         if (declaredType == Object.class) {
             Class<?> realType = value.getClass();
             if (realType != String.class) {
-                effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
+                effectiveType = SerConverterCache.of(settings).findTypedConverter(realType).getEffectiveType();
                 String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
                 appendAttribute(attrs, TYPE, typeStr);
             } else {
                 effectiveType = realType;
             }
-        } else if (settings.getConverter().isConvertible(declaredType) == false) {
-            effectiveType = settings.getConverter().findTypedConverter(value.getClass()).getEffectiveType();
+        } else if (SerConverterCache.of(settings).isConvertible(declaredType) == false) {
+            effectiveType = SerConverterCache.of(settings).findTypedConverter(value.getClass()).getEffectiveType();
             String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
             appendAttribute(attrs, TYPE, typeStr);
         } else {
             effectiveType = declaredType;
         }
         try {
-            String converted = settings.getConverter().convertToString(effectiveType, value);
+            int numberEnd = formatNumber(effectiveType, value);
+            if (numberEnd >= 0) {
+                output.append(currentIndent).append('<').append(tagName).append(attrs).append('>');
+                for (int i = 0; i < numberEnd; i++) {
+                    output.append((char) numberBuf[i]);
+                }
+                output.append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+                return;
+            }
+            String converted = SerConverterCache.of(settings).convertToString(effectiveType, value);
             if (converted == null) {
                 throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
             }
@@ -423,6 +492,53 @@ public class JodaBeanXmlWriter {
         }
     }
 
+    // formats a number into the number buffer without using the converter, returning -1 if not formatted
+    // this is only done when the converters are the standard ones, which use toString()
+    private int formatNumber(Class<?> effectiveType, Object value) {
+        Class<?> type = value.getClass();
+        if (type != effectiveType && effectiveType.isPrimitive() == false) {
+            return -1;
+        }
+        if (type != Double.class && type != Integer.class && type != Long.class &&
+                type != Float.class && type != Short.class && type != Byte.class) {
+            return -1;
+        }
+        if (standardNumberConverters == null) {
+            standardNumberConverters = isStandardNumberConverters(settings.getConverter());
+            numberBuf = new byte[SerNumberFormat.MAX_LENGTH];
+        }
+        if (standardNumberConverters.booleanValue() == false) {
+            return -1;
+        }
+        if (type == Double.class) {
+            return SerNumberFormat.formatDouble(((Double) value).doubleValue(), numberBuf, 0);
+        } else if (type == Float.class) {
+            return SerNumberFormat.formatFloat(((Float) value).floatValue(), numberBuf, 0);
+        } else {
+            return SerNumberFormat.formatLong(((Number) value).longValue(), numberBuf, 0);
+        }
+    }
+
+    // checks if the converters for numbers are the same as the standard converters
+    private static boolean isStandardNumberConverters(StringConvert converter) {
+        if (converter == StringConvert.INSTANCE) {
+            return true;
+        }
+        Class<?>[] types = {
+            Double.class, double.class, Float.class, float.class, Long.class, long.class,
+            Integer.class, int.class, Short.class, short.class, Byte.class, byte.class};
+        try {
+            for (Class<?> type : types) {
+                if (converter.findTypedConverter(type) != StringConvert.INSTANCE.findTypedConverter(type)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (RuntimeException ex) {
+            return false;
+        }
+    }
+
     private void appendEncoded(String text) throws IOException {
         for (int i = 0; i < text.length(); i++) {
             char ch = text.charAt(i);
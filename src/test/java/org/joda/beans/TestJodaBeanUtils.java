@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -30,12 +31,15 @@ import java.util.Map;
 import java.util.function.Function;
 
 import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.impl.map.MapBean;
 import org.joda.beans.sample.Address;
 import org.joda.beans.sample.ImmAddress;
 import org.joda.beans.sample.ImmGuava;
+import org.joda.beans.sample.ImmLimitedToString;
 import org.joda.beans.sample.ImmPerson;
 import org.joda.beans.sample.Pair;
 import org.joda.beans.sample.Person;
+import org.joda.beans.sample.PrimitiveBean;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
@@ -165,6 +169,77 @@ public class TestJodaBeanUtils {
         assertThat(JodaBeanUtils.propertiesHashCode(a)).isEqualTo(JodaBeanUtils.propertiesHashCode(b));
     }
 
+    @Test
+    public void test_propertiesEqual_propertiesHashCode_primitives() {
+        PrimitiveBean a = new PrimitiveBean();
+        a.setValueInt(12);
+        a.setValueLong(-3L);
+        a.setValueDouble(Double.NaN);
+        a.setValueBoolean(true);
+        PrimitiveBean b = new PrimitiveBean();
+        b.setValueInt(12);
+        b.setValueLong(-3L);
+        b.setValueDouble(Double.NaN);
+        b.setValueBoolean(true);
+        assertThat(JodaBeanUtils.propertiesEqual(a, b)).isTrue();
+        assertThat(JodaBeanUtils.propertiesHashCode(a)).isEqualTo(JodaBeanUtils.propertiesHashCode(b));
+        
+        FlexiBean flexi = new FlexiBean();
+        for (MetaProperty<?> mp : a.metaBean().metaPropertyIterable()) {
+            flexi.set(mp.name(), mp.get(a));
+        }
+        assertThat(JodaBeanUtils.propertiesEqual(a, flexi)).isTrue();
+        assertThat(JodaBeanUtils.propertiesHashCode(a)).isEqualTo(JodaBeanUtils.propertiesHashCode(flexi));
+        
+        b.setValueDouble(-0d);
+        assertThat(JodaBeanUtils.propertiesEqual(a, b)).isFalse();
+        a.setValueDouble(0d);
+        assertThat(JodaBeanUtils.propertiesEqual(a, b)).isFalse();
+        b.setValueDouble(0d);
+        b.setValueBoolean(false);
+        assertThat(JodaBeanUtils.propertiesEqual(a, b)).isFalse();
+    }
+
+    @Test
+    public void test_propertiesEqual_propertiesHashCode_flexi() {
+        FlexiBean a = new FlexiBean();
+        a.set("first", new int[] {1, 2});
+        a.set("second", null);
+        FlexiBean b = new FlexiBean();
+        b.set("second", null);
+        b.set("first", new int[] {1, 2});
+        assertThat(JodaBeanUtils.propertiesEqual(a, b)).isTrue();
+        assertThat(JodaBeanUtils.propertiesHashCode(a)).isEqualTo(JodaBeanUtils.propertiesHashCode(b));
+        
+        b.remove("second");
+        b.set("third", null);
+        assertThat(JodaBeanUtils.propertiesEqual(a, b)).isFalse();
+        assertThat(JodaBeanUtils.propertiesEqual(b, a)).isFalse();
+    }
+
+    @Test
+    public void test_propertiesEqual_propertiesHashCode_mapBean() {
+        MapBean a = new MapBean();
+        a.put("first", new int[] {1, 2});
+        a.put("second", null);
+        MapBean b = new MapBean();
+        b.put("second", null);
+        b.put("first", new int[] {1, 2});
+        assertThat(JodaBeanUtils.propertiesEqual(a, b)).isTrue();
+        assertThat(JodaBeanUtils.propertiesHashCode(a)).isEqualTo(JodaBeanUtils.propertiesHashCode(b));
+        
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("first", new int[] {1, 2});
+        flexi.set("second", null);
+        assertThat(JodaBeanUtils.propertiesEqual(a, flexi)).isTrue();
+        assertThat(JodaBeanUtils.propertiesHashCode(a)).isEqualTo(JodaBeanUtils.propertiesHashCode(flexi));
+        
+        b.remove("second");
+        b.put("third", null);
+        assertThat(JodaBeanUtils.propertiesEqual(a, b)).isFalse();
+        assertThat(JodaBeanUtils.propertiesEqual(b, a)).isFalse();
+    }
+
     //-------------------------------------------------------------------------
     @Test
     public void test_equal() {
@@ -481,6 +556,59 @@ public class TestJodaBeanUtils {
         assertThat(JodaBeanUtils.hashCode(new double[] { 1d })).isEqualTo(Arrays.hashCode(new double[] { 1d }));
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toString_limited() {
+        ImmLimitedToString leaf = ImmLimitedToString.of("leaf", ImmutableList.of("x"), null);
+        ImmLimitedToString mid = ImmLimitedToString.of("mid", ImmutableList.of("a", "b", "c"), leaf);
+        ImmLimitedToString root = ImmLimitedToString.of("root", ImmutableList.of(), mid);
+        assertThat(root.toString()).isEqualTo(
+                "ImmLimitedToString{name=root, values=[], child=ImmLimitedToString{name=mid, values=[a, b, c], " +
+                "child=ImmLimitedToString{name=leaf, values=[x], child=null}}}");
+        assertThat(JodaBeanUtils.toString(root, ToStringLimits.of(2, 2, 1000))).isEqualTo(
+                "ImmLimitedToString{name=root, values=[], child=ImmLimitedToString{name=mid, values=[...], " +
+                "child=ImmLimitedToString{...}}}");
+        assertThat(JodaBeanUtils.toString(mid, ToStringLimits.of(8, 2, 1000))).isEqualTo(
+                "ImmLimitedToString{name=mid, values=[a, b, ...], child=ImmLimitedToString{name=leaf, values=[x], child=null}}");
+        assertThat(JodaBeanUtils.toString(root, ToStringLimits.of(8, 50, 20))).isEqualTo("ImmLimitedToString{n...");
+    }
+
+    @Test
+    public void test_toString_limited_matchesGenerated() {
+        ImmPerson person = ImmPerson.builder().forename("John").surname("Doggett").build();
+        assertThat(JodaBeanUtils.toString(person, ToStringLimits.DEFAULT)).isEqualTo(person.toString());
+        Map<String, Object> map = new HashMap<>();
+        map.put("k", Arrays.asList(1, 2));
+        Pair pair = new Pair();
+        pair.setFirst(new int[] {1, 2, 3});
+        pair.setSecond(map);
+        assertThat(JodaBeanUtils.toString(pair, ToStringLimits.DEFAULT)).isEqualTo(pair.toString());
+    }
+
+    @Test
+    public void test_toString_limited_appendable() throws IOException {
+        Pair pair = new Pair();
+        pair.setFirst(new int[] {1, 2, 3});
+        pair.setSecond(Collections.singletonMap("k", "v"));
+        StringBuilder buf = new StringBuilder("Prefix:");
+        JodaBeanUtils.toString(pair, buf, ToStringLimits.of(1, 5, 100));
+        assertThat(buf.toString()).isEqualTo("Prefix:Pair{first=[...], second={...}}");
+    }
+
+    @Test
+    public void test_toStringLimits() {
+        ToStringLimits test = ToStringLimits.of(2, 3, 4);
+        assertThat(test.getMaxDepth()).isEqualTo(2);
+        assertThat(test.getMaxElements()).isEqualTo(3);
+        assertThat(test.getMaxChars()).isEqualTo(4);
+        assertThat(test).isEqualTo(ToStringLimits.of(2, 3, 4)).isNotEqualTo(ToStringLimits.DEFAULT);
+        assertThat(test.hashCode()).isEqualTo(ToStringLimits.of(2, 3, 4).hashCode());
+        assertThat(test.toString()).isEqualTo("ToStringLimits[maxDepth=2, maxElements=3, maxChars=4]");
+        assertThatIllegalArgumentException().isThrownBy(() -> ToStringLimits.of(0, 3, 4));
+        assertThatIllegalArgumentException().isThrownBy(() -> ToStringLimits.of(2, -1, 4));
+        assertThatIllegalArgumentException().isThrownBy(() -> ToStringLimits.of(2, 3, -1));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_copy() {
@@ -507,6 +635,24 @@ public class TestJodaBeanUtils {
         assertThat(copied.getSurname()).isNull();
     }
 
+    @Test
+    public void test_copyInto_differentTypes() {
+        Person p = new Person();
+        p.setForename("Stephen");
+        p.setSurname("Colebourne");
+        p.setNumberOfCars(2);
+        for (int i = 0; i < 2; i++) {
+            ImmPerson copied = JodaBeanUtils.copyInto(p, ImmPerson.meta(), ImmPerson.builder()).build();
+            assertThat(copied.getForename()).isEqualTo("Stephen");
+            assertThat(copied.getSurname()).isEqualTo("Colebourne");
+            assertThat(copied.getNumberOfCars()).isEqualTo(2);
+            Person copiedPerson = JodaBeanUtils.copy(p, Person.class).build();
+            assertThat(copiedPerson).isNotSameAs(p);
+            assertThat(copiedPerson.getForename()).isEqualTo("Stephen");
+            assertThat(copiedPerson.getNumberOfCars()).isEqualTo(2);
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_clone() {
@@ -522,6 +668,39 @@ public class TestJodaBeanUtils {
         assertThat(cloned).isNotEqualTo(p);
     }
 
+    @Test
+    public void test_clone_sharesImmutable() {
+        ImmPerson person = ImmPerson.builder().forename("John").surname("Doggett").build();
+        ImmutableList<String> immutableList = ImmutableList.of("A", "B");
+        List<String> emptyList = Collections.emptyList();
+        List<String> mutableList = new ArrayList<>(Arrays.asList("C", "D"));
+        Pair inner = new Pair();
+        inner.setFirst(emptyList);
+        inner.setSecond(mutableList);
+        Pair outer = new Pair();
+        outer.setFirst(person);
+        outer.setSecond(Arrays.asList(immutableList, inner));
+        Pair cloned = JodaBeanUtils.clone(outer);
+        assertThat(cloned).isNotSameAs(outer);
+        assertThat(cloned).isEqualTo(outer);
+        assertThat(cloned.getFirst()).isSameAs(person);
+        List<?> clonedList = (List<?>) cloned.getSecond();
+        assertThat(clonedList.get(0)).isSameAs(immutableList);
+        Pair clonedInner = (Pair) clonedList.get(1);
+        assertThat(clonedInner).isNotSameAs(inner);
+        assertThat(clonedInner.getFirst()).isSameAs(emptyList);
+        assertThat(clonedInner.getSecond()).isNotSameAs(mutableList).isEqualTo(mutableList);
+    }
+
+    @Test
+    public void test_cloneAlways_immutable() {
+        ImmPerson person = ImmPerson.builder().forename("John").surname("Doggett").build();
+        assertThat(JodaBeanUtils.clone(person)).isSameAs(person);
+        ImmPerson cloned = JodaBeanUtils.cloneAlways(person);
+        assertThat(cloned).isNotSameAs(person);
+        assertThat(cloned).isEqualTo(person);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_listType_Person_addressList() {
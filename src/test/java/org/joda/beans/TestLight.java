@@ -26,6 +26,7 @@ import org.joda.beans.impl.StandaloneMetaProperty;
 import org.joda.beans.impl.light.LightMetaBean;
 import org.joda.beans.sample.ImmPerson;
 import org.joda.beans.sample.LightImmutable;
+import org.joda.beans.sample.LightImmutableSimple;
 import org.joda.beans.sample.LightMutable;
 import org.joda.beans.ser.JodaBeanSer;
 import org.junit.jupiter.api.Test;
@@ -133,6 +134,50 @@ public class TestLight {
         assertThat(mps.get(9).name()).isEqualTo("address");
     }
 
+    @Test
+    public void test_immutable_fewProperties() {
+        LightImmutableSimple bean = LightImmutableSimple.meta().builder()
+                .set("number", 12)
+                .set("text", "Hello")
+                .build();
+        assertThat(bean.getNumber()).isEqualTo(12);
+        assertThat(bean.getText()).isEqualTo("Hello");
+        
+        LightImmutableSimple defaulted = LightImmutableSimple.meta().builder().build();
+        assertThat(defaulted.getNumber()).isEqualTo(0);
+        assertThat(defaulted.getText()).isNull();
+        
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> LightImmutableSimple.meta().builder().set("number", "Twelve").build());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> LightImmutableSimple.meta().builder().set("number", null).build());
+    }
+
+    @Test
+    public void test_immutable_cachedHashCode() {
+        LightImmutableSimple bean = LightImmutableSimple.meta().builder()
+                .set("number", 12)
+                .set("text", "Hello")
+                .build();
+        LightImmutableSimple other = LightImmutableSimple.meta().builder()
+                .set("number", 12)
+                .set("text", "Hello")
+                .build();
+        assertThat(bean.metaBean().metaPropertyCount()).isEqualTo(2);
+        int hash = bean.hashCode();
+        assertThat(bean.hashCode()).isEqualTo(hash);
+        assertThat(other.hashCode()).isEqualTo(hash);
+        assertThat(bean).isEqualTo(other);
+        
+        LightImmutableSimple cloned = JodaBeanUtils.clone(bean);
+        assertThat(cloned).isEqualTo(bean);
+        assertThat(cloned.hashCode()).isEqualTo(hash);
+        
+        LightImmutableSimple roundTrip = JodaBeanSer.COMPACT.jsonReader().read(JodaBeanSer.COMPACT.jsonWriter().write(bean), LightImmutableSimple.class);
+        assertThat(roundTrip).isEqualTo(bean);
+        assertThat(roundTrip.hashCode()).isEqualTo(hash);
+    }
+
     @Test
     public void test_mutable() {
         LightMutable bean = LightMutable.meta().builder()
@@ -209,6 +254,61 @@ public class TestLight {
                 .isThrownBy(() -> LightImmutable.meta().builder().set(mp3, "Nothing"));
     }
 
+    @Test
+    public void test_mutable_accessors() {
+        LightMutable bean = LightMutable.meta().builder()
+                .set("number", 12)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .build();
+        MetaProperty<Object> number = bean.metaBean().metaProperty("number");
+        number.set(bean, 14);
+        assertThat(bean.getNumber()).isEqualTo(14);
+        assertThat(number.get(bean)).isEqualTo(14);
+
+        MetaProperty<Object> hiddenText = bean.metaBean().metaProperty("hiddenText");
+        hiddenText.set(bean, "hidden");
+        assertThat(hiddenText.get(bean)).isEqualTo("hidden");
+
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> number.set(bean, "Twelve"));
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> number.get(ImmPerson.builder().forename("John").surname("Doggett").build()));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> number.set(bean, null));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> bean.metaBean().metaProperty("address").set(bean, "Nowhere"));
+    }
+
+    @Test
+    public void test_mutable_primitiveAccessors() {
+        LightMutable bean = LightMutable.meta().builder()
+                .set("number", 12)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .build();
+        MetaProperty<Object> number = bean.metaBean().metaProperty("number");
+        MetaProperty<Object> flag = bean.metaBean().metaProperty("flag");
+        assertThat(number.getInt(bean)).isEqualTo(12);
+        assertThat(flag.getBoolean(bean)).isFalse();
+        
+        number.setInt(bean, 14);
+        flag.setBoolean(bean, true);
+        assertThat(bean.getNumber()).isEqualTo(14);
+        assertThat(bean.isFlag()).isTrue();
+        assertThat(number.getInt(bean)).isEqualTo(14);
+        assertThat(flag.getBoolean(bean)).isTrue();
+        
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> number.getDouble(bean));
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> number.setLong(bean, 1L));
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> bean.metaBean().metaProperty("city").getInt(bean));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> LightImmutable.meta().metaProperty("number").setInt(bean, 1));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_immutableOld() {
@@ -16,9 +16,16 @@
 package org.joda.beans;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +36,48 @@ public class TestMetaBeans {
     MetaBean metaBean = MetaBeans.lookup(AnnotatedBean.class);
     assertThat(metaBean).isInstanceOf(AnnotatedMetaBean.class);
   }
+
+  @Test
+  public void test_metaBeanProviderAnnotation_concurrent() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      CountDownLatch latch = new CountDownLatch(1);
+      List<Future<MetaBean>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> {
+          latch.await();
+          return MetaBeans.lookup(AnnotatedBean.class);
+        }));
+      }
+      latch.countDown();
+      MetaBean expected = MetaBeans.lookup(AnnotatedBean.class);
+      for (Future<MetaBean> future : futures) {
+        assertThat(future.get()).isSameAs(expected);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void test_lookup_index() throws Exception {
+    MetaBean metaBean = MetaBeans.lookup(IndexedBean.class);
+    assertThat(metaBean).isSameAs(IndexedMetaBean.INSTANCE);
+    assertThat(IndexedBeanState.initialized).isFalse();
+    // the static initializer registers the same instance again
+    Class.forName(IndexedBean.class.getName(), true, IndexedBean.class.getClassLoader());
+    assertThat(IndexedBeanState.initialized).isTrue();
+    assertThat(MetaBeans.lookup(IndexedBean.class)).isSameAs(metaBean);
+    // any later registration is rejected
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> MetaBean.register(IndexedMetaBean.INSTANCE));
+  }
+
+  @Test
+  public void test_lookup_notRegistered() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> MetaBeans.lookup(String.class));
+  }
 }
 
 // --------------------------------------------------------------------------------------------------
@@ -75,3 +124,57 @@ class AnnotatedMetaBean implements MetaBean {
   }
 }
 
+// --------------------------------------------------------------------------------------------------
+
+class IndexedBeanState {
+
+  static boolean initialized;
+}
+
+class IndexedBean implements Bean {
+
+  static {
+    MetaBean.register(IndexedMetaBean.INSTANCE);
+    IndexedBeanState.initialized = true;
+  }
+
+  @Override
+  public MetaBean metaBean() {
+    return IndexedMetaBean.INSTANCE;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    throw new UnsupportedOperationException("This method is not needed for testing");
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    throw new UnsupportedOperationException("This method is not needed for testing");
+  }
+}
+
+class IndexedMetaBean implements MetaBean {
+
+  static final IndexedMetaBean INSTANCE = new IndexedMetaBean();
+
+  @Override
+  public boolean isBuildable() {
+    throw new UnsupportedOperationException("This method is not needed for testing");
+  }
+
+  @Override
+  public BeanBuilder<? extends Bean> builder() {
+    throw new UnsupportedOperationException("This method is not needed for testing");
+  }
+
+  @Override
+  public Class<? extends Bean> beanType() {
+    return IndexedBean.class;
+  }
+
+  @Override
+  public Map<String, MetaProperty<?>> metaPropertyMap() {
+    throw new UnsupportedOperationException("This method is not needed for testing");
+  }
+}
@@ -26,6 +26,7 @@ import org.joda.beans.impl.StandaloneMetaProperty;
 import org.joda.beans.sample.ImmPerson;
 import org.joda.beans.sample.LightImmutable;
 import org.joda.beans.sample.MinimalImmutable;
+import org.joda.beans.sample.MinimalImmutableSimple;
 import org.joda.beans.sample.MinimalMutable;
 import org.joda.beans.ser.JodaBeanSer;
 import org.junit.jupiter.api.Test;
@@ -124,6 +125,31 @@ public class TestMinimal {
         assertThat(mps.get(8).name()).isEqualTo("address");
     }
 
+    @Test
+    public void test_immutable_cachedHashCode() {
+        MinimalImmutableSimple bean = (MinimalImmutableSimple) MinimalImmutableSimple.meta().builder()
+                .set("number", 12)
+                .set("text", "Hello")
+                .build();
+        MinimalImmutableSimple other = (MinimalImmutableSimple) MinimalImmutableSimple.meta().builder()
+                .set("number", 12)
+                .set("text", "Hello")
+                .build();
+        assertThat(bean.metaBean().metaPropertyCount()).isEqualTo(2);
+        int hash = bean.hashCode();
+        assertThat(bean.hashCode()).isEqualTo(hash);
+        assertThat(other.hashCode()).isEqualTo(hash);
+        assertThat(bean).isEqualTo(other);
+        
+        MinimalImmutableSimple cloned = JodaBeanUtils.clone(bean);
+        assertThat(cloned).isEqualTo(bean);
+        assertThat(cloned.hashCode()).isEqualTo(hash);
+        
+        MinimalImmutableSimple roundTrip = JodaBeanSer.COMPACT.jsonReader().read(JodaBeanSer.COMPACT.jsonWriter().write(bean), MinimalImmutableSimple.class);
+        assertThat(roundTrip).isEqualTo(bean);
+        assertThat(roundTrip.hashCode()).isEqualTo(hash);
+    }
+
     @Test
     public void test_mutable() {
         MinimalMutable bean = (MinimalMutable) MinimalMutable.meta().builder()
@@ -213,4 +239,27 @@ public class TestMinimal {
         assertThat(mps.get(7).name()).isEqualTo("address");
     }
 
+    @Test
+    public void test_mutable_primitiveAccessors() {
+        MinimalMutable bean = (MinimalMutable) MinimalMutable.meta().builder()
+                .set("number", 12)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .build();
+        MetaProperty<Object> number = bean.metaBean().metaProperty("number");
+        MetaProperty<Object> flag = bean.metaBean().metaProperty("flag");
+        assertThat(number.getInt(bean)).isEqualTo(12);
+        assertThat(flag.getBoolean(bean)).isFalse();
+        
+        number.setInt(bean, 14);
+        flag.setBoolean(bean, true);
+        assertThat(bean.getNumber()).isEqualTo(14);
+        assertThat(bean.isFlag()).isTrue();
+        
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> number.getDouble(bean));
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> bean.metaBean().metaProperty("city").getInt(bean));
+    }
+
 }
@@ -16,8 +16,12 @@
 package org.joda.beans;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.lang.invoke.MethodHandles;
 
 import org.joda.beans.impl.StandaloneMetaProperty;
+import org.joda.beans.impl.reflection.ReflectiveMetaBean;
 import org.joda.beans.sample.ReflectiveMutable;
 import org.joda.beans.ser.JodaBeanSer;
 import org.junit.jupiter.api.Test;
@@ -69,4 +73,53 @@ public class TestReflective {
         assertThat(JodaBeanSer.PRETTY.xmlWriter().write(bean)).contains("<street>Park Lane<");
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_accelerated() {
+        ReflectiveMetaBean<ReflectiveMutable> metaBean = ReflectiveMetaBean.of(
+                ReflectiveMutable.class, MethodHandles.lookup(), "number", "flag", "street", "city");
+        assertThat(metaBean.isBuildable()).isTrue();
+        ReflectiveMutable bean = metaBean.builder()
+                .set("number", 12)
+                .set("flag", true)
+                .set("street", "Park Lane")
+                .build();
+        
+        assertThat(bean.getNumber()).isEqualTo(12);
+        assertThat(bean.isFlag()).isTrue();
+        assertThat(bean.getStreet()).isEqualTo("Park Lane");
+        assertThat(bean.getCity()).isNull();
+        
+        MetaProperty<Object> mp = metaBean.metaProperty("number");
+        assertThat(mp.propertyType()).isEqualTo(int.class);
+        assertThat(mp.get(bean)).isEqualTo(12);
+        mp.set(bean, 14);
+        assertThat(bean.getNumber()).isEqualTo(14);
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> mp.set(bean, null));
+        assertThatExceptionOfType(ClassCastException.class)
+                .isThrownBy(() -> mp.set(bean, "Twelve"));
+        
+        assertThat(metaBean).isEqualTo(ReflectiveMutable.META_BEAN);
+        assertThat(metaBean.metaPropertyMap().keySet()).containsExactly("number", "flag", "street", "city");
+    }
+
+    @Test
+    public void test_accelerated_publicLookup() {
+        ReflectiveMetaBean<ReflectiveMutable> metaBean = ReflectiveMetaBean.of(
+                ReflectiveMutable.class, MethodHandles.publicLookup(), "number", "flag", "street", "city");
+        ReflectiveMutable bean = metaBean.builder()
+                .set("number", 12)
+                .set("city", "London")
+                .build();
+        assertThat(metaBean.metaProperty("number").get(bean)).isEqualTo(12);
+        assertThat(metaBean.metaProperty("city").get(bean)).isEqualTo("London");
+    }
+
+    @Test
+    public void test_accelerated_nullLookup() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ReflectiveMetaBean.of(ReflectiveMutable.class, (MethodHandles.Lookup) null, "number"));
+    }
+
 }
@@ -0,0 +1,419 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.sample;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.ToStringLimits;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Mock immutable bean, used for testing limited toString.
+ */
+@BeanDefinition(toStringStyle = "limited", factoryName = "of")
+public final class ImmLimitedToString implements ImmutableBean {
+
+    @PropertyDefinition(validate = "notNull")
+    private final String name;
+    @PropertyDefinition(validate = "notNull")
+    private final ImmutableList<String> values;
+    @PropertyDefinition
+    private final ImmLimitedToString child;
+
+    //------------------------- AUTOGENERATED START -------------------------
+    /**
+     * The meta-bean for {@code ImmLimitedToString}.
+     * @return the meta-bean, not null
+     */
+    public static ImmLimitedToString.Meta meta() {
+        return ImmLimitedToString.Meta.INSTANCE;
+    }
+
+    static {
+        MetaBean.register(ImmLimitedToString.Meta.INSTANCE);
+    }
+
+    /**
+     * Obtains an instance.
+     * @param name  the value of the property, not null
+     * @param values  the value of the property, not null
+     * @param child  the value of the property
+     * @return the instance
+     */
+    public static ImmLimitedToString of(
+            String name,
+            List<String> values,
+            ImmLimitedToString child) {
+        return new ImmLimitedToString(
+            name,
+            values,
+            child);
+    }
+
+    /**
+     * Returns a builder used to create an instance of the bean.
+     * @return the builder, not null
+     */
+    public static ImmLimitedToString.Builder builder() {
+        return new ImmLimitedToString.Builder();
+    }
+
+    private ImmLimitedToString(
+            String name,
+            List<String> values,
+            ImmLimitedToString child) {
+        JodaBeanUtils.notNull(name, "name");
+        JodaBeanUtils.notNull(values, "values");
+        this.name = name;
+        this.values = ImmutableList.copyOf(values);
+        this.child = child;
+    }
+
+    @Override
+    public ImmLimitedToString.Meta metaBean() {
+        return ImmLimitedToString.Meta.INSTANCE;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the name.
+     * @return the value of the property, not null
+     */
+    public String getName() {
+        return name;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the values.
+     * @return the value of the property, not null
+     */
+    public ImmutableList<String> getValues() {
+        return values;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the child.
+     * @return the value of the property
+     */
+    public ImmLimitedToString getChild() {
+        return child;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a builder that allows this bean to be mutated.
+     * @return the mutable builder, not null
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj != null && obj.getClass() == this.getClass()) {
+            ImmLimitedToString other = (ImmLimitedToString) obj;
+            return JodaBeanUtils.equal(name, other.name) &&
+                    JodaBeanUtils.equal(values, other.values) &&
+                    JodaBeanUtils.equal(child, other.child);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = getClass().hashCode();
+        hash = hash * 31 + JodaBeanUtils.hashCode(name);
+        hash = hash * 31 + JodaBeanUtils.hashCode(values);
+        hash = hash * 31 + JodaBeanUtils.hashCode(child);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return JodaBeanUtils.toString(this, ToStringLimits.DEFAULT);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-bean for {@code ImmLimitedToString}.
+     */
+    public static final class Meta extends DirectMetaBean {
+        /**
+         * The singleton instance of the meta-bean.
+         */
+        static final Meta INSTANCE = new Meta();
+
+        /**
+         * The meta-property for the {@code name} property.
+         */
+        private final MetaProperty<String> name = DirectMetaProperty.ofImmutable(
+                this, "name", ImmLimitedToString.class, String.class);
+        /**
+         * The meta-property for the {@code values} property.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes" })
+        private final MetaProperty<ImmutableList<String>> values = DirectMetaProperty.ofImmutable(
+                this, "values", ImmLimitedToString.class, (Class) ImmutableList.class);
+        /**
+         * The meta-property for the {@code child} property.
+         */
+        private final MetaProperty<ImmLimitedToString> child = DirectMetaProperty.ofImmutable(
+                this, "child", ImmLimitedToString.class, ImmLimitedToString.class);
+        /**
+         * The meta-properties.
+         */
+        private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+                this, null,
+                "name",
+                "values",
+                "child");
+
+        /**
+         * Restricted constructor.
+         */
+        private Meta() {
+        }
+
+        @Override
+        protected MetaProperty<?> metaPropertyGet(String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 3373707:  // name
+                    return name;
+                case -823812830:  // values
+                    return values;
+                case 94631196:  // child
+                    return child;
+            }
+            return super.metaPropertyGet(propertyName);
+        }
+
+        @Override
+        public ImmLimitedToString.Builder builder() {
+            return new ImmLimitedToString.Builder();
+        }
+
+        @Override
+        public Class<? extends ImmLimitedToString> beanType() {
+            return ImmLimitedToString.class;
+        }
+
+        @Override
+        public Map<String, MetaProperty<?>> metaPropertyMap() {
+            return metaPropertyMap$;
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * The meta-property for the {@code name} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<String> name() {
+            return name;
+        }
+
+        /**
+         * The meta-property for the {@code values} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<ImmutableList<String>> values() {
+            return values;
+        }
+
+        /**
+         * The meta-property for the {@code child} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<ImmLimitedToString> child() {
+            return child;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+            switch (propertyName.hashCode()) {
+                case 3373707:  // name
+                    return ((ImmLimitedToString) bean).getName();
+                case -823812830:  // values
+                    return ((ImmLimitedToString) bean).getValues();
+                case 94631196:  // child
+                    return ((ImmLimitedToString) bean).getChild();
+            }
+            return super.propertyGet(bean, propertyName, quiet);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+            metaProperty(propertyName);
+            if (quiet) {
+                return;
+            }
+            throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+        }
+
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The bean-builder for {@code ImmLimitedToString}.
+     */
+    public static final class Builder extends DirectFieldsBeanBuilder<ImmLimitedToString> {
+
+        private String name;
+        private List<String> values = ImmutableList.of();
+        private ImmLimitedToString child;
+
+        /**
+         * Restricted constructor.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Restricted copy constructor.
+         * @param beanToCopy  the bean to copy from, not null
+         */
+        private Builder(ImmLimitedToString beanToCopy) {
+            this.name = beanToCopy.getName();
+            this.values = beanToCopy.getValues();
+            this.child = beanToCopy.getChild();
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public Object get(String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 3373707:  // name
+                    return name;
+                case -823812830:  // values
+                    return values;
+                case 94631196:  // child
+                    return child;
+                default:
+                    throw new NoSuchElementException("Unknown property: " + propertyName);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(String propertyName, Object newValue) {
+            switch (propertyName.hashCode()) {
+                case 3373707:  // name
+                    this.name = (String) newValue;
+                    break;
+                case -823812830:  // values
+                    this.values = (List<String>) newValue;
+                    break;
+                case 94631196:  // child
+                    this.child = (ImmLimitedToString) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property: " + propertyName);
+            }
+            return this;
+        }
+
+        @Override
+        public Builder set(MetaProperty<?> property, Object value) {
+            super.set(property, value);
+            return this;
+        }
+
+        @Override
+        public ImmLimitedToString build() {
+            return new ImmLimitedToString(
+                    name,
+                    values,
+                    child);
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Sets the name.
+         * @param name  the new value, not null
+         * @return this, for chaining, not null
+         */
+        public Builder name(String name) {
+            JodaBeanUtils.notNull(name, "name");
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the values.
+         * @param values  the new value, not null
+         * @return this, for chaining, not null
+         */
+        public Builder values(List<String> values) {
+            JodaBeanUtils.notNull(values, "values");
+            this.values = values;
+            return this;
+        }
+
+        /**
+         * Sets the {@code values} property in the builder
+         * from an array of objects.
+         * @param values  the new value, not null
+         * @return this, for chaining, not null
+         */
+        public Builder values(String... values) {
+            return values(ImmutableList.copyOf(values));
+        }
+
+        /**
+         * Sets the child.
+         * @param child  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder child(ImmLimitedToString child) {
+            this.child = child;
+            return this;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public String toString() {
+            StringBuilder buf = new StringBuilder(128);
+            buf.append("ImmLimitedToString.Builder{");
+            buf.append("name").append('=').append(JodaBeanUtils.toString(name)).append(',').append(' ');
+            buf.append("values").append('=').append(JodaBeanUtils.toString(values)).append(',').append(' ');
+            buf.append("child").append('=').append(JodaBeanUtils.toString(child));
+            buf.append('}');
+            return buf.toString();
+        }
+
+    }
+
+    //-------------------------- AUTOGENERATED END --------------------------
+}
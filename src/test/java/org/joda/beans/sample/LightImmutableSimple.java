@@ -31,7 +31,7 @@ import org.joda.beans.impl.light.LightMetaBean;
  * 
  * @author Stephen Colebourne
  */
-@BeanDefinition(style = "light", constructorScope = "package")
+@BeanDefinition(style = "light", constructorScope = "package", cacheHashCode = true)
 public final class LightImmutableSimple implements ImmutableBean, Serializable {
 
     /**
@@ -75,6 +75,11 @@ public final class LightImmutableSimple implements ImmutableBean, Serializable {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The cached hash code, using the racy single-check idiom.
+     */
+    private transient int cacheHashCode;
+
     /**
      * Creates an instance.
      * @param number  the value of the property
@@ -126,9 +131,13 @@ public final class LightImmutableSimple implements ImmutableBean, Serializable {
 
     @Override
     public int hashCode() {
-        int hash = getClass().hashCode();
-        hash = hash * 31 + JodaBeanUtils.hashCode(number);
-        hash = hash * 31 + JodaBeanUtils.hashCode(text);
+        int hash = cacheHashCode;
+        if (hash == 0) {
+            hash = getClass().hashCode();
+            hash = hash * 31 + JodaBeanUtils.hashCode(number);
+            hash = hash * 31 + JodaBeanUtils.hashCode(text);
+            cacheHashCode = hash;
+        }
         return hash;
     }
 
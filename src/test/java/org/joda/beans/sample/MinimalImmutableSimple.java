@@ -33,7 +33,7 @@ import org.joda.beans.impl.direct.MinimalMetaBean;
  * 
  * @author Stephen Colebourne
  */
-@BeanDefinition(style = "minimal", constructorScope = "package")
+@BeanDefinition(style = "minimal", constructorScope = "package", cacheHashCode = true)
 public final class MinimalImmutableSimple implements ImmutableBean, Serializable {
 
     /**
@@ -78,6 +78,11 @@ public final class MinimalImmutableSimple implements ImmutableBean, Serializable
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The cached hash code, using the racy single-check idiom.
+     */
+    private transient int cacheHashCode;
+
     /**
      * Returns a builder used to create an instance of the bean.
      * @return the builder, not null
@@ -145,9 +150,13 @@ public final class MinimalImmutableSimple implements ImmutableBean, Serializable
 
     @Override
     public int hashCode() {
-        int hash = getClass().hashCode();
-        hash = hash * 31 + JodaBeanUtils.hashCode(number);
-        hash = hash * 31 + JodaBeanUtils.hashCode(text);
+        int hash = cacheHashCode;
+        if (hash == 0) {
+            hash = getClass().hashCode();
+            hash = hash * 31 + JodaBeanUtils.hashCode(number);
+            hash = hash * 31 + JodaBeanUtils.hashCode(text);
+            cacheHashCode = hash;
+        }
         return hash;
     }
 
@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.LocalDate;
+
+import org.joda.beans.sample.ImmAddress;
+import org.joda.convert.StringConvert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test converter cache.
+ */
+public class TestSerConverterCache {
+
+    @Test
+    public void test_cached() {
+        SerConverterCache test = SerConverterCache.of(JodaBeanSer.COMPACT);
+        assertThat(SerConverterCache.of(JodaBeanSer.COMPACT)).isSameAs(test);
+        assertThat(SerConverterCache.of(JodaBeanSer.PRETTY)).isNotSameAs(test);
+        assertThat(test.findTypedConverter(LocalDate.class)).isSameAs(test.findTypedConverter(LocalDate.class));
+        assertThat(test.findTypedConverter(LocalDate.class))
+                .isSameAs(JodaBeanSer.COMPACT.getConverter().findTypedConverterNoGenerics(LocalDate.class));
+        assertThat(test.findConverterNoGenerics(LocalDate.class)).isSameAs(test.findTypedConverter(LocalDate.class));
+    }
+
+    @Test
+    public void test_convert() {
+        SerConverterCache test = SerConverterCache.of(JodaBeanSer.COMPACT);
+        LocalDate date = LocalDate.of(2020, 6, 30);
+        assertThat(test.isConvertible(LocalDate.class)).isTrue();
+        assertThat(test.convertToString(date)).isEqualTo("2020-06-30");
+        assertThat(test.convertToString(LocalDate.class, date)).isEqualTo("2020-06-30");
+        assertThat(test.convertFromString(LocalDate.class, "2020-06-30")).isEqualTo(date);
+        assertThat(test.convertToString(null)).isNull();
+        assertThat(test.convertToString(LocalDate.class, null)).isNull();
+        assertThat(test.convertFromString(LocalDate.class, null)).isNull();
+    }
+
+    @Test
+    public void test_notConvertible() {
+        SerConverterCache test = SerConverterCache.of(JodaBeanSer.COMPACT);
+        assertThat(test.isConvertible(ImmAddress.class)).isFalse();
+        assertThat(test.isConvertible(null)).isFalse();
+        assertThatIllegalStateException()
+                .isThrownBy(() -> test.findTypedConverter(ImmAddress.class));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> test.convertFromString(ImmAddress.class, "A"));
+    }
+
+    @Test
+    public void test_registeredLater() {
+        StringConvert convert = StringConvert.create();
+        SerConverterCache test = SerConverterCache.of(JodaBeanSer.COMPACT.withConverter(convert));
+        assertThat(test.isConvertible(Registered.class)).isFalse();
+        convert.register(Registered.class, value -> value.text, (type, str) -> new Registered(str));
+        assertThat(test.isConvertible(Registered.class)).isTrue();
+        assertThat(test.convertFromString(Registered.class, "A").text).isEqualTo("A");
+        assertThat(test.convertToString(new Registered("B"))).isEqualTo("B");
+    }
+
+    //-----------------------------------------------------------------------
+    static final class Registered {
+        private final String text;
+
+        Registered(String text) {
+            this.text = text;
+        }
+    }
+
+}
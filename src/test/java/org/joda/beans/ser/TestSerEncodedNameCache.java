@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.Address;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test encoded property name cache.
+ */
+public class TestSerEncodedNameCache {
+
+    @Test
+    public void test_encodedName() {
+        AtomicInteger count = new AtomicInteger();
+        SerEncodedNameCache test = SerEncodedNameCache.of(name -> {
+            count.incrementAndGet();
+            return name.getBytes(StandardCharsets.UTF_8);
+        });
+        byte[] encoded = test.encodedName(Address.meta().street());
+        assertThat(encoded).isEqualTo("street".getBytes(StandardCharsets.UTF_8));
+        assertThat(test.encodedName(Address.meta().street())).isSameAs(encoded);
+        assertThat(count.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_encodedName_separateEncoders() {
+        SerEncodedNameCache test1 = SerEncodedNameCache.of(name -> new byte[] {1});
+        SerEncodedNameCache test2 = SerEncodedNameCache.of(name -> new byte[] {2});
+        assertThat(test1.encodedName(Address.meta().street())).containsExactly(1);
+        assertThat(test2.encodedName(Address.meta().street())).containsExactly(2);
+    }
+
+    @Test
+    public void test_encodedName_tooManyNames() {
+        SerEncodedNameCache test = SerEncodedNameCache.of(name -> name.getBytes(StandardCharsets.UTF_8));
+        FlexiBean bean = new FlexiBean();
+        for (int i = 0; i < 300; i++) {
+            bean.set("p" + i, i);
+        }
+        int cached = 0;
+        for (int i = 0; i < 300; i++) {
+            if (test.encodedName(bean.metaBean().metaProperty("p" + i)) != null) {
+                cached++;
+            }
+        }
+        assertThat(cached).isEqualTo(256);
+    }
+
+}
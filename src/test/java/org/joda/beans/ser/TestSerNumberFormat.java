@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test number formatting.
+ */
+public class TestSerNumberFormat {
+
+    //-----------------------------------------------------------------------
+    public static Object[][] data_long() {
+        return new Object[][] {
+            {0L},
+            {1L},
+            {-1L},
+            {9L},
+            {10L},
+            {-10L},
+            {123456789L},
+            {(long) Integer.MIN_VALUE},
+            {(long) Integer.MAX_VALUE},
+            {Long.MIN_VALUE},
+            {Long.MAX_VALUE},
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_long")
+    public void test_formatLong(long value) {
+        byte[] buf = new byte[SerNumberFormat.MAX_LENGTH + 2];
+        int end = SerNumberFormat.formatLong(value, buf, 2);
+        assertThat(new String(buf, 2, end - 2, StandardCharsets.US_ASCII)).isEqualTo(Long.toString(value));
+    }
+
+    //-----------------------------------------------------------------------
+    public static Object[][] data_double() {
+        return new Object[][] {
+            {0d, true},
+            {-0d, true},
+            {1d, true},
+            {-3d, true},
+            {0.5d, true},
+            {0.1d, true},
+            {0.1d + 0.2d, false},
+            {1.25d, true},
+            {-123.456d, true},
+            {0.001d, true},
+            {0.00123d, true},
+            {9999999d, true},
+            {9999999.5d, true},
+            {123456.789012345d, true},
+            {0.000999d, false},
+            {1e7, false},
+            {1e-10, false},
+            {Math.PI, false},
+            {Double.MIN_VALUE, false},
+            {Double.MAX_VALUE, false},
+            {Double.NaN, false},
+            {Double.POSITIVE_INFINITY, false},
+            {Double.NEGATIVE_INFINITY, false},
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_double")
+    public void test_formatDouble(double value, boolean formatted) {
+        byte[] buf = new byte[SerNumberFormat.MAX_LENGTH];
+        int end = SerNumberFormat.formatDouble(value, buf, 0);
+        if (formatted) {
+            assertThat(new String(buf, 0, end, StandardCharsets.US_ASCII)).isEqualTo(Double.toString(value));
+        } else {
+            assertThat(end).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    public void test_formatDouble_random() {
+        Random random = new Random(1);
+        byte[] buf = new byte[SerNumberFormat.MAX_LENGTH];
+        for (int i = 0; i < 100_000; i++) {
+            long digits = (long) (random.nextDouble() * Math.pow(10, 1 + random.nextInt(16)));
+            double value = (random.nextBoolean() ? -digits : digits) / Math.pow(10, random.nextInt(18));
+            int end = SerNumberFormat.formatDouble(value, buf, 0);
+            if (end >= 0) {
+                assertThat(new String(buf, 0, end, StandardCharsets.US_ASCII)).isEqualTo(Double.toString(value));
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public static Object[][] data_float() {
+        return new Object[][] {
+            {0f, true},
+            {-0f, true},
+            {2f, true},
+            {-7f, true},
+            {9999999f, true},
+            {1e7f, false},
+            {1.5f, false},
+            {Float.NaN, false},
+            {Float.NEGATIVE_INFINITY, false},
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_float")
+    public void test_formatFloat(float value, boolean formatted) {
+        byte[] buf = new byte[SerNumberFormat.MAX_LENGTH];
+        int end = SerNumberFormat.formatFloat(value, buf, 0);
+        if (formatted) {
+            assertThat(new String(buf, 0, end, StandardCharsets.US_ASCII)).isEqualTo(Float.toString(value));
+        } else {
+            assertThat(end).isEqualTo(-1);
+        }
+    }
+
+}
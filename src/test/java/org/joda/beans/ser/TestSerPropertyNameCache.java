@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.joda.beans.MetaBean;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.ImmAddress;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test property name cache.
+ */
+public class TestSerPropertyNameCache {
+
+    private static final MetaBean ADDRESS = Address.meta();
+    private static final MetaBean IMM_ADDRESS = ImmAddress.meta();
+    private static final JodaBeanSer LENIENT = JodaBeanSer.COMPACT.withDeserializers(SerDeserializers.LENIENT);
+
+    @Test
+    public void test_findBytes() {
+        SerPropertyNameCache test = new SerPropertyNameCache();
+        byte[] bytes = "xxstreetxx".getBytes(StandardCharsets.UTF_8);
+        assertThat(test.find(bytes, 2, 6, Address.class, ADDRESS)).isNull();
+
+        SerReadPlan.Property street = SerReadPlan.of(Address.class, JodaBeanSer.COMPACT).resolve("street");
+        test.add(street, Address.class, ADDRESS);
+        SerReadPlan.Property found = test.find(bytes, 2, 6, Address.class, ADDRESS);
+        assertThat(found).isSameAs(street);
+        assertThat(found.getMetaProperty()).isSameAs(ADDRESS.metaProperty("street"));
+        assertThat(test.find(bytes, 2, 5, Address.class, ADDRESS)).isNull();
+        assertThat(test.find(bytes, 2, 6, ImmAddress.class, IMM_ADDRESS)).isNull();
+    }
+
+    @Test
+    public void test_findChars() {
+        SerPropertyNameCache test = new SerPropertyNameCache();
+        assertThat(test.find("street", Address.class, ADDRESS)).isNull();
+
+        SerReadPlan.Property street = SerReadPlan.of(Address.class, JodaBeanSer.COMPACT).resolve("street");
+        SerReadPlan.Property immStreet = SerReadPlan.of(ImmAddress.class, JodaBeanSer.COMPACT).resolve("street");
+        test.add(street, Address.class, ADDRESS);
+        test.add(immStreet, ImmAddress.class, IMM_ADDRESS);
+        assertThat(test.find(new StringBuilder("street"), Address.class, ADDRESS)).isSameAs(street);
+        assertThat(test.find(new StringBuilder("street"), ImmAddress.class, IMM_ADDRESS)).isSameAs(immStreet);
+        assertThat(test.find("streets", Address.class, ADDRESS)).isNull();
+    }
+
+    @Test
+    public void test_unknownProperty() {
+        SerPropertyNameCache test = new SerPropertyNameCache();
+        test.add(SerReadPlan.of(Address.class, LENIENT).resolve("unknown"), Address.class, ADDRESS);
+        SerReadPlan.Property found = test.find("unknown", Address.class, ADDRESS);
+        assertThat(found.getName()).isEqualTo("unknown");
+        assertThat(found.isSkipped()).isTrue();
+        assertThat(found.getMetaProperty()).isNull();
+    }
+
+    @Test
+    public void test_nonAscii() {
+        SerPropertyNameCache test = new SerPropertyNameCache();
+        test.add(SerReadPlan.of(Address.class, LENIENT).resolve("café"), Address.class, ADDRESS);
+        byte[] bytes = "café".getBytes(StandardCharsets.UTF_8);
+        assertThat(test.find(bytes, 0, bytes.length, Address.class, ADDRESS)).isNull();
+        assertThat(test.find("café", Address.class, ADDRESS).getName()).isEqualTo("café");
+    }
+
+    @Test
+    public void test_bounded() {
+        SerPropertyNameCache test = new SerPropertyNameCache();
+        SerReadPlan plan = SerReadPlan.of(Address.class, LENIENT);
+        for (int i = 0; i < 1000; i++) {
+            test.add(plan.resolve("name" + i), Address.class, ADDRESS);
+        }
+        assertThat(test.find("name999", Address.class, ADDRESS).getName()).isEqualTo("name999");
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.MetaProperty;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.ImmOptional;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Optional;
+
+/**
+ * Test read plan.
+ */
+public class TestSerReadPlan {
+
+    @Test
+    public void test_find() {
+        SerReadPlan test = SerReadPlan.of(ImmAddress.class, JodaBeanSer.COMPACT);
+        assertThat(test.getMetaBean()).isSameAs(ImmAddress.meta());
+        assertThat(test.getDeserializer()).isSameAs(DefaultDeserializer.INSTANCE);
+        for (MetaProperty<?> metaProp : ImmAddress.meta().metaPropertyIterable()) {
+            byte[] bytes = ("x" + metaProp.name() + "x").getBytes(StandardCharsets.UTF_8);
+            SerReadPlan.Property found = test.find(bytes, 1, bytes.length - 2);
+            assertThat(found.getName()).isEqualTo(metaProp.name());
+            assertThat(found.getMetaProperty()).isSameAs(metaProp);
+            assertThat(found.isSkipped()).isFalse();
+            assertThat(test.find(new StringBuilder(metaProp.name()))).isSameAs(found);
+        }
+        assertThat(test.find("number").getType()).isEqualTo(int.class);
+        assertThat(test.find("streets")).isNull();
+        assertThat(test.find("stree")).isNull();
+        byte[] bytes = "stréet".getBytes(StandardCharsets.UTF_8);
+        assertThat(test.find(bytes, 0, bytes.length)).isNull();
+    }
+
+    @Test
+    public void test_resolve() {
+        SerReadPlan test = SerReadPlan.of(ImmAddress.class, JodaBeanSer.COMPACT);
+        SerReadPlan.Property resolved = test.resolve("street");
+        assertThat(resolved.getMetaProperty()).isSameAs(ImmAddress.meta().street());
+        assertThat(resolved).isNotSameAs(test.find("street"));
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> test.resolve("unknown"));
+    }
+
+    @Test
+    public void test_resolve_lenient() {
+        SerReadPlan test = SerReadPlan.of(ImmAddress.class, JodaBeanSer.COMPACT.withDeserializers(SerDeserializers.LENIENT));
+        SerReadPlan.Property resolved = test.resolve("unknown");
+        assertThat(resolved.getName()).isEqualTo("unknown");
+        assertThat(resolved.isSkipped()).isTrue();
+        assertThat(resolved.getMetaProperty()).isNull();
+        assertThat(resolved.getType()).isNull();
+        assertThat(test.find("unknown")).isNull();
+    }
+
+    @Test
+    public void test_optional() {
+        SerReadPlan test = SerReadPlan.of(ImmOptional.class, JodaBeanSer.COMPACT);
+        SerReadPlan.Property optString = test.find("optString");
+        assertThat(optString.getType()).isEqualTo(String.class);
+        assertThat(optString.wrapValue("A")).isEqualTo(Optional.of("A"));
+        assertThat(optString.wrapValue(null)).isEqualTo(Optional.absent());
+        SerReadPlan.Property twelve = test.find("twelve");
+        assertThat(twelve.isSkipped()).isTrue();
+    }
+
+    @Test
+    public void test_cached() {
+        SerReadPlan test = SerReadPlan.of(ImmAddress.class, JodaBeanSer.COMPACT);
+        assertThat(SerReadPlan.of(ImmAddress.class, JodaBeanSer.COMPACT)).isSameAs(test);
+        assertThat(SerReadPlan.of(ImmAddress.class, JodaBeanSer.PRETTY)).isNotSameAs(test);
+    }
+
+    @Test
+    public void test_deserializerChanged() {
+        SerDeserializers deserializers = new SerDeserializers();
+        JodaBeanSer settings = JodaBeanSer.COMPACT.withDeserializers(deserializers);
+        SerReadPlan test = SerReadPlan.of(ImmAddress.class, settings);
+        assertThat(test.getDeserializer()).isSameAs(DefaultDeserializer.INSTANCE);
+        SerDeserializer deser = new DefaultDeserializer() {};
+        deserializers.register(ImmAddress.class, deser);
+        SerReadPlan changed = SerReadPlan.of(ImmAddress.class, settings);
+        assertThat(changed.getDeserializer()).isSameAs(deser);
+        assertThat(SerReadPlan.of(ImmAddress.class, settings)).isSameAs(changed);
+    }
+
+    @Test
+    public void test_dynamicBean() {
+        SerReadPlan test = SerReadPlan.of(FlexiBean.class, JodaBeanSer.COMPACT);
+        assertThat(test.find("a")).isNull();
+        SerReadPlan.Property resolved = test.resolve("a");
+        assertThat(resolved.isSkipped()).isFalse();
+        assertThat(resolved.getName()).isEqualTo("a");
+        assertThat(SerReadPlan.of(FlexiBean.class, JodaBeanSer.COMPACT)).isNotSameAs(test);
+    }
+
+}
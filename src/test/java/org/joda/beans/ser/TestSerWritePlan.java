@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.ImmOptional;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test write plan.
+ */
+public class TestSerWritePlan {
+
+    @Test
+    public void test_properties() {
+        ImmAddress bean = SerTestHelper.testImmAddress();
+        SerWritePlan test = SerWritePlan.of(bean, JodaBeanSer.COMPACT);
+        assertThat(test.getMetaBean()).isSameAs(ImmAddress.meta());
+        assertThat(test.propertyCount()).isEqualTo(ImmAddress.meta().metaPropertyCount());
+        Map<String, SerWritePlan.Property> props = new HashMap<>();
+        for (int i = 0; i < test.propertyCount(); i++) {
+            props.put(test.property(i).getName(), test.property(i));
+        }
+        assertThat(props.get("number").getType()).isEqualTo(int.class);
+        assertThat(props.get("number").isSimple()).isTrue();
+        assertThat(props.get("number").extractValue(bean)).isEqualTo(bean.getNumber());
+        assertThat(props.get("street").isSimple()).isTrue();
+        assertThat(props.get("owner").isSimple()).isFalse();
+        assertThat(props.get("abstractNumber").isSimple()).isFalse();
+        assertThat(props.get("object1").isSimple()).isFalse();
+        assertThat(props.get("data").isSimple()).isFalse();
+        assertThat(props.get("listInMap").isSimple()).isFalse();
+    }
+
+    @Test
+    public void test_cached() {
+        ImmAddress bean = SerTestHelper.testImmAddress();
+        SerWritePlan test = SerWritePlan.of(bean, JodaBeanSer.COMPACT);
+        assertThat(SerWritePlan.of(bean, JodaBeanSer.COMPACT)).isSameAs(test);
+        assertThat(SerWritePlan.of(bean, JodaBeanSer.PRETTY)).isNotSameAs(test);
+    }
+
+    @Test
+    public void test_optional() {
+        ImmOptional bean = SerTestHelper.testImmOptional();
+        SerWritePlan test = SerWritePlan.of(bean, JodaBeanSer.COMPACT);
+        assertThat(test.propertyCount()).isEqualTo(6);
+        SerWritePlan.Property optString = test.property(0);
+        assertThat(optString.getName()).isEqualTo("optString");
+        assertThat(optString.getType()).isEqualTo(String.class);
+        assertThat(optString.isSimple()).isTrue();
+        assertThat(optString.extractValue(bean)).isEqualTo("A");
+        assertThat(test.property(1).extractValue(bean)).isNull();
+    }
+
+    @Test
+    public void test_includeDerived() {
+        ImmOptional bean = SerTestHelper.testImmOptional();
+        SerWritePlan test = SerWritePlan.of(bean, JodaBeanSer.COMPACT.withIncludeDerived(true));
+        assertThat(test.propertyCount()).isEqualTo(7);
+        assertThat(test.property(6).getName()).isEqualTo("twelve");
+        assertThat(test.property(6).extractValue(bean)).isEqualTo(12);
+    }
+
+    @Test
+    public void test_customIteratorFactory() {
+        ImmAddress bean = SerTestHelper.testImmAddress();
+        SerWritePlan test = SerWritePlan.of(bean, JodaBeanSer.COMPACT.withIteratorFactory(new SerIteratorFactory() {}));
+        assertThat(test.property(0).getName()).isEqualTo("number");
+        assertThat(test.property(0).isSimple()).isFalse();
+    }
+
+    @Test
+    public void test_otherIteratorFactoryInstance() {
+        ImmAddress bean = SerTestHelper.testImmAddress();
+        SerIteratorFactory factory = new GuavaSerIteratorFactory();
+        SerWritePlan test = SerWritePlan.of(bean, JodaBeanSer.COMPACT.withIteratorFactory(factory));
+        assertThat(test.property(0).isSimple()).isFalse();
+        assertThat(SerWritePlan.of(bean, JodaBeanSer.COMPACT.withIteratorFactory(SerIteratorFactory.INSTANCE))
+                .property(0).isSimple()).isTrue();
+    }
+
+    @Test
+    public void test_dynamicBean() {
+        FlexiBean bean = new FlexiBean();
+        bean.set("a", "x");
+        SerWritePlan test = SerWritePlan.of(bean, JodaBeanSer.COMPACT);
+        assertThat(test.propertyCount()).isEqualTo(1);
+        assertThat(test.property(0).getName()).isEqualTo("a");
+        assertThat(test.property(0).extractValue(bean)).isEqualTo("x");
+        bean.set("b", "y");
+        assertThat(SerWritePlan.of(bean, JodaBeanSer.COMPACT).propertyCount()).isEqualTo(2);
+    }
+
+}
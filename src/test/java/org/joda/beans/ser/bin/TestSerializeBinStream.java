@@ -0,0 +1,213 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the binary bean stream.
+ */
+public class TestSerializeBinStream {
+
+    private static List<Bean> beans() {
+        List<Bean> beans = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            beans.add(SerTestHelper.testImmAddress());
+            beans.add(SerTestHelper.testTree());
+            beans.add(SerTestHelper.testImmOptional());
+        }
+        return beans;
+    }
+
+    private static byte[] writeStream(List<Bean> beans) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (JodaBeanBinStreamWriter writer = JodaBeanSer.COMPACT.binWriter().writeStream(baos)) {
+            for (Bean bean : beans) {
+                writer.write(bean);
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_roundTrip_inputStream() throws IOException {
+        List<Bean> beans = beans();
+        byte[] bytes = writeStream(beans);
+        List<Bean> parsed = new ArrayList<>();
+        try (JodaBeanBinStreamReader<Bean> reader = JodaBeanSer.COMPACT.binReader().readStream(new ByteArrayInputStream(bytes), Bean.class)) {
+            while (reader.hasNext()) {
+                parsed.add(reader.next());
+            }
+        }
+        assertThat(parsed).isEqualTo(beans);
+    }
+
+    @Test
+    public void test_roundTrip_buffer() throws IOException {
+        List<Bean> beans = beans();
+        byte[] bytes = writeStream(beans);
+        List<Bean> parsed = new ArrayList<>();
+        JodaBeanBinStreamReader<Bean> reader = JodaBeanSer.COMPACT.binReader().readStream(ByteBuffer.wrap(bytes), Bean.class);
+        reader.forEachRemaining(parsed::add);
+        assertThat(parsed).isEqualTo(beans);
+        assertThat(reader.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> reader.next());
+    }
+
+    @Test
+    public void test_smallerThanSeparateBeans() throws IOException {
+        List<Bean> beans = beans();
+        int separate = 0;
+        for (Bean bean : beans) {
+            separate += JodaBeanSer.COMPACT.binWriter().write(bean).length;
+        }
+        assertThat(writeStream(beans).length).isLessThan(separate);
+    }
+
+    @Test
+    public void test_empty() throws IOException {
+        byte[] bytes = writeStream(new ArrayList<>());
+        assertThat(JodaBeanSer.COMPACT.binReader().readStream(ByteBuffer.wrap(bytes), Bean.class).hasNext()).isFalse();
+    }
+
+    @Test
+    public void test_endOfData() throws IOException {
+        List<Bean> beans = beans();
+        byte[] bytes = writeStream(beans);
+        // remove the nil at the end of the stream
+        byte[] unterminated = Arrays.copyOf(bytes, bytes.length - 1);
+        List<Bean> parsed = new ArrayList<>();
+        JodaBeanSer.COMPACT.binReader().readStream(ByteBuffer.wrap(unterminated), Bean.class).forEachRemaining(parsed::add);
+        assertThat(parsed).isEqualTo(beans);
+    }
+
+    @Test
+    public void test_rootType() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = writeStream(Arrays.asList(address, address));
+        JodaBeanBinStreamReader<ImmAddress> reader = JodaBeanSer.COMPACT.binReader().readStream(ByteBuffer.wrap(bytes), ImmAddress.class);
+        assertThat(reader.next()).isEqualTo(address);
+        assertThat(reader.next()).isEqualTo(address);
+        assertThat(reader.hasNext()).isFalse();
+    }
+
+    @Test
+    public void test_failedWrite() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        FlexiBean bad = new FlexiBean();
+        bad.set("a", new Object());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanBinStreamWriter writer = JodaBeanSer.COMPACT.binWriter().writeStream(baos);
+        writer.write(address);
+        assertThatExceptionOfType(RuntimeException.class)
+            .isThrownBy(() -> writer.write(bad));
+        assertThatIllegalStateException()
+            .isThrownBy(() -> writer.write(address));
+        writer.close();
+        List<Bean> parsed = new ArrayList<>();
+        JodaBeanSer.COMPACT.binReader().readStream(ByteBuffer.wrap(baos.toByteArray()), Bean.class).forEachRemaining(parsed::add);
+        assertThat(parsed).containsExactly(address);
+    }
+
+    @Test
+    public void test_writeAfterClose() throws IOException {
+        JodaBeanBinStreamWriter writer = JodaBeanSer.COMPACT.binWriter().writeStream(new ByteArrayOutputStream());
+        writer.close();
+        writer.close();
+        assertThatIllegalStateException()
+            .isThrownBy(() -> writer.write(SerTestHelper.testImmAddress()));
+    }
+
+    @Test
+    public void test_readSingleBeanAsStream() {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress());
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().readStream(ByteBuffer.wrap(bytes), Bean.class));
+    }
+
+    @Test
+    public void test_readStreamAsSingleBean() throws IOException {
+        byte[] bytes = writeStream(beans());
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().read(bytes));
+    }
+
+    @Test
+    public void test_invalidHeader_closed() {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress());
+        CloseCheckInputStream in = new CloseCheckInputStream(bytes);
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().readStream(in, Bean.class));
+        assertThat(in.closed).isTrue();
+    }
+
+    @Test
+    public void test_failedFrame_endsStream() throws IOException {
+        byte[] bytes = writeStream(beans());
+        // corrupt the first frame, after the header and frame size
+        bytes[5] = (byte) 0xc1;
+        JodaBeanBinStreamReader<Bean> reader = JodaBeanSer.COMPACT.binReader().readStream(ByteBuffer.wrap(bytes), Bean.class);
+        assertThat(reader.hasNext()).isTrue();
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> reader.next());
+        assertThat(reader.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> reader.next());
+    }
+
+    @Test
+    public void test_referencing() {
+        assertThatIllegalStateException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binWriterReferencing().writeStream(new ByteArrayOutputStream()));
+    }
+
+    //-----------------------------------------------------------------------
+    private static final class CloseCheckInputStream extends ByteArrayInputStream {
+        private boolean closed;
+
+        CloseCheckInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.ImmGuava;
+import org.joda.beans.sample.ImmOptional;
+import org.joda.beans.sample.RiskPerception;
+import org.joda.beans.sample.SimpleJson;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerDeserializers;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.test.BeanAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test property roundtrip using the compact value binary format.
+ */
+public class TestSerializeCompactBin {
+
+    @Test
+    public void test_writeImmAddress() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().withCompactValues(true).write(address);
+        assertThat(bytes[1]).isEqualTo((byte) 4);
+
+        ImmAddress bean = (ImmAddress) JodaBeanSer.COMPACT.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, address);
+        assertThat(JodaBeanSer.COMPACT.smartReader().isKnownFormat(bytes)).isTrue();
+    }
+
+    @Test
+    public void test_writeImmOptional() {
+        ImmOptional optional = SerTestHelper.testImmOptional();
+        byte[] bytes = JodaBeanSer.COMPACT.withIncludeDerived(true).binWriter().withCompactValues(true).write(optional);
+
+        ImmOptional bean = (ImmOptional) JodaBeanSer.COMPACT.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, optional);
+    }
+
+    @Test
+    public void test_writeCollections() {
+        ImmGuava<String> collections = SerTestHelper.testCollections();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().withCompactValues(true).write(collections);
+
+        @SuppressWarnings("unchecked")
+        ImmGuava<String> bean = (ImmGuava<String>) JodaBeanSer.COMPACT.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, collections);
+    }
+
+    @Test
+    public void test_writeValueTypes() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("date1", LocalDate.of(2020, 6, 30));
+        flexi.set("date2", LocalDate.of(1970, 1, 2));
+        flexi.set("date3", LocalDate.of(1066, 10, 14));
+        flexi.set("date4", LocalDate.MAX);
+        flexi.set("date5", LocalDate.MIN);
+        flexi.set("instant1", Instant.ofEpochSecond(1_600_000_000L));
+        flexi.set("instant2", Instant.ofEpochSecond(1_600_000_000L, 123_456_789));
+        flexi.set("instant3", Instant.ofEpochSecond(-1L, 5));
+        flexi.set("instant4", Instant.MAX);
+        flexi.set("instant5", Instant.MIN);
+        flexi.set("uuid", UUID.fromString("4f1c6b5e-8d3a-4b2e-9f7a-1c2d3e4f5a6b"));
+        flexi.set("decimal1", new BigDecimal("12.340"));
+        flexi.set("decimal2", new BigDecimal("-0.000001"));
+        flexi.set("decimal3", new BigDecimal(BigInteger.TEN.pow(40).negate(), 3));
+        flexi.set("decimal4", new BigDecimal(BigInteger.valueOf(7), 1000));
+        flexi.set("decimal5", new BigDecimal(BigInteger.valueOf(7), -128));
+        flexi.set("enum1", RiskPerception.HIGH);
+        flexi.set("enum2", RiskPerception.LOW);
+        flexi.set("enum3", RiskPerception.HIGH);
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().withCompactValues(true).write(flexi);
+        assertThat(bytes.length).isLessThan(JodaBeanSer.COMPACT.binWriter().write(flexi).length);
+
+        FlexiBean bean = (FlexiBean) JodaBeanSer.COMPACT.binReader().read(bytes);
+        assertThat(bean).isEqualTo(flexi);
+        assertThat(bean.get("decimal1")).isEqualTo(new BigDecimal("12.340"));
+
+        String visualized = JodaBeanBinReader.visualize(bytes);
+        assertThat(visualized).contains("'2020-06-30' (date)");
+        assertThat(visualized).contains("'2020-09-13T12:26:40.123456789Z' (timestamp)");
+        assertThat(visualized).contains("'4f1c6b5e-8d3a-4b2e-9f7a-1c2d3e4f5a6b' (uuid)");
+        assertThat(visualized).contains("'12.340' (decimal)");
+        assertThat(visualized).contains("'HIGH' (enum)");
+        assertThat(visualized).contains("'0' (enumref)");
+    }
+
+    @Test
+    public void test_writeEnumNameTable() {
+        FlexiBean flexi = new FlexiBean();
+        for (int i = 0; i < 300; i++) {
+            flexi.set("value" + i, i % 2 == 0 ? RiskPerception.LOW : RiskPerception.MEDIUM);
+        }
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().withCompactValues(true).write(flexi);
+        byte[] standardBytes = JodaBeanSer.COMPACT.binWriter().write(flexi);
+        assertThat(bytes.length).isLessThan(standardBytes.length);
+
+        FlexiBean bean = (FlexiBean) JodaBeanSer.COMPACT.binReader().read(bytes);
+        assertThat(bean).isEqualTo(flexi);
+    }
+
+    @Test
+    public void test_read_enumNameInSkippedProperty() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("object1", RiskPerception.LOW);
+        flexi.set("unknown", Arrays.asList(RiskPerception.HIGH, LocalDate.of(2020, 6, 30)));
+        flexi.set("object2", RiskPerception.HIGH);
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().withCompactValues(true).write(flexi, false);
+
+        SimpleJson bean = JodaBeanSer.COMPACT.withDeserializers(SerDeserializers.LENIENT).binReader().read(bytes, SimpleJson.class);
+        assertThat(bean.getObject1()).isEqualTo(RiskPerception.LOW);
+        assertThat(bean.getObject2()).isEqualTo(RiskPerception.HIGH);
+    }
+
+    @Test
+    public void test_read_compactValueInStandardVersion() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("date", LocalDate.of(2020, 6, 30));
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().withCompactValues(true).write(flexi);
+        bytes[1] = 1;
+        assertThatExceptionOfType(RuntimeException.class)
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().read(bytes));
+    }
+
+    @Test
+    public void test_write_referencing() {
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binWriterReferencing().withCompactValues(true));
+    }
+
+    @Test
+    public void test_writeStream() {
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binWriter().withCompactValues(true).writeStream(new ByteArrayOutputStream()));
+    }
+
+}
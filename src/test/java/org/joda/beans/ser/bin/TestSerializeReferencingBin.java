@@ -16,13 +16,17 @@
 package org.joda.beans.ser.bin;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatRuntimeException;
 import static org.assertj.core.api.Assertions.offset;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.joda.beans.Bean;
@@ -47,6 +51,8 @@ import org.joda.beans.ser.SerTestHelper;
 import org.joda.beans.test.BeanAssert;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
+
 /**
  * Test property roundtrip using referencing binary.
  */
@@ -465,4 +471,38 @@ public class TestSerializeReferencingBin {
             .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().read(bytes, ImmJodaConvertBean.class));
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_read_streamed() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriterReferencing().write(tree);
+        List<Object> elements = new ArrayList<>();
+        ImmTreeNode parsed = JodaBeanSer.COMPACT.binReader().read(new ByteArrayInputStream(bytes), ImmTreeNode.class, "childList", elements::add);
+        assertThat(elements).isEqualTo(tree.getChildList());
+        assertThat(parsed).isEqualTo(tree.toBuilder().childList(ImmutableList.of()).build());
+    }
+
+    @Test
+    public void test_read_streamed_unknownProperty() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriterReferencing().write(tree);
+        assertThatRuntimeException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().read(new ByteArrayInputStream(bytes), ImmTreeNode.class, "foo", element -> {}));
+    }
+
+    @Test
+    public void test_read_streamed_notCollection() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriterReferencing().write(tree);
+        assertThatRuntimeException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().read(new ByteArrayInputStream(bytes), ImmTreeNode.class, "child1", element -> {}));
+    }
+
+    @Test
+    public void test_write_streamed_unsupported() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binWriterReferencing().write(tree, "childList", tree.getChildList().iterator(), new ByteArrayOutputStream()));
+    }
+
 }
@@ -16,15 +16,24 @@
 package org.joda.beans.ser.bin;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatRuntimeException;
 import static org.assertj.core.api.Assertions.offset;
 
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.joda.beans.Bean;
 import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.impl.map.MapBean;
 import org.joda.beans.sample.Address;
 import org.joda.beans.sample.Company;
 import org.joda.beans.sample.ImmAddress;
@@ -35,15 +44,19 @@ import org.joda.beans.sample.ImmGuava;
 import org.joda.beans.sample.ImmKeyList;
 import org.joda.beans.sample.ImmNamedKey;
 import org.joda.beans.sample.ImmOptional;
+import org.joda.beans.sample.ImmTreeNode;
 import org.joda.beans.sample.JodaConvertBean;
 import org.joda.beans.sample.JodaConvertInterface;
 import org.joda.beans.sample.JodaConvertWrapper;
 import org.joda.beans.sample.Person;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerDeserializers;
 import org.joda.beans.ser.SerTestHelper;
 import org.joda.beans.test.BeanAssert;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
+
 /**
  * Test property roundtrip using binary.
  */
@@ -134,6 +147,131 @@ public class TestSerializeStandardBin {
         BeanAssert.assertBeanEquals(bean, key);
     }
 
+    @Test
+    public void test_writeNonAsciiStrings() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("ascii", "Hello");
+        flexi.set("latin", "caf\u00e9");
+        flexi.set("cjk", "\u4e2d\u6587");
+        flexi.set("emoji", "smile \ud83d\ude00");
+
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(flexi);
+        FlexiBean bean = (FlexiBean) JodaBeanSer.COMPACT.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, flexi);
+    }
+
+    @Test
+    public void test_writeNonAsciiPropertyNames() {
+        MapBean map = new MapBean();
+        map.put("ascii", "Hello");
+        map.put("caf\u00e9", "latin");
+        map.put("\u4e2d\u6587", "cjk");
+        map.put("smile\ud83d\ude00", "emoji");
+
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(map);
+        MapBean bean = (MapBean) JodaBeanSer.COMPACT.binReader().read(bytes);
+        assertThat(bean).isEqualTo(map);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_write_outputStream() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binWriter().write(address, baos);
+        assertThat(baos.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void test_write_heapByteBuffer() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length + 10);
+        buffer.position(4);
+        JodaBeanSer.COMPACT.binWriter().write(address, buffer);
+        assertThat(buffer.position()).isEqualTo(expected.length + 4);
+        byte[] actual = Arrays.copyOfRange(buffer.array(), 4, expected.length + 4);
+        assertThat(actual).isEqualTo(expected);
+
+        ImmAddress bean = (ImmAddress) JodaBeanSer.COMPACT.binReader().read(actual);
+        BeanAssert.assertBeanEquals(bean, address);
+    }
+
+    @Test
+    public void test_write_directByteBuffer() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length);
+        JodaBeanSer.COMPACT.binWriter().write(address, buffer);
+        assertThat(buffer.hasRemaining()).isFalse();
+        buffer.flip();
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void test_write_byteBufferTooSmall() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> JodaBeanSer.COMPACT.binWriter().write(address, buffer));
+        assertThat(buffer.position()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_writeTo_channel() throws IOException {
+        FlexiBean bean = new FlexiBean();
+        bean.set("data", new byte[20000]);
+        bean.set("text", "Hello");
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(bean);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binWriter().writeTo(bean, Channels.newChannel(baos));
+        assertThat(baos.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void test_read_heapByteBuffer() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        byte[] array = new byte[bytes.length + 10];
+        System.arraycopy(bytes, 0, array, 4, bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(array, 4, bytes.length);
+        ImmAddress bean = JodaBeanSer.COMPACT.binReader().read(buffer, ImmAddress.class);
+        BeanAssert.assertBeanEquals(bean, address);
+        assertThat(buffer.position()).isEqualTo(4);
+        assertThat(buffer.limit()).isEqualTo(bytes.length + 4);
+    }
+
+    @Test
+    public void test_read_directByteBuffer() {
+        ImmGuava<String> collections = SerTestHelper.testCollections();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(collections);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        Bean bean = JodaBeanSer.COMPACT.binReader().read(buffer);
+        BeanAssert.assertBeanEquals(bean, collections);
+        assertThat(buffer.position()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_read_byteBufferTruncated() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+        assertThatRuntimeException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().read(buffer, ImmAddress.class));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_readWrite_primitives() throws IOException {
@@ -452,6 +590,12 @@ public class TestSerializeStandardBin {
             .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().read((byte[]) null, Company.class));
     }
 
+    @Test
+    public void test_read_byteBuffer_nullByteBuffer() {
+        assertThatRuntimeException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().read((ByteBuffer) null, Company.class));
+    }
+
     @Test
     public void test_write_nullKeyInMap() {
         Address address = new Address();
@@ -461,4 +605,101 @@ public class TestSerializeStandardBin {
             .isThrownBy(() -> JodaBeanSer.COMPACT.binWriter().write(bean));
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_read_streamed() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(tree);
+        List<Object> elements = new ArrayList<>();
+        ImmTreeNode parsed = JodaBeanSer.COMPACT.binReader().read(ByteBuffer.wrap(bytes), ImmTreeNode.class, "childList", elements::add);
+        assertThat(elements).isEqualTo(tree.getChildList());
+        assertThat(parsed).isEqualTo(tree.toBuilder().childList(ImmutableList.of()).build());
+    }
+
+    @Test
+    public void test_read_streamed_metaType() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+        List<Object> elements = new ArrayList<>();
+        ImmAddress parsed = JodaBeanSer.COMPACT.binReader().read(ByteBuffer.wrap(bytes), ImmAddress.class, "object1", elements::add);
+        assertThat(elements).isEqualTo(address.getObject1());
+        assertThat(parsed).isEqualTo(address.toBuilder().object1(null).build());
+    }
+
+    @Test
+    public void test_read_streamed_unknownProperty() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(tree);
+        assertThatRuntimeException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().read(ByteBuffer.wrap(bytes), ImmTreeNode.class, "foo", element -> {}));
+    }
+
+    @Test
+    public void test_read_streamed_notCollection() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(tree);
+        assertThatRuntimeException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binReader().read(ByteBuffer.wrap(bytes), ImmTreeNode.class, "child1", element -> {}));
+    }
+
+    @Test
+    public void test_write_streamed() throws IOException {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        ImmTreeNode bean = tree.toBuilder().childList(ImmutableList.of()).build();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binWriter().write(bean, "childList", tree.getChildList().iterator(), baos);
+        ImmTreeNode parsed = JodaBeanSer.COMPACT.binReader().read(baos.toByteArray(), ImmTreeNode.class);
+        assertThat(parsed).isEqualTo(tree);
+        // version 5, as the message contains a chunked array
+        assertThat(baos.toByteArray()[1]).isEqualTo((byte) 5);
+    }
+
+    @Test
+    public void test_write_streamed_manyChunks() throws IOException {
+        List<ImmTreeNode> children = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            children.add(ImmTreeNode.builder().name("Child " + i).build());
+        }
+        ImmTreeNode bean = ImmTreeNode.builder().name("Root").build();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binWriter().write(bean, "childList", children.iterator(), baos);
+        byte[] bytes = baos.toByteArray();
+        ImmTreeNode parsed = JodaBeanSer.COMPACT.binReader().read(bytes, ImmTreeNode.class);
+        assertThat(parsed).isEqualTo(bean.toBuilder().childList(children).build());
+        List<Object> elements = new ArrayList<>();
+        ImmTreeNode streamed = JodaBeanSer.COMPACT.binReader().read(ByteBuffer.wrap(bytes), ImmTreeNode.class, "childList", elements::add);
+        assertThat(elements).isEqualTo(children);
+        assertThat(streamed).isEqualTo(bean);
+        assertThat(JodaBeanBinReader.visualize(bytes)).contains("(chunked)");
+    }
+
+    @Test
+    public void test_write_streamed_skipped() throws IOException {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        ImmTreeNode bean = tree.toBuilder().childList(ImmutableList.of()).build();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binWriter().write(bean, "childList", tree.getChildList().iterator(), baos);
+        // rename the property so that the chunked value is skipped
+        byte[] bytes = new String(baos.toByteArray(), StandardCharsets.ISO_8859_1)
+            .replace("childList", "childLisX")
+            .getBytes(StandardCharsets.ISO_8859_1);
+        ImmTreeNode parsed = JodaBeanSer.COMPACT.withDeserializers(SerDeserializers.LENIENT).binReader().read(bytes, ImmTreeNode.class);
+        assertThat(parsed.getName()).isEqualTo(tree.getName());
+        assertThat(parsed.getChildList()).isEmpty();
+    }
+
+    @Test
+    public void test_write_streamed_unknownProperty() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        assertThatRuntimeException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binWriter().write(tree, "foo", tree.getChildList().iterator(), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void test_write_streamed_notCollection() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        assertThatRuntimeException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.binWriter().write(tree, "child1", tree.getChildList().iterator(), new ByteArrayOutputStream()));
+    }
+
 }
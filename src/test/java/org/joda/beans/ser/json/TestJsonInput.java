@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.api.Assertions.offset;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 
 import org.junit.jupiter.api.Test;
@@ -369,4 +370,86 @@ public class TestJsonInput {
             .isThrownBy(() -> input.skipData());
     }
 
+    //-----------------------------------------------------------------------
+    @ParameterizedTest
+    @MethodSource("data_string")
+    public void test_acceptString_singleCharReads(String text, String expected) throws IOException {
+        JsonInput input = new JsonInput(new SingleCharReader('"' + text + '"'));
+        assertThat(input.acceptString()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_numberIntegral")
+    public void test_parseNumberIntegral_singleCharReads(String text, long expected) throws IOException {
+        JsonInput input = new JsonInput(new SingleCharReader(text + '}'));
+        assertThat(input.readEvent()).isEqualTo(JsonEvent.NUMBER_INTEGRAL);
+        assertThat(input.parseNumberIntegral()).isEqualTo(expected);
+        assertThat(input.readEvent()).isEqualTo(JsonEvent.OBJECT_END);
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_numberFloating")
+    public void test_parseNumberFloating_singleCharReads(String text, double expected) throws IOException {
+        JsonInput input = new JsonInput(new SingleCharReader(text + '}'));
+        assertThat(input.readEvent()).isEqualTo(JsonEvent.NUMBER_FLOATING);
+        assertThat(input.parseNumberFloating()).isCloseTo(expected, offset(0.00001d));
+        assertThat(input.readEvent()).isEqualTo(JsonEvent.OBJECT_END);
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_numberBad")
+    public void test_parseNumberFloating_bad_singleCharReads(String text) throws IOException {
+        JsonInput input = new JsonInput(new SingleCharReader(text + '}'));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> input.readEvent());
+    }
+
+    @Test
+    public void test_acceptString_longerThanBlock() throws IOException {
+        StringBuilder text = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            text.append("ab\\n");
+            expected.append("ab\n");
+        }
+        JsonInput input = new JsonInput(new StringReader('"' + text.toString() + '"'));
+        assertThat(input.acceptString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void test_parseNumberIntegral_acrossBlocks() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 8190; i++) {
+            text.append(' ');
+        }
+        text.append("123456,-789}");
+        JsonInput input = new JsonInput(new StringReader(text.toString()));
+        assertThat(input.readEvent()).isEqualTo(JsonEvent.NUMBER_INTEGRAL);
+        assertThat(input.parseNumberIntegral()).isEqualTo(123456L);
+        assertThat(input.readEvent()).isEqualTo(JsonEvent.COMMA);
+        assertThat(input.readEvent()).isEqualTo(JsonEvent.NUMBER_INTEGRAL);
+        assertThat(input.parseNumberIntegral()).isEqualTo(-789L);
+        assertThat(input.readEvent()).isEqualTo(JsonEvent.OBJECT_END);
+    }
+
+    //-----------------------------------------------------------------------
+    // reader that only returns one character on each read
+    private static final class SingleCharReader extends Reader {
+        private final Reader underlying;
+
+        SingleCharReader(String text) {
+            this.underlying = new StringReader(text);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            return underlying.read(cbuf, off, Math.min(len, 1));
+        }
+
+        @Override
+        public void close() throws IOException {
+            underlying.close();
+        }
+    }
+
 }
@@ -19,11 +19,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.offset;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.joda.beans.Bean;
 import org.joda.beans.impl.flexi.FlexiBean;
@@ -37,6 +41,7 @@ import org.joda.beans.sample.ImmKey;
 import org.joda.beans.sample.ImmMappedKey;
 import org.joda.beans.sample.ImmOptional;
 import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.ImmTreeNode;
 import org.joda.beans.sample.JodaConvertBean;
 import org.joda.beans.sample.JodaConvertInterface;
 import org.joda.beans.sample.JodaConvertWrapper;
@@ -51,6 +56,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
 
@@ -108,6 +114,40 @@ public class TestSerializeJson {
         BeanAssert.assertBeanEquals(bean, optional);
     }
 
+    public static Object[][] data_outputStream() {
+        return new Object[][] {
+            {SerTestHelper.testAddress()},
+            {SerTestHelper.testImmAddress()},
+            {SerTestHelper.testImmOptional()},
+            {SerTestHelper.testCollections()},
+            {SerTestHelper.testTree()},
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("data_outputStream")
+    public void test_write_outputStream(Bean bean) throws IOException {
+        for (JodaBeanSer settings : new JodaBeanSer[] {JodaBeanSer.PRETTY, JodaBeanSer.COMPACT}) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            settings.jsonWriter().write(bean, baos);
+            assertThat(new String(baos.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(settings.jsonWriter().write(bean));
+        }
+    }
+
+    @Test
+    public void test_write_outputStream_unicodeAndNumbers() throws IOException {
+        FlexiBean bean = new FlexiBean();
+        bean.set("text", "a\u00e9\u20ac\ud83d\ude00\ud83d\u2028\u0001\"z");
+        bean.set("ints", ImmutableList.of(0, 7, -8, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        bean.set("longs", ImmutableList.of(Long.MIN_VALUE, Long.MAX_VALUE, -1L));
+        bean.set("doubles", ImmutableList.of(0d, -0d, 1d, -3d, 9999999d, 1e7, 0.5d, 1e-4, Double.NaN));
+        bean.set("floats", ImmutableList.of(0f, -0f, 2f, 1.5f, 1e7f, Float.NEGATIVE_INFINITY));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.PRETTY.jsonWriter().write(bean, baos);
+        byte[] expected = JodaBeanSer.PRETTY.jsonWriter().write(bean).getBytes(StandardCharsets.UTF_8);
+        assertThat(baos.toByteArray()).isEqualTo(expected);
+    }
+
     @Test
     public void test_writeJodaConvertInterface() {
         ImmGenericCollections<JodaConvertInterface> array = SerTestHelper.testGenericInterfaces();
@@ -506,7 +546,13 @@ public class TestSerializeJson {
     @Test
     public void test_writer_write2_nullAppendable() throws IOException {
         assertThatIllegalArgumentException()
-            .isThrownBy(() -> new JodaBeanJsonWriter(JodaBeanSer.PRETTY).write(new FlexiBean(), null));
+            .isThrownBy(() -> new JodaBeanJsonWriter(JodaBeanSer.PRETTY).write(new FlexiBean(), (Appendable) null));
+    }
+
+    @Test
+    public void test_writer_write2_nullOutputStream() throws IOException {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new JodaBeanJsonWriter(JodaBeanSer.PRETTY).write(new FlexiBean(), (OutputStream) null));
     }
 
     //-----------------------------------------------------------------------
@@ -552,4 +598,73 @@ public class TestSerializeJson {
             .isThrownBy(() -> new JodaBeanJsonReader(JodaBeanSer.PRETTY).read("", null));
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_read_streamed() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(tree);
+        List<Object> elements = new ArrayList<>();
+        ImmTreeNode parsed = JodaBeanSer.COMPACT.jsonReader().read(new StringReader(json), ImmTreeNode.class, "childList", elements::add);
+        assertThat(elements).isEqualTo(tree.getChildList());
+        assertThat(parsed).isEqualTo(tree.toBuilder().childList(ImmutableList.of()).build());
+    }
+
+    @Test
+    public void test_read_streamed_metaType() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(address);
+        List<Object> elements = new ArrayList<>();
+        ImmAddress parsed = JodaBeanSer.COMPACT.jsonReader().read(new StringReader(json), ImmAddress.class, "object1", elements::add);
+        assertThat(elements).isEqualTo(address.getObject1());
+        assertThat(parsed).isEqualTo(address.toBuilder().object1(null).build());
+    }
+
+    @Test
+    public void test_read_streamed_unknownProperty() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(tree);
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.jsonReader().read(new StringReader(json), ImmTreeNode.class, "foo", element -> {}));
+    }
+
+    @Test
+    public void test_read_streamed_notCollection() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(tree);
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.jsonReader().read(new StringReader(json), ImmTreeNode.class, "child1", element -> {}));
+    }
+
+    @Test
+    public void test_write_streamed() throws IOException {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        ImmTreeNode bean = tree.toBuilder().childList(ImmutableList.of()).build();
+        StringBuilder buf = new StringBuilder();
+        JodaBeanSer.PRETTY.jsonWriter().write(bean, "childList", tree.getChildList().iterator(), buf);
+        assertThat(buf.toString()).isEqualTo(JodaBeanSer.PRETTY.jsonWriter().write(tree));
+    }
+
+    @Test
+    public void test_write_streamed_unknownProperty() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.jsonWriter().write(tree, "foo", tree.getChildList().iterator(), new StringBuilder()));
+    }
+
+    @Test
+    public void test_write_streamed_notCollection() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.jsonWriter().write(tree, "child1", tree.getChildList().iterator(), new StringBuilder()));
+    }
+
+    @Test
+    public void test_write_streamed_nullBean() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        JodaBeanJsonWriter writer = JodaBeanSer.COMPACT.jsonWriter();
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> writer.write(null, "childList", tree.getChildList().iterator(), new StringBuilder()));
+        assertThat(writer.write(tree)).isEqualTo(JodaBeanSer.COMPACT.jsonWriter().write(tree));
+    }
+
 }
@@ -20,7 +20,9 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.offset;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.net.URL;
@@ -208,6 +210,15 @@ public class TestSerializeJsonSimple {
             .isThrownBy(() -> new JodaBeanSimpleJsonWriter(null));
     }
 
+    @Test
+    public void test_write_outputStream() throws IOException {
+        SimpleJson bean = SerTestHelper.testSimpleJson();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.PRETTY.simpleJsonWriter().write(bean, baos);
+        assertThat(new String(baos.toByteArray(), StandardCharsets.UTF_8))
+            .isEqualTo(JodaBeanSer.PRETTY.simpleJsonWriter().write(bean));
+    }
+
     @Test
     public void test_writer_write1_nullBean() {
         assertThatIllegalArgumentException()
@@ -223,7 +234,13 @@ public class TestSerializeJsonSimple {
     @Test
     public void test_writer_write2_nullAppendable() throws IOException {
         assertThatIllegalArgumentException()
-            .isThrownBy(() -> new JodaBeanSimpleJsonWriter(JodaBeanSer.PRETTY).write(new FlexiBean(), null));
+            .isThrownBy(() -> new JodaBeanSimpleJsonWriter(JodaBeanSer.PRETTY).write(new FlexiBean(), (Appendable) null));
+    }
+
+    @Test
+    public void test_writer_write2_nullOutputStream() throws IOException {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new JodaBeanSimpleJsonWriter(JodaBeanSer.PRETTY).write(new FlexiBean(), (OutputStream) null));
     }
 
     //-----------------------------------------------------------------------
@@ -17,10 +17,14 @@ package org.joda.beans.ser.xml;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatRuntimeException;
 import static org.assertj.core.api.Assertions.offset;
 
 import java.io.CharArrayWriter;
 import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.joda.beans.Bean;
 import org.joda.beans.impl.flexi.FlexiBean;
@@ -34,6 +38,7 @@ import org.joda.beans.sample.ImmKey;
 import org.joda.beans.sample.ImmMappedKey;
 import org.joda.beans.sample.ImmOptional;
 import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.ImmTreeNode;
 import org.joda.beans.sample.JodaConvertBean;
 import org.joda.beans.sample.JodaConvertInterface;
 import org.joda.beans.sample.JodaConvertWrapper;
@@ -46,6 +51,7 @@ import org.joda.beans.ser.SerTestHelper;
 import org.joda.beans.test.BeanAssert;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
 /**
@@ -309,4 +315,73 @@ public class TestSerializeXml {
             .isThrownBy(() -> JodaBeanSer.COMPACT.xmlWriter().write(bean));
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_read_streamed() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        String xml = JodaBeanSer.COMPACT.xmlWriter().write(tree);
+        List<Object> elements = new ArrayList<>();
+        ImmTreeNode parsed = JodaBeanSer.COMPACT.xmlReader().read(new StringReader(xml), ImmTreeNode.class, "childList", elements::add);
+        assertThat(elements).isEqualTo(tree.getChildList());
+        assertThat(parsed).isEqualTo(tree.toBuilder().childList(ImmutableList.of()).build());
+    }
+
+    @Test
+    public void test_read_streamed_metaType() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        String xml = JodaBeanSer.COMPACT.xmlWriter().write(address);
+        List<Object> elements = new ArrayList<>();
+        ImmAddress parsed = JodaBeanSer.COMPACT.xmlReader().read(new StringReader(xml), ImmAddress.class, "object1", elements::add);
+        assertThat(elements).isEqualTo(address.getObject1());
+        assertThat(parsed).isEqualTo(address.toBuilder().object1(null).build());
+    }
+
+    @Test
+    public void test_read_streamed_unknownProperty() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        String xml = JodaBeanSer.COMPACT.xmlWriter().write(tree);
+        assertThatRuntimeException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.xmlReader().read(new StringReader(xml), ImmTreeNode.class, "foo", element -> {}));
+    }
+
+    @Test
+    public void test_read_streamed_notCollection() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        String xml = JodaBeanSer.COMPACT.xmlWriter().write(tree);
+        assertThatRuntimeException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.xmlReader().read(new StringReader(xml), ImmTreeNode.class, "child1", element -> {}));
+    }
+
+    @Test
+    public void test_write_streamed() throws IOException {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        ImmTreeNode bean = tree.toBuilder().childList(ImmutableList.of()).build();
+        StringBuilder buf = new StringBuilder();
+        JodaBeanSer.PRETTY.xmlWriter().write(bean, "childList", tree.getChildList().iterator(), buf);
+        assertThat(buf.toString()).isEqualTo(JodaBeanSer.PRETTY.xmlWriter().write(tree));
+    }
+
+    @Test
+    public void test_write_streamed_empty() throws IOException {
+        ImmTreeNode bean = SerTestHelper.testTree().toBuilder().childList(ImmutableList.of()).build();
+        StringBuilder buf = new StringBuilder();
+        JodaBeanSer.PRETTY.xmlWriter().write(bean, "childList", ImmutableList.of().iterator(), buf);
+        ImmTreeNode parsed = JodaBeanSer.PRETTY.xmlReader().read(buf.toString(), ImmTreeNode.class);
+        assertThat(parsed).isEqualTo(bean);
+    }
+
+    @Test
+    public void test_write_streamed_unknownProperty() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.xmlWriter().write(tree, "foo", tree.getChildList().iterator(), new StringBuilder()));
+    }
+
+    @Test
+    public void test_write_streamed_notCollection() {
+        ImmTreeNode tree = SerTestHelper.testTree();
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> JodaBeanSer.COMPACT.xmlWriter().write(tree, "child1", tree.getChildList().iterator(), new StringBuilder()));
+    }
+
 }